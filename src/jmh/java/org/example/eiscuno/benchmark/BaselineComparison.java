@@ -0,0 +1,96 @@
+package org.example.eiscuno.benchmark;
+
+// Imports
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BaselineComparison compares a JMH result in JSON format with a stored baseline.
+ * For every benchmark of the result it prints the score of both runs and the change, and it
+ * exits with status 1 if any benchmark got slower than the tolerance allows.
+ * Times per operation are better when lower; throughputs are better when higher.
+ *
+ * Usage: BaselineComparison baseline.json result.json [tolerance]
+ */
+public class BaselineComparison {
+
+    // Each entry of the JMH output starts with its benchmark and mode, followed by its primary score
+    private static final Pattern ENTRY = Pattern.compile(
+            "\"benchmark\"\\s*:\\s*\"([^\"]+)\".*?\"mode\"\\s*:\\s*\"([^\"]+)\".*?"
+                    + "\"primaryMetric\"\\s*:\\s*\\{\\s*\"score\"\\s*:\\s*([-0-9.eE]+|\"NaN\").*?\"scoreUnit\"\\s*:\\s*\"([^\"]+)\"",
+            Pattern.DOTALL);
+
+    /**
+     * The primary score of a benchmark.
+     */
+    private static class Score {
+        final String mode;
+        final double value;
+        final String unit;
+
+        Score(String mode, double value, String unit) {
+            this.mode = mode;
+            this.value = value;
+            this.unit = unit;
+        }
+    }
+
+    // Private constructor to prevent instantiation
+    private BaselineComparison() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparison baseline.json result.json [tolerance]");
+            System.exit(2);
+        }
+        Map<String, Score> baseline = read(Path.of(args[0]));
+        Map<String, Score> result = read(Path.of(args[1]));
+        double tolerance = args.length > 2 ? Double.parseDouble(args[2]) : 0.20;
+
+        int regressions = 0;
+        for (Map.Entry<String, Score> entry : result.entrySet()) {
+            Score current = entry.getValue();
+            Score base = baseline.get(entry.getKey());
+            if (base == null || !base.mode.equals(current.mode) || !base.unit.equals(current.unit)) {
+                System.out.printf("%-70s %14.3f %-8s (no baseline)%n", entry.getKey(), current.value, current.unit);
+                continue;
+            }
+
+            // Positive when the benchmark got slower
+            double slowdown = current.mode.equals("thrpt")
+                    ? base.value / current.value - 1
+                    : current.value / base.value - 1;
+            boolean regression = slowdown > tolerance;
+            if (regression) regressions++;
+            System.out.printf("%-70s %14.3f -> %14.3f %-8s %+7.1f%%%s%n", entry.getKey(), base.value,
+                    current.value, current.unit, slowdown * 100, regression ? "  REGRESSION" : "");
+        }
+
+        if (regressions > 0) {
+            System.out.println(regressions + " benchmark(s) slower than the baseline by more than "
+                    + Math.round(tolerance * 100) + "%");
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Reads the primary score of every benchmark of a JMH JSON result.
+     */
+    private static Map<String, Score> read(Path file) throws IOException {
+        String json = Files.readString(file, StandardCharsets.UTF_8);
+        Map<String, Score> scores = new LinkedHashMap<>();
+        Matcher matcher = ENTRY.matcher(json);
+        while (matcher.find()) {
+            String score = matcher.group(3);
+            double value = score.startsWith("\"") ? Double.NaN : Double.parseDouble(score);
+            scores.put(matcher.group(1), new Score(matcher.group(2), value, matcher.group(4)));
+        }
+        return scores;
+    }
+}
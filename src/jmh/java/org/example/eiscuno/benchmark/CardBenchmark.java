@@ -0,0 +1,63 @@
+package org.example.eiscuno.benchmark;
+
+// Imports
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCatalog;
+import org.example.eiscuno.model.card.LegacyCardRules;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the checks made on a Card for every move: canBePlayedOn and isSpecial.
+ * legacyCanBePlayedOn measures the rules that canBePlayedOn had before the legality table, for comparison.
+ * Each call uses the next pair of a fixed table of random cards, so the branches are not predictable.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CardBenchmark {
+
+    // Power of two, so the next index is found with a mask
+    private static final int PAIRS = 1024;
+
+    private final Card[] cards = new Card[PAIRS];
+    private final Card[] topCards = new Card[PAIRS];
+    private int index;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < PAIRS; i++) {
+            cards[i] = CardCatalog.createCard(random.nextInt(CardCatalog.CARD_COUNT));
+            Card top = CardCatalog.createCard(random.nextInt(CardCatalog.CARD_COUNT));
+            if (top.getColor() == null) {
+                // A wild card on the table always has the color chosen when it was played
+                top.setColor(CardCatalog.COLORS[random.nextInt(CardCatalog.COLORS.length)]);
+            }
+            topCards[i] = top;
+        }
+    }
+
+    @Benchmark
+    public boolean canBePlayedOn() {
+        int i = index++ & (PAIRS - 1);
+        return cards[i].canBePlayedOn(topCards[i]);
+    }
+
+    @Benchmark
+    public boolean legacyCanBePlayedOn() {
+        int i = index++ & (PAIRS - 1);
+        return LegacyCardRules.legacyCanBePlayedOn(cards[i], topCards[i]);
+    }
+
+    @Benchmark
+    public boolean isSpecial() {
+        int i = index++ & (PAIRS - 1);
+        return cards[i].isSpecial();
+    }
+}
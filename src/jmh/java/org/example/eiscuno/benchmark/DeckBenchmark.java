@@ -0,0 +1,64 @@
+package org.example.eiscuno.benchmark;
+
+// Imports
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.deck.IntDeck;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the Deck: building and shuffling a new deck, dealing from it and shuffling it.
+ * takeCards needs a full deck, so it is measured together with the construction of the deck:
+ * its own cost is the difference between newDeckAndTakeCards and newSeededDeck.
+ * The Deck keeps its order in an IntDeck; intDeckShuffle measures the IntDeck alone, without the Card table.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DeckBenchmark {
+
+    private SplittableRandom random;
+    private Deck deck;
+    private IntDeck intDeck;
+
+    @Setup
+    public void setUp() {
+        random = new SplittableRandom(42);
+        deck = new Deck(random);
+        intDeck = new IntDeck(random);
+    }
+
+    @Benchmark
+    public Deck newDeck() {
+        return new Deck();
+    }
+
+    @Benchmark
+    public Deck newSeededDeck() {
+        return new Deck(random);
+    }
+
+    @Benchmark
+    public Object newDeckAndTakeCards() {
+        return new Deck(random).takeCards(5);
+    }
+
+    @Benchmark
+    public Deck shuffle() {
+        // Recycling no cards just shuffles the deck again
+        deck.recycle(Collections.emptyList());
+        return deck;
+    }
+
+    @Benchmark
+    public IntDeck intDeckShuffle() {
+        intDeck.shuffle();
+        return intDeck;
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.eiscuno.benchmark;
+
+// Imports
+import org.example.eiscuno.model.common.GameHandler;
+import org.example.eiscuno.model.threads.ThreadPlayMachine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the rules of the GameHandler: the playable card check, one turn of the machine
+ * policy, and a whole game between two machine players as the self-play simulator plays it.
+ * machineTurn keeps playing the same game and deals a new one when it ends, so about one call
+ * in forty also includes the deal.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameHandlerBenchmark {
+
+    private SplittableRandom random;
+    private GameHandler dealtGame;
+    private GameHandler playedGame;
+
+    @Setup
+    public void setUp() {
+        random = new SplittableRandom(42);
+        dealtGame = GameHandler.createNewGame(random);
+        playedGame = GameHandler.createNewGame(random);
+    }
+
+    @Benchmark
+    public boolean hasPlayableCard() {
+        return dealtGame.hasPlayableCard(dealtGame.getMachinePlayer());
+    }
+
+    @Benchmark
+    public GameHandler machineTurn() {
+        if (playedGame.isGameEnded()) {
+            playedGame = GameHandler.createNewGame(random);
+        }
+        ThreadPlayMachine.playStrategyTurn(playedGame, playedGame.getHumanTurn());
+        return playedGame;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public GameHandler fullGame() {
+        GameHandler game = GameHandler.createNewGame(random);
+        for (int turn = 0; !game.isGameEnded() && turn < 10_000; turn++) {
+            ThreadPlayMachine.playStrategyTurn(game, game.getHumanTurn());
+        }
+        return game;
+    }
+}
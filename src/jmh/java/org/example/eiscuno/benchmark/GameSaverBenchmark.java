@@ -0,0 +1,80 @@
+package org.example.eiscuno.benchmark;
+
+// Imports
+import org.example.eiscuno.model.common.GameHandler;
+import org.example.eiscuno.model.common.GameSaver;
+import org.example.eiscuno.model.threads.ThreadPlayMachine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of saving and loading a game: the encoding in memory, of a new game and of a game
+ * in the middle of play, and GameSaver.save and load through the save slot on disk. The forked JVM uses target/jmh-home as the user folder,
+ * so the saves of the player are never touched.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Duser.home=target/jmh-home")
+@State(Scope.Thread)
+public class GameSaverBenchmark {
+
+    // Turns played before the game in the middle of play is saved
+    private static final int MID_GAME_TURNS = 12;
+
+    private GameHandler game;
+    private byte[] data;
+    private GameHandler midGame;
+    private byte[] midGameData;
+
+    @Setup
+    public void setUp() {
+        game = GameHandler.createNewGame(new SplittableRandom(42));
+        data = GameSaver.serialize(game);
+        GameSaver.save(game);
+
+        midGame = GameHandler.createNewGame(new SplittableRandom(7));
+        for (int i = 0; i < MID_GAME_TURNS && !midGame.isGameEnded(); i++) {
+            ThreadPlayMachine.playStrategyTurn(midGame, midGame.getHumanTurn());
+        }
+        midGameData = GameSaver.serialize(midGame);
+    }
+
+    @TearDown
+    public void tearDown() {
+        GameSaver.deleteSaveFile();
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return GameSaver.serialize(game);
+    }
+
+    @Benchmark
+    public GameHandler deserialize() {
+        return GameSaver.deserialize(data);
+    }
+
+    @Benchmark
+    public byte[] serializeMidGame() {
+        return GameSaver.serialize(midGame);
+    }
+
+    @Benchmark
+    public GameHandler deserializeMidGame() {
+        return GameSaver.deserialize(midGameData);
+    }
+
+    @Benchmark
+    public void save() {
+        GameSaver.save(game);
+    }
+
+    @Benchmark
+    public GameHandler load() {
+        return GameSaver.load();
+    }
+}
@@ -1,14 +1,20 @@
+// H2 is published as an automatic module, there is no module descriptor to require instead
+@SuppressWarnings("requires-automatic")
 module org.example.eiscuno {
     requires javafx.controls;
     requires javafx.fxml;
     requires java.sql;
+    requires com.h2database;
 
     opens org.example.eiscuno to javafx.fxml, org.junit.platform.commons;
     opens org.example.eiscuno.controller to javafx.fxml;
     opens org.example.eiscuno.model.card to org.junit.platform.commons;
     opens org.example.eiscuno.model.deck to org.junit.platform.commons;
+    opens org.example.eiscuno.model.history to org.junit.platform.commons;
     opens org.example.eiscuno.model.common to org.junit.platform.commons;
     opens org.example.eiscuno.model.player to org.junit.platform.commons;
+    opens org.example.eiscuno.model.simulation to org.junit.platform.commons;
+    opens org.example.eiscuno.model.strategy to org.junit.platform.commons;
     opens org.example.eiscuno.model.table to org.junit.platform.commons;
     exports org.example.eiscuno;
 }
\ No newline at end of file
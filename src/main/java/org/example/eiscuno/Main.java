@@ -29,6 +29,6 @@ public class Main extends Application {
      */
     @Override
     public void start(Stage primaryStage) throws IOException {
-        GameUnoStage.getInstance();
+        new GameUnoStage();
     }
 }
\ No newline at end of file
@@ -8,26 +8,40 @@ import javafx.scene.image.ImageView;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.*;
 import javafx.scene.layout.GridPane;
+import javafx.scene.control.Alert;
 import javafx.scene.control.ChoiceDialog;
 import javafx.scene.control.Label;
 import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardImageCache;
+import org.example.eiscuno.model.common.GameCommandQueue;
+import org.example.eiscuno.model.common.GameListener;
+import org.example.eiscuno.model.common.GameJournal;
 import org.example.eiscuno.model.common.GameSaver;
-import org.example.eiscuno.model.threads.ThreadGameOver;
+import org.example.eiscuno.model.common.GameSnapshot;
+import org.example.eiscuno.model.common.PlayerStatsManager;
+import org.example.eiscuno.model.history.GameHistoryStore;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.threads.ThreadPlayMachine;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
 import org.example.eiscuno.view.DialogManager;
 import org.example.eiscuno.model.common.GameHandler;
 import org.example.eiscuno.model.common.GamePauseManager;
-import org.example.eiscuno.model.threads.ThreadPlayMachine;
-import org.example.eiscuno.model.threads.ThreadUnoCallout;
-import org.example.eiscuno.view.GameUnoStage;
+import org.example.eiscuno.model.common.GameSession;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Controller for the Uno game, handling the game logic and UI updates.
  * This class manages the game state, player interactions, and visual updates.
+ * It listens to the GameHandler events to refresh the view and show dialogs; the game is saved by a GameJournal.
+ * The player's actions are submitted to the GameCommandQueue of the game instead of changing it on the FX thread,
+ * and the view is rendered only from the GameSnapshot published after each change.
  */
-public class GameUnoController {
+public class GameUnoController implements GameListener {
 
     @FXML
     private GridPane gridPaneCardsMachine;
@@ -55,10 +69,14 @@ public class GameUnoController {
     private boolean repeatTurn = false;
 
     private GameHandler gameHandler;
+    private GameSession session;
+    private GameCommandQueue commands;
+    private GamePauseManager pauseManager;
+    private GameJournal journal;
+    private final String strategyName;
 
-    private ThreadUnoCallout threadUnoCallout;
-    private ThreadPlayMachine threadPlayMachine;
-    private ThreadGameOver threadGameOver;
+    // True while a render is waiting on the FX thread, so a burst of changes is rendered once
+    private final AtomicBoolean renderPending = new AtomicBoolean(false);
 
     // Runnable to reset the card scroll position
     private final Runnable resetCardScroll = () -> {
@@ -81,26 +99,35 @@ public class GameUnoController {
         COLOR_MAP.put("YELLOW", "YELLOW");
     }
 
+    /**
+     * Creates the controller of a game. A new game is played with the default strategy,
+     * a saved game with the strategy it was saved with.
+     */
+    public GameUnoController() {
+        this(ThreadPlayMachine.DEFAULT_STRATEGY);
+    }
+
+    /**
+     * Creates the controller of a game. A new game is played with the given strategy,
+     * a saved game with the strategy it was saved with.
+     *
+     * @param strategyName the name of the strategy of the machine for a new game, as in ThreadPlayMachine.createStrategy
+     */
+    public GameUnoController(String strategyName) {
+        this.strategyName = strategyName;
+    }
+
     /**
      * Initializes the game controller.
      * This method is called when the FXML file is loaded.
-     * It sets up the game handler, registers the controller, and initializes the UI.
+     * It sets up the game session and initializes the UI.
+     * The stage that shows the game registers the controller itself, so it can close the session.
      */
     @FXML
     public void initialize() {
-        // Register the game controller with the GameUnoStage instance
-        try {
-            GameUnoStage.getInstance().registerGameController(this);
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-
         initVariables();
-        gameHandler.setColorChooser(this::showColorDialog); // Set the color chooser for the game handler
+        gameHandler.setColorChooser(this::chooseColor); // Set the color chooser for the game handler
         updateVisuals();
-        if (!gameHandler.getTable().getCards().isEmpty()) {
-            tableImageView.setImage(gameHandler.getCurrentCardOnTable().getImage());
-        }
         startThreads();
 
         //Background
@@ -118,19 +145,14 @@ public class GameUnoController {
 
     /**
      * Starts the threads that handle the game logic.
-     * This method initializes and starts the threads responsible for handling UNO callouts,
-     * playing the machine's turn, and checking for game over conditions.
+     * This method starts the workers of the session, the UNO callouts and the machine's turns,
+     * and chains the game over dialog to the result of the game.
      */
     public void startThreads() {
-        threadUnoCallout = new ThreadUnoCallout(gameHandler, visible -> unoButton.setVisible(visible));
-        threadPlayMachine = new ThreadPlayMachine(gameHandler, tableImageView);
-        threadGameOver = new ThreadGameOver(gameHandler);
-        Thread u = new Thread(threadGameOver, "ThreadGameOver");
-        u.start();
-        Thread t = new Thread(threadUnoCallout, "ThreadSingUNO");
-        t.start();
-        Thread s = new Thread(threadPlayMachine, "ThreadPlayMachine");
-        s.start();
+        session.start(
+                visible -> Platform.runLater(() -> unoButton.setVisible(visible)),
+                (title, message) -> DialogManager.showInfoDialog(title, message, pauseManager));
+        gameHandler.whenGameEnded().thenAccept(this::showGameOverDialog);
     }
 
     /**
@@ -140,52 +162,179 @@ public class GameUnoController {
         this.gameHandler = GameSaver.load();
 
         if (gameHandler != null) {
-            gameHandler.setUpdateVisualCallback(this::updateVisuals);
-            gameHandler.setResetCardScroll(resetCardScroll);
-            restoreCardVisuals(); // Restore visuals of cards from the saved game
+            gameHandler.addGameListener(this);
             System.out.println("Partida cargada correctamente.");
         } else {
             System.out.println("Fallo al cargar partida, se crea una nueva.");
             createNewGame();
         }
+        // A resumed game keeps the strategy it was started with
+        if (gameHandler.getMachineStrategyName() == null) {
+            gameHandler.setMachineStrategyName(strategyName);
+        }
+        gameHandler.enableSnapshots(); // The view is rendered from the published snapshots
+
+        try {
+            journal = new GameJournal(gameHandler, GameSaver.getJournalFile(), GameSaver::writeSnapshot,
+                    GameJournal.DEFAULT_SNAPSHOT_INTERVAL);
+            gameHandler.addGameListener(journal);
+        } catch (IOException e) {
+            System.out.println("No se pudo abrir el registro de jugadas, la partida no se guardará.");
+            e.printStackTrace();
+        }
+
+        session = new GameSession(gameHandler);
+        gameHandler.setStrategy(false, ThreadPlayMachine.createStrategy(gameHandler.getMachineStrategyName(), session.getClock()));
+        commands = session.getCommands();
+        pauseManager = session.getPauseManager();
+        GameHistoryStore.getInstance().track(gameHandler, session.getClock());
     }
 
     /**
      * Creates a new game instance.
-     * This method initializes a new GameHandler and sets the update visuals callback.
+     * This method initializes a new GameHandler and registers this controller as its listener.
      */
     private void createNewGame() {
-        this.gameHandler = GameHandler.createNewGame(this::updateVisuals, resetCardScroll);
+        this.gameHandler = GameHandler.createNewGame();
+        gameHandler.addGameListener(this);
+    }
+
+    /**
+     * Refreshes the player's cards after drawing, showing the newest cards first.
+     */
+    @Override
+    public void onCardsDrawn(Player player, int numberOfCards) {
+        Platform.runLater(() -> {
+            resetCardScroll.run();
+            updateVisuals();
+        });
+    }
+
+    /**
+     * Counts the cards placed by the human player.
+     */
+    @Override
+    public void onCardPlayed(Player player, Card card) {
+        if (player == gameHandler.getHumanPlayer()) {
+            PlayerStatsManager.updateStats(false, 1, true);
+        }
     }
 
     /**
-     * Restores the visuals of the cards for both players and the table.
-     * This method is called when loading a saved game to ensure that all card visuals are correctly displayed.
+     * Renders the new snapshot of the game on the FX thread.
+     * Changes made while a render is waiting are shown by that same render.
      */
-    private void restoreCardVisuals() {
-        gameHandler.getHumanPlayer().getCardsPlayer().forEach(Card::restoreVisuals);
-        gameHandler.getMachinePlayer().getCardsPlayer().forEach(Card::restoreVisuals);
-        gameHandler.getTable().getCards().forEach(Card::restoreVisuals);
-        gameHandler.getDeck().getAllCards().forEach(Card::restoreVisuals);
+    @Override
+    public void onStateChanged() {
+        if (renderPending.compareAndSet(false, true)) {
+            Platform.runLater(() -> {
+                renderPending.set(false);
+                updateVisuals();
+            });
+        }
     }
 
     /**
-     * Updates the visuals of the game, including player cards and the current color.
+     * Shows the repeated turn dialog and pauses the game until it is closed.
+     */
+    @Override
+    public void onTurnRepeated(Card card, boolean playedByHuman) {
+        String title;
+        if (card.isPlusTwo()) {
+            title = "+2 Jugado";
+        } else if (card.isPlusFour()) {
+            title = "+4 Jugado";
+        } else {
+            title = "Skip / Block jugado";
+        }
+        DialogManager.showInfoDialog(title, "Se repite el turno!", pauseManager);
+    }
+
+    /**
+     * Records the result of the game in the player statistics and writes them right away.
+     */
+    @Override
+    public void onGameEnded(String winner) {
+        PlayerStatsManager.updateStats("HUMAN".equals(winner), 0, false);
+        PlayerStatsManager.getInstance().flush();
+    }
+
+    /**
+     * Shows the result of the game and exits the application when the dialog is closed.
+     * The saved game is deleted, since it cannot be continued.
+     *
+     * @param winner the type of the winner ("HUMAN" or "MACHINE")
+     */
+    private void showGameOverDialog(String winner) {
+        // Message variables for the alert
+        String title, message;
+
+        switch (String.valueOf(winner)) {
+            case "HUMAN":
+                title = "¡Has ganado!";
+                message = "¡Felicidades! Has ganado el juego.";
+                System.out.println("El jugador humano ha ganado el juego.");
+                break;
+            case "MACHINE":
+                title = "Has perdido";
+                message = "Ha ganado la IA. Suerte la próxima vez.";
+                System.out.println("La IA ha ganado el juego.");
+                break;
+            default:
+                title = "Error";
+                message = "No se ha podido determinar el ganador del juego.";
+                System.out.println("Error al determinar el ganador del juego.");
+                break;
+        }
+
+        // JavaFX UI components must be accessed on the JavaFX Application Thread
+        Platform.runLater(() -> {
+            Alert alert = new Alert(Alert.AlertType.INFORMATION);
+            alert.setTitle(title);
+            alert.setHeaderText(null);
+            alert.setContentText(message);
+
+            alert.setOnHidden(e -> {
+                GameSaver.deleteSaveFile();
+                System.out.println("Saliendo de la aplicación...");
+                System.exit(0);
+            });
+
+            alert.show();
+        });
+
+        pauseManager.pauseGame();
+    }
+
+    /**
+     * Updates the visuals of the game, including player cards, the table and the current color.
      * This method is called to refresh the UI after any game state change.
+     * Everything is drawn from the same snapshot, so the view never mixes two states of the game.
      */
     public void updateVisuals(){
-        printHumanPlayerCards();
-        printMachinePlayerCards();
-        updateCurrentColorUI();
+        GameSnapshot snapshot = gameHandler.getSnapshot();
+        printHumanPlayerCards(snapshot);
+        printMachinePlayerCards(snapshot);
+        if (snapshot.getTopCard() != null) {
+            tableImageView.setImage(snapshot.getTopCard().getImage());
+        }
+        updateCurrentColorUI(snapshot);
+    }
+
+    /**
+     * Prints the human player's cards on the grid pane, from the last snapshot of the game.
+     */
+    public void printHumanPlayerCards() {
+        printHumanPlayerCards(gameHandler.getSnapshot());
     }
 
     /**
      * Prints the human player's cards on the grid pane.
      * This method retrieves the visible cards for the human player and displays them in the UI.
      */
-    public void printHumanPlayerCards() {
+    private void printHumanPlayerCards(GameSnapshot snapshot) {
         gridPaneCardsPlayer.getChildren().clear();
-        Card[] visibleCards = gameHandler.getCurrentVisibleCardsHumanPlayer(posInitCardToShow);
+        Card[] visibleCards = snapshot.getVisibleHumanCards(posInitCardToShow);
 
         for (int i = 0; i < visibleCards.length; i++) {
             final Card card = visibleCards[i];
@@ -198,13 +347,15 @@ public class GameUnoController {
 
     /**
      * Prints the machine player's cards on the grid pane.
+     * The card back image is shared through the CardImageCache.
      */
-    private void printMachinePlayerCards() {
+    private void printMachinePlayerCards(GameSnapshot snapshot) {
         this.gridPaneCardsMachine.getChildren().clear();
-        int numCards = gameHandler.getMachinePlayer().getCardsPlayer().size();
+        int numCards = snapshot.getMachineCardCount();
+        Image cardBackImage = CardImageCache.getImage(EISCUnoEnum.CARD_BACK);
         if(numCards <= 8) {
             for (int i = 0; i < numCards; i++) {
-                ImageView cardBack = new ImageView(new javafx.scene.image.Image(getClass().getResource("/org/example/eiscuno/cardReverse-removebg-preview.png").toExternalForm()));
+                ImageView cardBack = new ImageView(cardBackImage);
                 cardBack.setFitHeight(170);
                 cardBack.setFitWidth(110);
                 cardBack.setTranslateX(i * 75);
@@ -213,7 +364,7 @@ public class GameUnoController {
 
         } else {
             for (int i = 0; i < 8; i++) {
-                ImageView cardBack = new ImageView(new javafx.scene.image.Image(getClass().getResource("/org/example/eiscuno/cardReverse-removebg-preview.png").toExternalForm()));
+                ImageView cardBack = new ImageView(cardBackImage);
                 cardBack.setFitHeight(170);
                 cardBack.setFitWidth(110);
                 cardBack.setTranslateX(i * 75);
@@ -226,24 +377,21 @@ public class GameUnoController {
      * Updates the UI to reflect the current color of the card on the table.
      * This method retrieves the color of the current card and updates the label accordingly.
      */
-    private void updateCurrentColorUI() {
-        String color = gameHandler.getCurrentCardOnTable().getColor();
+    private void updateCurrentColorUI(GameSnapshot snapshot) {
+        String color = snapshot.getCurrentColor();
         labelCurrentColor.setText("Color actual: " + (color != null ? color : "-"));
     }
 
     /**
      * Attaches a click handler to the card image view.
-     * This method allows the player to click on a card to play it, and updates the table image view accordingly.
+     * This method allows the player to click on a card to play it; the view is refreshed by onStateChanged.
      *
      * @param card the card to attach the click handler to
      * @param cardImageView the ImageView representing the card
      */
     private void attachClickHandlerToCard(Card card, ImageView cardImageView) {
-        cardImageView.setOnMouseClicked(event -> {
-            boolean wasPlayed = gameHandler.handleHumanCardClick(card, () -> {
-                tableImageView.setImage(card.getImage());
-                updateVisuals(); // Update the visuals after playing the card
-            });
+        cardImageView.setOnMouseClicked(event -> commands.execute(() -> {
+            boolean wasPlayed = gameHandler.handleHumanCardClick(card, null);
 
             if (!wasPlayed) {
                 if (!gameHandler.getHumanTurn()) {
@@ -252,7 +400,29 @@ public class GameUnoController {
                     showInvalidMoveError();
                 }
             }
-        });
+        }));
+    }
+
+    /**
+     * Asks the user for a color on the FX thread.
+     * Wild cards are played by a command, so the game thread waits here until the dialog is closed.
+     *
+     * @return the selected color as a string
+     */
+    private String chooseColor() {
+        if (Platform.isFxApplicationThread()) {
+            return showColorDialog();
+        }
+        FutureTask<String> dialog = new FutureTask<>(this::showColorDialog);
+        Platform.runLater(dialog);
+        try {
+            return dialog.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            e.printStackTrace();
+        }
+        return "RED"; // fallback
     }
 
     /**
@@ -269,7 +439,7 @@ public class GameUnoController {
         dialog.setHeaderText(null);
         dialog.setContentText("Elige un color:");
 
-        dialog.setOnHidden(e -> GamePauseManager.getInstance().resumeGame());
+        dialog.setOnHidden(e -> pauseManager.resumeGame());
 
         dialog.showAndWait().ifPresent(color -> {
             selectedColor[0] = COLOR_MAP.getOrDefault(color.toUpperCase(), "RED");
@@ -284,9 +454,10 @@ public class GameUnoController {
      */
     public void shutdownApplication() {
         // Stop all threads gracefully
-        if (threadPlayMachine != null) threadPlayMachine.stopThread();
-        if (threadUnoCallout != null) threadUnoCallout.stopThread();
-        if (threadGameOver != null) threadGameOver.stopThread();
+        if (session != null) session.close(); // Let the last submitted move finish
+        if (journal != null) journal.close(); // Write the last snapshot before exiting
+        PlayerStatsManager.getInstance().flush();
+        GameHistoryStore.getInstance().close(); // Write the finished games and close the database
 
         Platform.exit();
         System.exit(0);
@@ -301,18 +472,18 @@ public class GameUnoController {
      */
     @FXML
     void onHandleTakeCard(MouseEvent event) {
-        if (!gameHandler.getHumanTurn()) {
-            showTurnError();
-            return;
-        }
-        if (gameHandler.hasPlayableCard(gameHandler.getHumanPlayer())) {
-            showInvalidTryToTakeCardError();
-            return;
-        }
-        gameHandler.eatCard(gameHandler.getHumanPlayer(), 1);
-        posInitCardToShow = 0;
-        printHumanPlayerCards();
-        gameHandler.passTurnToMachine();
+        commands.execute(() -> {
+            if (!gameHandler.getHumanTurn()) {
+                showTurnError();
+                return;
+            }
+            if (gameHandler.hasPlayableCard(gameHandler.getHumanPlayer())) {
+                showInvalidTryToTakeCardError();
+                return;
+            }
+            gameHandler.eatCard(gameHandler.getHumanPlayer(), 1); // onCardsDrawn shows the new card first
+            gameHandler.passTurnToMachine();
+        });
     }
 
     /**
@@ -324,18 +495,17 @@ public class GameUnoController {
      */
     @FXML
     void onHandleUno(MouseEvent event) {
-        if (gameHandler.getHumanPlayer().getCardsPlayer().size() == 1 && !gameHandler.getHumanSaidUno()) {
-            gameHandler.setHumanSaidUno(true);
-            DialogManager.showInfoDialog("UNO declarado", "¡Has declarado UNO correctamente!");
-            GamePauseManager.getInstance().pauseGame();
-            return;
-        }
-        if (gameHandler.getMachinePlayer().getCardsPlayer().size() == 1 && !gameHandler.getIASaidUno()) {
-            gameHandler.eatCard(gameHandler.getMachinePlayer(), 1);
-            DialogManager.showInfoDialog("UNO callout a la máquina", "¡La máquina no dijo UNO! Le has hecho comer una carta.");
-            GamePauseManager.getInstance().pauseGame();
-            return;
-        }
+        commands.execute(() -> {
+            if (gameHandler.getHumanPlayer().getCardsPlayer().size() == 1 && !gameHandler.getHumanSaidUno()) {
+                gameHandler.setHumanSaidUno(true);
+                DialogManager.showInfoDialog("UNO declarado", "¡Has declarado UNO correctamente!", pauseManager);
+                return;
+            }
+            if (gameHandler.getMachinePlayer().getCardsPlayer().size() == 1 && !gameHandler.getIASaidUno()) {
+                gameHandler.eatCard(gameHandler.getMachinePlayer(), 1);
+                DialogManager.showInfoDialog("UNO callout a la máquina", "¡La máquina no dijo UNO! Le has hecho comer una carta.", pauseManager);
+            }
+        });
     }
 
     /**
@@ -354,8 +524,7 @@ public class GameUnoController {
      * This method is called when the player tries to play a card or take a card when it's not their turn.
      */
     private void showTurnError() {
-        DialogManager.showInfoDialog("Turno incorrecto", "No es tu turno. Espera a que la máquina juegue.");
-        GamePauseManager.getInstance().pauseGame();
+        DialogManager.showInfoDialog("Turno incorrecto", "No es tu turno. Espera a que la máquina juegue.", pauseManager);
     }
 
     /**
@@ -363,8 +532,7 @@ public class GameUnoController {
      * This method is called when the player attempts to play a card that does not match the current card on the table.
      */
     private void showInvalidMoveError() {
-        DialogManager.showInfoDialog("Jugada inválida", "No puedes jugar esa carta. Debe coincidir en color, número o símbolo con la carta de la mesa.");
-        GamePauseManager.getInstance().pauseGame();
+        DialogManager.showInfoDialog("Jugada inválida", "No puedes jugar esa carta. Debe coincidir en color, número o símbolo con la carta de la mesa.", pauseManager);
     }
 
     /**
@@ -372,8 +540,7 @@ public class GameUnoController {
      * This method is called when the player attempts to take a card while they still have playable cards in hand.
      */
     private void showInvalidTryToTakeCardError(){
-        DialogManager.showInfoDialog("Intento inválido", "No puedes tomar una carta si tienes cartas jugables. Juega una carta primero.");
-        GamePauseManager.getInstance().pauseGame();
+        DialogManager.showInfoDialog("Intento inválido", "No puedes tomar una carta si tienes cartas jugables. Juega una carta primero.", pauseManager);
     }
 
     /**
@@ -396,7 +563,7 @@ public class GameUnoController {
      */
     @FXML
     void onHandleNext(MouseEvent event) {
-        if (this.posInitCardToShow < gameHandler.getHumanPlayer().getCardsPlayer().size() - 4) {
+        if (this.posInitCardToShow < gameHandler.getSnapshot().getHumanCards().size() - GameSnapshot.VISIBLE_CARDS) {
             this.posInitCardToShow++;
             printHumanPlayerCards();
         }
@@ -1,6 +1,7 @@
 package org.example.eiscuno.controller;
 
 // Imports
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -8,18 +9,21 @@ import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.ButtonBar;
 import javafx.scene.control.ButtonType;
+import javafx.scene.control.ChoiceDialog;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.stage.Stage;
+import org.example.eiscuno.model.common.GameSaver;
 import org.example.eiscuno.model.common.PlayerStatsManager;
+import org.example.eiscuno.model.history.GameHistoryStore;
+import org.example.eiscuno.model.threads.ThreadPlayMachine;
 import org.example.eiscuno.model.unoenum.EISCUnoEnum;
 import org.example.eiscuno.view.GameUnoStage;
 
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -28,42 +32,49 @@ import java.util.Optional;
  */
 public class HomeUnoController {
 
+    /** Number of recent games summarized on the home screen. */
+    private static final int HISTORY_GAMES = 20;
+
+    /**
+     * The levels offered for a new game, with the strategy of the machine player of each one.
+     */
+    private static final Map<String, String> LEVELS = new LinkedHashMap<>();
+    static {
+        LEVELS.put("Fácil", "greedy");
+        LEVELS.put("Normal", "heuristic");
+        LEVELS.put("Difícil", ThreadPlayMachine.DEFAULT_STRATEGY);
+    }
+
     // FXML elements
     @FXML
     private ImageView unoLogo;
 
     @FXML
-    private Label cardsLabel, gamesPlayedLabel, gamesWonLabel;
+    private Label cardsLabel, gamesPlayedLabel, gamesWonLabel, historyLabel;
 
     /**
-     * Initializes the controller by loading the Uno logo and player statistics from a CSV file.
+     * Initializes the controller by loading the Uno logo and the player statistics.
+     * The statistics are read from memory, so they include changes not written to disk yet.
+     * The summary of the last games is read from the game history in the background.
      */
     @FXML
     public void initialize() {
         unoLogo.setImage(new Image(getClass().getResource(EISCUnoEnum.UNO.getFilePath()).toExternalForm()));
 
-        // Read player statistics from CSV file
-        File file = new File(PlayerStatsManager.getAppDataFolder(), "player_stats.csv");
-
-        // If the file exist, read the statistics
-        // and set the labels accordingly
-        if (file.exists()) {
-            try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-                reader.readLine(); // Skip the header line
-                String data = reader.readLine();
-                if (data != null) {
-                    String[] parts = data.split(",");
-                    cardsLabel.setText(parts[2]);
-                    cardsLabel.setStyle("-fx-font-weight: bold;");
-                    gamesPlayedLabel.setText(parts[0]);
-                    gamesPlayedLabel.setStyle("-fx-font-weight: bold;");
-                    gamesWonLabel.setText( parts[1]);
-                    gamesWonLabel.setStyle("-fx-font-weight: bold;");
-                }
-            } catch (IOException e) {
-                e.printStackTrace(); // Handle the exception if the file cannot be read
-            }
-        }
+        PlayerStatsManager stats = PlayerStatsManager.getInstance();
+        cardsLabel.setText(String.valueOf(stats.getPlacedCards()));
+        cardsLabel.setStyle("-fx-font-weight: bold;");
+        gamesPlayedLabel.setText(String.valueOf(stats.getPlayedGames()));
+        gamesPlayedLabel.setStyle("-fx-font-weight: bold;");
+        gamesWonLabel.setText(String.valueOf(stats.getGamesWon()));
+        gamesWonLabel.setStyle("-fx-font-weight: bold;");
+
+        GameHistoryStore.getInstance().summarize(HISTORY_GAMES).thenAccept(summary -> {
+            if (summary.getGames() == 0) return;
+            String text = String.format("Últimas %d partidas: %.0f%% ganadas, %.1f turnos en promedio",
+                    summary.getGames(), summary.getWinRate() * 100, summary.getAverageTurns());
+            Platform.runLater(() -> historyLabel.setText(text));
+        });
     }
 
     /**
@@ -72,12 +83,9 @@ public class HomeUnoController {
      */
     @FXML
     private void onPlayGame() {
-        // Check if there is a saved game file
-        File saveFile = new File(PlayerStatsManager.getAppDataFolder(), "savegame.dat");
-
-        // If the file does not exist, launch the game scene directly
-        if (!saveFile.exists()) {
-            launchGameScene();
+        // If there is no saved game, choose the level and launch the game scene
+        if (!GameSaver.saveExists()) {
+            chooseStrategy().ifPresent(this::launchGameScene);
             return;
         }
 
@@ -99,12 +107,15 @@ public class HomeUnoController {
 
         if (result.isPresent()) {
             if (result.get() == continuarBtn) {
-                launchGameScene(); // Launch the game scene to continue the saved game
+                // The saved game keeps the level it was started with
+                launchGameScene(ThreadPlayMachine.DEFAULT_STRATEGY);
             } else if (result.get() == nuevaBtn) {
-                // If the user chooses to start a new game,
+                // If the user chooses to start a new game and a level,
                 // delete the existing save file and launch the game scene
-                if (saveFile.delete()) {
-                    launchGameScene();
+                Optional<String> strategy = chooseStrategy();
+                if (strategy.isEmpty()) return;
+                if (GameSaver.deleteSaveFile()) {
+                    launchGameScene(strategy.get());
                 } else {
                     Alert error = new Alert(Alert.AlertType.ERROR);
                     error.setTitle("Error");
@@ -117,17 +128,37 @@ public class HomeUnoController {
         }
     }
 
+    /**
+     * Asks the level of a new game.
+     *
+     * @return the name of the strategy of the machine player, or empty if the user cancels
+     */
+    private Optional<String> chooseStrategy() {
+        ChoiceDialog<String> dialog = new ChoiceDialog<>("Difícil", LEVELS.keySet());
+        dialog.setTitle("Nueva partida");
+        dialog.setHeaderText(null);
+        dialog.setContentText("Elige la dificultad:");
+        return dialog.showAndWait().map(LEVELS::get);
+    }
+
     /**
      * Launches the game scene by loading the FXML file and setting it to the current stage.
+     * The game controller is registered with that stage, which owns the game from then on.
+     *
+     * @param strategyName the name of the strategy of the machine player
      */
-    private void launchGameScene() {
+    private void launchGameScene(String strategyName) {
         // Load the game scene from the FXML file
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/org/example/eiscuno/game-uno-view.fxml"));
+            loader.setControllerFactory(type -> new GameUnoController(strategyName));
             Parent root = loader.load();
             Scene newScene = new Scene(root);
 
             Stage currentStage = (Stage) unoLogo.getScene().getWindow();
+            if (currentStage instanceof GameUnoStage) {
+                ((GameUnoStage) currentStage).registerGameController(loader.getController());
+            }
             currentStage.setScene(newScene);
         } catch (IOException e) {
             e.printStackTrace(); // Handle the exception if the FXML file cannot be loaded
@@ -4,20 +4,29 @@ package org.example.eiscuno.model.card;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
-import java.io.Serializable;
 
 /**
  * Represents a card in the Uno game.
  */
-public class Card implements Serializable {
+public class Card {
     private String url;
     private String value;
     private String color;
-    private transient Image image;
-    private transient ImageView cardImageView;
+    private final CardKind kind;
+    private final int number;
+    private final int id;
+    private int colorIndex;
+    private Image image;
+    private ImageView cardImageView;
 
     /**
      * Constructs a Card with the specified image URL and name.
+     * The image and its ImageView are created the first time they are requested,
+     * so cards can be used by the game rules without the JavaFX toolkit.
+     * The image itself is shared with every card of the same url through the CardImageCache.
+     * The kind of the card is decided here, once, from its url,
+     * and the numeric value is parsed once from its value.
+     * The card also gets its CardCatalog id, used to check moves with the legality table.
      *
      * @param url the URL of the card image
      * @param value of the card
@@ -26,8 +35,31 @@ public class Card implements Serializable {
         this.url = url;
         this.value = value;
         this.color = color;
-        this.image = new Image(String.valueOf(getClass().getResource(url)));
-        this.cardImageView = createCardImageView();
+        this.kind = CardKind.fromUrl(url);
+        this.number = parseNumber(value);
+        this.colorIndex = CardCatalog.colorIndex(color);
+        this.id = CardCatalog.idOf(kind, colorIndex, number);
+    }
+
+    /**
+     * Parses the numeric value of a card.
+     *
+     * @param value the value of the card
+     * @return the number of the card, or -1 if the value is not a number
+     */
+    private static int parseNumber(String value) {
+        if (value == null || value.isEmpty()) {
+            return -1;
+        }
+        int result = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char digit = value.charAt(i);
+            if (digit < '0' || digit > '9') {
+                return -1;
+            }
+            result = result * 10 + (digit - '0');
+        }
+        return result;
     }
 
     /**
@@ -36,7 +68,7 @@ public class Card implements Serializable {
      * @return the configured ImageView of the card
      */
     private ImageView createCardImageView() {
-        ImageView card = new ImageView(this.image);
+        ImageView card = new ImageView(getImage());
         card.setY(16);
         card.setFitHeight(170);
         card.setFitWidth(110);
@@ -44,11 +76,17 @@ public class Card implements Serializable {
     }
 
     public ImageView getCard() {
+        if (cardImageView == null) {
+            cardImageView = createCardImageView();
+        }
         return cardImageView;
     }
 
 
     public Image getImage() {
+        if (image == null) {
+            image = CardImageCache.getImage(url);
+        }
         return image;
     }
 
@@ -60,57 +98,60 @@ public class Card implements Serializable {
         return color;
     }
 
+    public CardKind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the numeric value of the card.
+     *
+     * @return the number of the card, or -1 if the card has no numeric value
+     */
+    public int getNumber() {
+        return number;
+    }
+
+    /**
+     * Returns the id of the card in the CardCatalog.
+     *
+     * @return the id of the card, or CardCatalog.INVALID_ID if it is not a catalog card
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns the index of the current color of the card in CardCatalog.COLORS.
+     *
+     * @return the color index, or CardCatalog.NO_COLOR if the card has no playable color
+     */
+    public int getColorIndex() {
+        return colorIndex;
+    }
+
     /**
      * Checks if the card can be played on top of the given card.
+     * The answer is read from the precomputed legality table of the CardCatalog.
      *
      * @param topCard the card on top of which this card is being played
      * @return true if this card can be played on top of the given card, false otherwise
      */
     public boolean canBePlayedOn(Card topCard) {
-        try {
-            // Wild card and +4 can always be played
-            if (this.isWildCard() || this.isPlusFour()) {
-                return true;
-            }
-            // +2 can be played if color matches or top card is +2
-            if (this.isPlusTwo()) {
-                return this.color != null && topCard.getColor() != null && (this.color.equalsIgnoreCase(topCard.getColor()) || topCard.isPlusTwo());
-            }
-            // Skip: can be placed if the color or the type matches
-            if (this.isSkip()) {
-                return this.color != null && topCard.getColor() != null && (this.color.equalsIgnoreCase(topCard.getColor()) || topCard.isSkip());
-            }
-            // Reverse: can be placed if the color or the type matches
-            if (this.isReverse()){
-                return this.color != null && topCard.getColor() != null && (this.color.equalsIgnoreCase(topCard.getColor()) || topCard.isReverse());
-            }
-            // Number cards: can be played if color or value matches
-            if (this.value != null && this.value.matches("[0-9]+")) {
-                return this.color != null && topCard.getColor() != null && (this.color.equalsIgnoreCase(topCard.getColor())
-                        || (topCard.getValue() != null && this.value.equalsIgnoreCase(topCard.getValue())));
-            }
-            // Default: only color match
-            return this.color != null && topCard.getColor() != null && this.color.equalsIgnoreCase(topCard.getColor());
-        } catch (Exception e) {
-            // If any error, move is not valid
-            return false;
-        }
+        return CardCatalog.isLegal(id, topCard.id, topCard.colorIndex);
     }
 
     /**
      * Checks if the card is a reverse card.
      */
     public boolean isReverse() {
-        String urlLower = this.url.toLowerCase();
-        return urlLower.contains("reverse");
+        return kind == CardKind.REVERSE;
     }
 
     /**
      * Checks if the card is a skip card.
      */
     public boolean isSkip(){
-        String urlLower = this.url.toLowerCase();
-        return urlLower.contains("skip");
+        return kind == CardKind.SKIP;
     }
 
     /**
@@ -118,7 +159,7 @@ public class Card implements Serializable {
      * This method returns true if the card is either a skip or reverse card.
      */
     public boolean isSkipOrReverse(){
-        return (this.isSkip() || this.isReverse());
+        return kind == CardKind.SKIP || kind == CardKind.REVERSE;
     }
 
     /**
@@ -128,7 +169,7 @@ public class Card implements Serializable {
      * @return true if the card is a wild card, false otherwise
      */
     public boolean isWildCard() {
-        return this.url.endsWith("wild.png");
+        return kind == CardKind.WILD;
     }
 
     /**
@@ -138,7 +179,7 @@ public class Card implements Serializable {
      * @return true if the card is a wild card that can change the color, false otherwise
      */
     public boolean isPlusFour() {
-        return this.url.contains("4_wild_draw");
+        return kind == CardKind.PLUS_FOUR;
     }
 
     /**
@@ -148,7 +189,7 @@ public class Card implements Serializable {
      * @return true if the card is a +2 wild card, false otherwise
      */
     public boolean isPlusTwo() {
-        return this.url.contains("2_wild_draw");
+        return kind == CardKind.PLUS_TWO;
     }
 
     /**
@@ -157,7 +198,7 @@ public class Card implements Serializable {
      * but not the classic +4 wild card or the classic wild card.
      */
     public boolean isColoredWild() {
-        return this.isPlusTwo() && this.color != null;
+        return kind == CardKind.PLUS_TWO && this.color != null;
     }
 
     /**
@@ -177,26 +218,7 @@ public class Card implements Serializable {
      * @return true if the card is a special card, false otherwise
      */
     public boolean isSpecial() {
-        if ("BLACK".equalsIgnoreCase(this.color)) {
-            return true;
-        }
-
-        if ("2".equals(this.value) && this.url.contains("wild_draw")) {
-            return true;
-        }
-        if ("4".equals(this.value) && this.url.contains("wild_draw")) {
-            return true;
-        }
-
-        if (this.url.contains("wild")) {
-            return true;
-        }
-
-        String urlLower = this.url.toLowerCase();
-        if (urlLower.contains("skip") || urlLower.contains("reverse")) {
-            return true;
-        }
-        return false;
+        return kind != CardKind.NUMBER;
     }
 
     public String getUrl() {
@@ -205,11 +227,23 @@ public class Card implements Serializable {
 
     /**
      * Restores the visuals of the card.
-     * This method is used to recreate the Image and ImageView after serialization.
+     * This method is used to recreate the ImageView of a card shown again,
+     * the image is taken from the CardImageCache and is not decoded again.
      */
     public void restoreVisuals() {
-        this.image = new Image(String.valueOf(getClass().getResource(url)));
-        this.cardImageView = createCardImageView();
+        this.image = null;
+        this.cardImageView = null;
+        getCard();
+    }
+
+    /**
+     * Gives the card back the color of its catalog entry, the color of a new card.
+     * Wild and +4 cards have no color until they are played.
+     */
+    public void resetColor() {
+        if (id == CardCatalog.INVALID_ID) return;
+        this.colorIndex = CardCatalog.getColorIndex(id);
+        this.color = colorIndex == CardCatalog.NO_COLOR ? null : CardCatalog.COLORS[colorIndex];
     }
 
     /**
@@ -224,6 +258,7 @@ public class Card implements Serializable {
         } else {
             this.color = orDefault;
         }
-        restoreVisuals(); // Update visuals after setting color
+        this.colorIndex = CardCatalog.colorIndex(this.color);
+        // The image depends only on the url, so the visuals do not need to be rebuilt
     }
 }
@@ -0,0 +1,266 @@
+package org.example.eiscuno.model.card;
+
+// Imports
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * CardCatalog gives a small integer id to each distinct Uno card of EISCUnoEnum
+ * and precomputes which card can be played on which.
+ * The legality table is indexed by (card id, top card id, active color),
+ * so checking a move is a single array read.
+ * Since there are fewer than 64 ids, the set of cards playable on a top card
+ * is also kept as a bit mask of ids.
+ */
+public class CardCatalog {
+
+    /** Names of the four playable colors, indexed by color index. */
+    public static final String[] COLORS = {"RED", "GREEN", "BLUE", "YELLOW"};
+
+    /** Color index used when there is no playable color (wild cards not yet colored). */
+    public static final int NO_COLOR = COLORS.length;
+
+    /** Number of color indexes, including NO_COLOR. */
+    public static final int COLOR_COUNT = COLORS.length + 1;
+
+    // Playable cards of EISCUnoEnum, in declaration order; the position is the card id
+    private static final EISCUnoEnum[] CARDS = loadCards();
+
+    /** Number of distinct playable cards. */
+    public static final int CARD_COUNT = CARDS.length;
+
+    /** Id of a card that does not match any entry of the catalog. It can never be played. */
+    public static final int INVALID_ID = CARD_COUNT;
+
+    // Properties of each card id
+    private static final CardKind[] KINDS = new CardKind[CARD_COUNT];
+    private static final int[] COLOR_INDEXES = new int[CARD_COUNT];
+    private static final int[] NUMBERS = new int[CARD_COUNT];
+
+    // Card id by (kind, color, number + 1), or -1 if there is no such card
+    private static final int[] IDS_BY_KEY = new int[CardKind.values().length * COLOR_COUNT * 11];
+
+    // legal[(cardId * (CARD_COUNT + 1) + topId) * COLOR_COUNT + activeColor]
+    private static final boolean[] LEGAL;
+
+    // Bit mask of the card ids playable on each (topId * COLOR_COUNT + activeColor)
+    private static final long[] LEGAL_MASKS;
+
+    static {
+        Arrays.fill(IDS_BY_KEY, -1);
+        for (int id = 0; id < CARD_COUNT; id++) {
+            EISCUnoEnum cardEnum = CARDS[id];
+            KINDS[id] = CardKind.fromUrl(cardEnum.getFilePath());
+            COLOR_INDEXES[id] = colorIndex(getCardColor(cardEnum.name()));
+            String value = getCardValue(cardEnum.name());
+            NUMBERS[id] = KINDS[id] == CardKind.NUMBER && value != null ? Integer.parseInt(value) : -1;
+            IDS_BY_KEY[key(KINDS[id], COLOR_INDEXES[id], NUMBERS[id])] = id;
+        }
+
+        int ids = CARD_COUNT + 1;
+        LEGAL = new boolean[ids * ids * COLOR_COUNT];
+        LEGAL_MASKS = new long[ids * COLOR_COUNT];
+        for (int cardId = 0; cardId < CARD_COUNT; cardId++) {
+            for (int topId = 0; topId < ids; topId++) {
+                for (int color = 0; color < COLOR_COUNT; color++) {
+                    boolean legal = computeLegal(cardId, topId, color);
+                    LEGAL[(cardId * ids + topId) * COLOR_COUNT + color] = legal;
+                    if (legal) {
+                        LEGAL_MASKS[topId * COLOR_COUNT + color] |= 1L << cardId;
+                    }
+                }
+            }
+        }
+    }
+
+    // Private constructor to prevent instantiation
+    private CardCatalog() {}
+
+    /**
+     * Checks if the card with the given id can be played on the top card.
+     *
+     * @param cardId the id of the card to play
+     * @param topId the id of the card on top of the table
+     * @param activeColor the color index of the card on top of the table
+     * @return true if the move is legal, false otherwise
+     */
+    public static boolean isLegal(int cardId, int topId, int activeColor) {
+        return LEGAL[(cardId * (CARD_COUNT + 1) + topId) * COLOR_COUNT + activeColor];
+    }
+
+    /**
+     * Returns the bit mask of the card ids that can be played on the top card.
+     * Bit i is set if the card with id i can be played.
+     *
+     * @param topId the id of the card on top of the table
+     * @param activeColor the color index of the card on top of the table
+     * @return the bit mask of the playable card ids
+     */
+    public static long legalMask(int topId, int activeColor) {
+        return LEGAL_MASKS[topId * COLOR_COUNT + activeColor];
+    }
+
+    /**
+     * Returns the id of the card with the given kind, color index and number.
+     * Wild and +4 cards have a single id whatever their current color is.
+     *
+     * @param kind the kind of the card
+     * @param colorIndex the color index of the card
+     * @param number the number of the card, or -1 if it has none
+     * @return the id of the card, or INVALID_ID if the catalog has no such card
+     */
+    public static int idOf(CardKind kind, int colorIndex, int number) {
+        if (kind == CardKind.WILD || kind == CardKind.PLUS_FOUR) {
+            colorIndex = NO_COLOR;
+            number = -1;
+        } else if (kind != CardKind.NUMBER) {
+            number = -1;
+        }
+        if (colorIndex < 0 || colorIndex >= COLOR_COUNT || number < -1 || number > 9) {
+            return INVALID_ID;
+        }
+        int id = IDS_BY_KEY[key(kind, colorIndex, number)];
+        return id < 0 ? INVALID_ID : id;
+    }
+
+    /**
+     * Returns the color index of a color name, ignoring case.
+     *
+     * @param color the name of the color
+     * @return the color index, or NO_COLOR if the name is not a playable color
+     */
+    public static int colorIndex(String color) {
+        if (color != null) {
+            for (int i = 0; i < COLORS.length; i++) {
+                if (COLORS[i].equalsIgnoreCase(color)) {
+                    return i;
+                }
+            }
+        }
+        return NO_COLOR;
+    }
+
+    /**
+     * Creates a new Card for the given id.
+     *
+     * @param id the id of the card
+     * @return a new Card with the url, value and color of that id
+     */
+    public static Card createCard(int id) {
+        EISCUnoEnum cardEnum = CARDS[id];
+        return new Card(cardEnum.getFilePath(), getCardValue(cardEnum.name()), getCardColor(cardEnum.name()));
+    }
+
+    /**
+     * Returns the enum entry of the card with the given id.
+     *
+     * @param id the id of the card
+     * @return the enum entry of that card
+     */
+    public static EISCUnoEnum getEnum(int id) {
+        return CARDS[id];
+    }
+
+    public static CardKind getKind(int id) {
+        return KINDS[id];
+    }
+
+    public static int getColorIndex(int id) {
+        return COLOR_INDEXES[id];
+    }
+
+    public static int getNumber(int id) {
+        return NUMBERS[id];
+    }
+
+    /**
+     * Decides if a card can be played on another one, following the rules of Card.canBePlayedOn.
+     */
+    private static boolean computeLegal(int cardId, int topId, int activeColor) {
+        CardKind kind = KINDS[cardId];
+        // Wild card and +4 can always be played
+        if (kind == CardKind.WILD || kind == CardKind.PLUS_FOUR) {
+            return true;
+        }
+        // Every other card needs the top card to have a color
+        if (activeColor == NO_COLOR) {
+            return false;
+        }
+        boolean sameColor = COLOR_INDEXES[cardId] == activeColor;
+        CardKind topKind = topId == INVALID_ID ? null : KINDS[topId];
+        int topNumber = topId == INVALID_ID ? -1 : NUMBERS[topId];
+        switch (kind) {
+            case PLUS_TWO:
+            case SKIP:
+            case REVERSE:
+                // Can be played if the color or the type matches
+                return sameColor || topKind == kind;
+            default:
+                // Number cards: can be played if color or value matches
+                return sameColor || (topNumber >= 0 && NUMBERS[cardId] == topNumber);
+        }
+    }
+
+    /**
+     * Returns the index of IDS_BY_KEY for a kind, color index and number.
+     */
+    private static int key(CardKind kind, int colorIndex, int number) {
+        return (kind.ordinal() * COLOR_COUNT + colorIndex) * 11 + number + 1;
+    }
+
+    /**
+     * Collects the entries of EISCUnoEnum that are playable cards.
+     */
+    private static EISCUnoEnum[] loadCards() {
+        List<EISCUnoEnum> cards = new ArrayList<>();
+        for (EISCUnoEnum cardEnum : EISCUnoEnum.values()) {
+            if (cardEnum.name().startsWith("GREEN_") ||
+                    cardEnum.name().startsWith("YELLOW_") ||
+                    cardEnum.name().startsWith("BLUE_") ||
+                    cardEnum.name().startsWith("RED_") ||
+                    cardEnum.name().startsWith("SKIP_") ||
+                    cardEnum.name().startsWith("REVERSE_") ||
+                    cardEnum.name().startsWith("TWO_WILD_DRAW_") ||
+                    cardEnum.name().equals("FOUR_WILD_DRAW") ||
+                    cardEnum.name().equals("WILD")) {
+                cards.add(cardEnum);
+            }
+        }
+        return cards.toArray(new EISCUnoEnum[0]);
+    }
+
+    /**
+     * Returns the value of the card based on its name.
+     * @param name the name of the card.
+     * @return the value of the card, or null if it has no numeric value.
+     */
+    private static String getCardValue(String name) {
+        char last = name.charAt(name.length() - 1);
+        if (last >= '0' && last <= '9') {
+            return String.valueOf(last);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the color of the card based on its name.
+     * @param name the name of the card.
+     * @return the color of the card.
+     */
+    private static String getCardColor(String name){
+        if(name.contains("GREEN")){
+            return "GREEN";
+        } else if(name.contains("YELLOW")){
+            return "YELLOW";
+        } else if(name.contains("BLUE")){
+            return "BLUE";
+        } else if(name.contains("RED")){
+            return "RED";
+        } else {
+            return null;
+        }
+    }
+}
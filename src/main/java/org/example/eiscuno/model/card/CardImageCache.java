@@ -0,0 +1,43 @@
+package org.example.eiscuno.model.card;
+
+// Imports
+import javafx.scene.image.Image;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CardImageCache is a shared cache of the card images.
+ * Each image is decoded the first time it is requested and then reused by every card
+ * with the same file path, so a PNG is decoded only once while the application runs.
+ */
+public class CardImageCache {
+
+    // Decoded images by file path, as returned by EISCUnoEnum.getFilePath()
+    private static final Map<String, Image> IMAGES = new ConcurrentHashMap<>();
+
+    // Private constructor to prevent instantiation
+    private CardImageCache() {}
+
+    /**
+     * Returns the image for the given file path, decoding it on the first request.
+     *
+     * @param filePath the file path of the image, as in EISCUnoEnum.getFilePath()
+     * @return the shared image for that file path
+     */
+    public static Image getImage(String filePath) {
+        return IMAGES.computeIfAbsent(filePath,
+                path -> new Image(String.valueOf(CardImageCache.class.getResource(path))));
+    }
+
+    /**
+     * Returns the image for the given enum entry, decoding it on the first request.
+     *
+     * @param imageEnum the enum entry of the image
+     * @return the shared image for that enum entry
+     */
+    public static Image getImage(EISCUnoEnum imageEnum) {
+        return getImage(imageEnum.getFilePath());
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.eiscuno.model.card;
+
+/**
+ * Enum CardKind
+ *
+ * This enum represents the kind of a Uno card, decided once from the file path of its image.
+ */
+public enum CardKind {
+    NUMBER,
+    SKIP,
+    REVERSE,
+    PLUS_TWO,
+    PLUS_FOUR,
+    WILD;
+
+    /**
+     * Classifies a card by the file path of its image, as in EISCUnoEnum.getFilePath().
+     *
+     * @param url the file path of the card image
+     * @return the kind of the card
+     */
+    public static CardKind fromUrl(String url) {
+        String urlLower = url.toLowerCase();
+        if (urlLower.contains("4_wild_draw")) {
+            return PLUS_FOUR;
+        } else if (urlLower.contains("2_wild_draw")) {
+            return PLUS_TWO;
+        } else if (urlLower.endsWith("wild.png")) {
+            return WILD;
+        } else if (urlLower.contains("skip")) {
+            return SKIP;
+        } else if (urlLower.contains("reverse")) {
+            return REVERSE;
+        } else {
+            return NUMBER;
+        }
+    }
+}
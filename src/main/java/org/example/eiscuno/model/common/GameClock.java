@@ -0,0 +1,57 @@
+package org.example.eiscuno.model.common;
+
+// Imports
+import java.util.concurrent.Future;
+
+/**
+ * GameClock is the source of time for every delay of the game: the machine's thinking time
+ * and the UNO callout deadlines. The game uses the real time of a SystemGameClock, while tests
+ * and simulations use a VirtualGameClock, which jumps straight to the next deadline instead of waiting.
+ */
+public interface GameClock {
+
+    /**
+     * Returns the current time of the clock.
+     *
+     * @return the time in milliseconds, only meaningful to compare with other times of the same clock
+     */
+    long currentTimeMillis();
+
+    /**
+     * Blocks the calling thread for the given time.
+     *
+     * @param millis the time to wait, in milliseconds
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    void sleep(long millis) throws InterruptedException;
+
+    /**
+     * Runs a task once after the given delay.
+     * The task must be short: it runs on the thread of the clock, or on the thread that advances a virtual clock.
+     *
+     * @param task the task to run
+     * @param delayMillis the delay, in milliseconds
+     * @return a future that can be used to cancel the task before it runs
+     */
+    Future<?> schedule(Runnable task, long delayMillis);
+
+    /**
+     * Tells whether the time of the clock only moves when a thread sleeps on it.
+     * The time of a virtual clock stands still while a thread computes, so a search limited by
+     * time must be limited by a number of steps instead.
+     *
+     * @return true for a virtual clock, false for a clock that follows the real time
+     */
+    default boolean isVirtual() {
+        return false;
+    }
+
+    /**
+     * Returns the real time clock shared by every game.
+     *
+     * @return the system clock
+     */
+    static GameClock system() {
+        return SystemGameClock.INSTANCE;
+    }
+}
@@ -0,0 +1,192 @@
+package org.example.eiscuno.model.common;
+
+// Imports
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCatalog;
+import org.example.eiscuno.model.card.CardKind;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GameCodec writes a game in a compact binary format and reads it back.
+ * Every card is a single byte: its CardCatalog id, or COLORED_WILD plus the chosen color
+ * for wild and +4 cards that already have one. A full game takes about a hundred bytes.
+ *
+ * Format, version 2:
+ * <pre>
+ *   magic 'E' 'U'        2 bytes
+ *   version              1 byte
+ *   flags                1 byte, see the flag bits below
+ *   journal sequence     8 bytes
+ *   human player name    modified UTF-8, as in DataOutput.writeUTF
+ *   machine player name  modified UTF-8
+ *   machine strategy     modified UTF-8, empty if none was chosen; missing in version 1
+ *   human hand           1 byte length, then one byte per card
+ *   machine hand         1 byte length, then one byte per card
+ *   table                1 byte length, then one byte per card, the top card last
+ *   deck                 1 byte length, then one byte per card, the top card last
+ * </pre>
+ */
+public class GameCodec {
+
+    /** Version written by encode. decode rejects newer versions. */
+    public static final int VERSION = 2;
+
+    private static final int MAGIC_0 = 'E';
+    private static final int MAGIC_1 = 'U';
+
+    // Bits of the flags byte
+    private static final int HUMAN_TURN = 1;
+    private static final int HUMAN_SAID_UNO = 1 << 1;
+    private static final int IA_SAID_UNO = 1 << 2;
+    private static final int GAME_ENDED = 1 << 3;
+    private static final int HUMAN_WON = 1 << 4;
+    private static final int MACHINE_WON = 1 << 5;
+
+    // Card bytes from COLORED_WILD are wild cards (+ color) and +4 cards (+ 4 + color) with a chosen color
+    private static final int COLORED_WILD = 64;
+    private static final int WILD_ID = CardCatalog.idOf(CardKind.WILD, CardCatalog.NO_COLOR, -1);
+    private static final int PLUS_FOUR_ID = CardCatalog.idOf(CardKind.PLUS_FOUR, CardCatalog.NO_COLOR, -1);
+
+    // Private constructor to prevent instantiation
+    private GameCodec() {}
+
+    /**
+     * Writes a game in the binary format.
+     *
+     * @param handler the game to write
+     * @return the encoded game
+     * @throws IOException if a pile has more cards than the format allows
+     */
+    public static byte[] encode(GameHandler handler) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        out.writeByte(MAGIC_0);
+        out.writeByte(MAGIC_1);
+        out.writeByte(VERSION);
+        out.writeByte(flagsOf(handler));
+        out.writeLong(handler.getJournalSequence());
+        out.writeUTF(handler.getHumanPlayer().getTypePlayer());
+        out.writeUTF(handler.getMachinePlayer().getTypePlayer());
+        out.writeUTF(handler.getMachineStrategyName() != null ? handler.getMachineStrategyName() : "");
+        writeCards(out, handler.getHumanPlayer().getCardsPlayer());
+        writeCards(out, handler.getMachinePlayer().getCardsPlayer());
+        writeCards(out, handler.getTable().getCards());
+        writeCards(out, handler.getDeck().getAllCards());
+
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads a game written by encode.
+     *
+     * @param data the encoded game
+     * @return the game
+     * @throws IOException if the data is not a game of a known version, or is incomplete
+     */
+    public static GameHandler decode(byte[] data) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+
+        if (in.readUnsignedByte() != MAGIC_0 || in.readUnsignedByte() != MAGIC_1) {
+            throw new IOException("Not a saved game");
+        }
+        int version = in.readUnsignedByte();
+        if (version > VERSION) {
+            throw new IOException("Unsupported save version " + version);
+        }
+        int flags = in.readUnsignedByte();
+        long journalSequence = in.readLong();
+        Player human = new Player(in.readUTF());
+        Player machine = new Player(in.readUTF());
+        String strategyName = version >= 2 ? in.readUTF() : "";
+        for (Card card : readCards(in)) {
+            human.addCard(card);
+        }
+        for (Card card : readCards(in)) {
+            machine.addCard(card);
+        }
+        Table table = new Table();
+        for (Card card : readCards(in)) {
+            table.addCardOnTheTable(card);
+        }
+        Deck deck = new Deck(readCards(in));
+
+        GameHandler handler = new GameHandler(human, machine, deck, table,
+                (flags & IA_SAID_UNO) != 0, (flags & HUMAN_TURN) != 0, (flags & HUMAN_SAID_UNO) != 0);
+        String winner = (flags & HUMAN_WON) != 0 ? "HUMAN" : (flags & MACHINE_WON) != 0 ? "MACHINE" : null;
+        handler.restoreResult((flags & GAME_ENDED) != 0, winner);
+        handler.setJournalSequence(journalSequence);
+        handler.setMachineStrategyName(strategyName.isEmpty() ? null : strategyName);
+        return handler;
+    }
+
+    private static int flagsOf(GameHandler handler) {
+        int flags = 0;
+        if (handler.getHumanTurn()) flags |= HUMAN_TURN;
+        if (handler.getHumanSaidUno()) flags |= HUMAN_SAID_UNO;
+        if (handler.getIASaidUno()) flags |= IA_SAID_UNO;
+        if (handler.isGameEnded()) flags |= GAME_ENDED;
+        if ("HUMAN".equals(handler.getWinner())) flags |= HUMAN_WON;
+        if ("MACHINE".equals(handler.getWinner())) flags |= MACHINE_WON;
+        return flags;
+    }
+
+    private static void writeCards(DataOutputStream out, List<Card> cards) throws IOException {
+        if (cards.size() > 255) {
+            throw new IOException("Too many cards in a pile: " + cards.size());
+        }
+        out.writeByte(cards.size());
+        for (Card card : cards) {
+            out.writeByte(cardByte(card));
+        }
+    }
+
+    private static List<Card> readCards(DataInputStream in) throws IOException {
+        int count = in.readUnsignedByte();
+        List<Card> cards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            cards.add(card(in.readUnsignedByte()));
+        }
+        return cards;
+    }
+
+    /**
+     * Returns the byte of a card: its id, or the chosen color of a colored wild or +4 card.
+     */
+    private static int cardByte(Card card) {
+        int id = card.getId();
+        int color = card.getColorIndex();
+        if ((id == WILD_ID || id == PLUS_FOUR_ID) && color != CardCatalog.NO_COLOR) {
+            return COLORED_WILD + (id == PLUS_FOUR_ID ? CardCatalog.COLORS.length : 0) + color;
+        }
+        return id;
+    }
+
+    /**
+     * Creates the card written as the given byte.
+     */
+    private static Card card(int value) throws IOException {
+        if (value < CardCatalog.CARD_COUNT) {
+            return CardCatalog.createCard(value);
+        }
+        int colored = value - COLORED_WILD;
+        if (colored < 0 || colored >= 2 * CardCatalog.COLORS.length) {
+            throw new IOException("Invalid card " + value);
+        }
+        int colors = CardCatalog.COLORS.length;
+        Card card = CardCatalog.createCard(colored < colors ? WILD_ID : PLUS_FOUR_ID);
+        card.setColor(CardCatalog.COLORS[colored % colors]);
+        return card;
+    }
+}
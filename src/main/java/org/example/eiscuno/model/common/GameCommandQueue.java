@@ -0,0 +1,104 @@
+package org.example.eiscuno.model.common;
+
+// Imports
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * GameCommandQueue is the only writer of a game.
+ * Every change to the GameHandler is submitted as a command and the commands run one after
+ * the other on a single thread owned by the game, so they never overlap and each one sees the
+ * changes of the previous ones. The listeners of the game are notified on that same thread.
+ * The UI, the machine player and the timers only submit commands; none of them change the game directly.
+ */
+public class GameCommandQueue {
+
+    private final GameHandler gameHandler;
+    private final ExecutorService executor;
+    private volatile Thread engineThread;
+
+    /**
+     * Constructs the command queue of a game and starts its thread.
+     *
+     * @param gameHandler the game changed by the commands
+     */
+    public GameCommandQueue(GameHandler gameHandler) {
+        this.gameHandler = gameHandler;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "GameEngine");
+            thread.setDaemon(true);
+            engineThread = thread;
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the game changed by the commands.
+     *
+     * @return the game handler
+     */
+    public GameHandler getHandler() {
+        return gameHandler;
+    }
+
+    /**
+     * Submits a command that changes the game.
+     * An exception thrown by the command is printed and completes the returned future,
+     * the next commands still run.
+     *
+     * @param command the command to run on the game thread
+     * @return a future completed when the command has run
+     */
+    public CompletableFuture<Void> execute(Runnable command) {
+        return submit(() -> {
+            command.run();
+            return null;
+        });
+    }
+
+    /**
+     * Submits a command that changes the game and returns a result.
+     * If the queue has been shut down the command does not run and the future fails.
+     *
+     * @param command the command to run on the game thread
+     * @param <T> the type of the result
+     * @return a future completed with the result of the command
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> command) {
+        try {
+            return CompletableFuture.supplyAsync(command, executor).whenComplete((result, error) -> {
+                if (error != null) {
+                    error.printStackTrace();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Checks if the calling thread is the thread that runs the commands.
+     *
+     * @return true if called from a command or from a listener of the game
+     */
+    public boolean isEngineThread() {
+        return Thread.currentThread() == engineThread;
+    }
+
+    /**
+     * Stops accepting commands and waits briefly for the ones already submitted.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        if (isEngineThread()) return;
+        try {
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
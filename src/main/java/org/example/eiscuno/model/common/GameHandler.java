@@ -1,42 +1,73 @@
 package org.example.eiscuno.model.common;
 
 // Imports
-import javafx.application.Platform;
 import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCatalog;
 import org.example.eiscuno.model.deck.Deck;
 import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.strategy.GameView;
+import org.example.eiscuno.model.strategy.GreedyStrategy;
+import org.example.eiscuno.model.strategy.MachineStrategy;
+import org.example.eiscuno.model.strategy.SeatView;
 import org.example.eiscuno.model.table.Table;
-import org.example.eiscuno.view.DialogManager;
 
-import java.io.Serializable;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.random.RandomGenerator;
 
 /**
  * Handles the game logic and state for the EISC Uno game.
  * This class manages players, deck, table, and game flow.
+ * It does not depend on JavaFX: every change is reported to the registered {@link GameListener}s,
+ * and the UI is just one of them.
  */
-public class GameHandler implements Serializable {
+public class GameHandler {
 
     private final Player humanPlayer;
     private final Player machinePlayer;
     private final Deck deck;
     private final Table table;
-    private transient Runnable updateVisualCallback;
-    private transient Runnable resetCardScroll;
+    private final List<GameListener> listeners = new CopyOnWriteArrayList<>();
 
     private boolean iaSaidUno;
-    private boolean isHumanTurn;
+    private volatile boolean isHumanTurn;
     private boolean humanSaidUno;
-    private boolean gameEnded;
+    private volatile boolean gameEnded;
+
+    // Monitor notified on every change of turn, so the machine can wait for its turn without polling
+    private final Object turnMonitor = new Object();
+
+    // Completed with the winner the first time the game ends
+    private final CompletableFuture<String> result = new CompletableFuture<>();
+
+    // Last visible state published for the view, replaced after every change once a view is attached
+    private final AtomicReference<GameSnapshot> snapshot = new AtomicReference<>();
+    private volatile boolean snapshotsEnabled;
 
     private String winner;
 
-    private transient ColorChooser colorChooser;
+    // Sequence number of the last move written to the GameJournal for this state
+    private long journalSequence;
+
+    private ColorChooser colorChooser;
+
+    // Generator of the random choices of the rules, or null to use the generator of the current thread
+    private RandomGenerator random;
+
+    // Strategies and views of the two seats, index 0 for the human seat and 1 for the machine seat
+    private MachineStrategy[] strategies;
+    private GameView[] views;
+
+    // Name of the strategy chosen for the machine player, saved with the game so it is resumed at the same level
+    private String machineStrategyName;
 
     /**
      * Constructs a GameHandler with the specified players, deck, table, and game state.
      *
-
      * @param human The human player.
      * @param machine The machine player.
      * @param deck The deck of cards.
@@ -44,16 +75,12 @@ public class GameHandler implements Serializable {
      * @param iaSaidUno Indicates if the AI has said UNO.
      * @param isHumanTurn Indicates if it's the human player's turn.
      * @param humanSaidUno Indicates if the human player has said UNO.
-     * @param updateVisualCallback Callback to update the visual representation of the game.
-     * @param resetCardScroll Callback to reset card scrolling in the UI.
      */
-    public GameHandler(Player human, Player machine, Deck deck, Table table, boolean iaSaidUno, boolean isHumanTurn, boolean humanSaidUno, Runnable updateVisualCallback, Runnable resetCardScroll) {
+    public GameHandler(Player human, Player machine, Deck deck, Table table, boolean iaSaidUno, boolean isHumanTurn, boolean humanSaidUno) {
         this.humanPlayer = human;
         this.machinePlayer = machine;
         this.deck = deck;
         this.table = table;
-        this.updateVisualCallback = updateVisualCallback;
-        this.resetCardScroll = resetCardScroll;
         this.iaSaidUno = iaSaidUno;
         this.isHumanTurn = isHumanTurn;
         this.humanSaidUno = humanSaidUno;
@@ -64,16 +91,32 @@ public class GameHandler implements Serializable {
     /**
      * Creates a new game with default players, deck, and table.
      *
-     * @param updateVisualCallback Callback to update the visual representation of the game.
-     * @param resetCardScroll Callback to reset card scrolling in the UI.
      * @return A new instance of GameHandler.
      */
-    public static GameHandler createNewGame(Runnable updateVisualCallback, Runnable resetCardScroll) {
+    public static GameHandler createNewGame() {
         Player human = new Player("HUMAN_PLAYER");
         Player machine = new Player("MACHINE_PLAYER");
         Deck deck = new Deck();
         Table table = new Table();
-        GameHandler handler = new GameHandler(human, machine, deck, table, false, true, false, updateVisualCallback, resetCardScroll);
+        GameHandler handler = new GameHandler(human, machine, deck, table, false, true, false);
+        handler.startGame();
+        return handler;
+    }
+
+    /**
+     * Creates a new game whose shuffles and random colors come from the given generator.
+     * Games created with generators seeded the same way are played the same way.
+     *
+     * @param random The random generator of the game, which must not be shared with other threads.
+     * @return A new instance of GameHandler.
+     */
+    public static GameHandler createNewGame(RandomGenerator random) {
+        Player human = new Player("HUMAN_PLAYER");
+        Player machine = new Player("MACHINE_PLAYER");
+        Deck deck = new Deck(random);
+        Table table = new Table();
+        GameHandler handler = new GameHandler(human, machine, deck, table, false, true, false);
+        handler.setRandom(random);
         handler.startGame();
         return handler;
     }
@@ -81,7 +124,8 @@ public class GameHandler implements Serializable {
     /**
      * Starts the game by dealing cards to players and setting the initial card on the table.
      * Deals 5 cards to the human player and 5 cards to the machine player.
-     * The initial card on the table is a non-special card.
+     * The initial card on the table is a non-special card; the special cards drawn while looking
+     * for it are shuffled back into the deck, so no card leaves the game.
      */
     public void startGame() {
         for (int i = 0; i < 10; i++) {
@@ -93,40 +137,46 @@ public class GameHandler implements Serializable {
         }
 
         // Set the initial card on the table, ensuring it's not a special card
-        Card initialCard;
-        do {
+        List<Card> specialCards = new ArrayList<>();
+        Card initialCard = deck.takeCard();
+        while (initialCard.isSpecial()) {
+            specialCards.add(initialCard);
             initialCard = deck.takeCard();
-        } while (initialCard.isSpecial());
+        }
         table.addCardOnTheTable(initialCard);
+        if (!specialCards.isEmpty()) {
+            deck.recycle(specialCards);
+        }
+        publishSnapshot();
     }
 
     /**
      * Eats a specified number of cards from the deck and adds them to the player's hand.
-     * If the deck is empty, it refills the deck with cards in use before taking cards.
+     * If the deck is empty, the cards played on the table, except the top one, are shuffled back into it.
+     * If there are still no cards, every card is in a hand and the player takes fewer cards.
      * @param player The player who will receive the cards.
      * @param numberOfCards The number of cards to take from the deck.
      */
     public void eatCard(Player player, int numberOfCards) {
+        int cardsTaken = 0;
         for (int i = 0; i < numberOfCards; i++) {
-            try {
-                player.addCard(deck.takeCard());
-                Platform.runLater(() -> {
-                    if(resetCardScroll != null) resetCardScroll.run();
-                    updateVisualCallback.run();
-                });
-                GameSaver.save(this);
-            } catch (IllegalStateException e) {
-                // If the deck is empty, refill it and try again
-                List<Card> inUse = new ArrayList<>();
-                deck.refillDeck(inUse);
-                player.addCard(deck.takeCard());
-                Platform.runLater(() -> {
-                    if(resetCardScroll != null) resetCardScroll.run();
-                    updateVisualCallback.run();
-                });
-                GameSaver.save(this);
+            if (deck.isEmpty()) {
+                List<Card> discarded = table.takeDiscardedCards();
+                deck.recycle(discarded);
+                for (GameListener listener : listeners) {
+                    listener.onDeckRecycled(discarded.size());
+                }
+            }
+            if (deck.isEmpty()) {
+                break;
             }
+            player.addCard(deck.takeCard());
+            cardsTaken++;
         }
+        for (GameListener listener : listeners) {
+            listener.onCardsDrawn(player, cardsTaken);
+        }
+        fireStateChanged();
     }
 
     /**
@@ -149,7 +199,6 @@ public class GameHandler implements Serializable {
         }
 
         playCard(humanPlayer, card);
-        PlayerStatsManager.updateStats(false, 1, true);
 
         applyCardEffectAndTurn(card, true);
 
@@ -161,7 +210,7 @@ public class GameHandler implements Serializable {
         }
 
         if (onFinish != null) {
-            Platform.runLater(onFinish);
+            onFinish.run();
         }
 
         return true;
@@ -195,26 +244,23 @@ public class GameHandler implements Serializable {
      */
     public boolean hasPlayableCard(Player player) {
         Card topCard = table.getCurrentCardOnTheTable();
-        for (Card card : player.getCardsPlayer()) {
-            if (card.canBePlayedOn(topCard)) {
-                return true;
-            }
-        }
-        return false;
+        return player.getHand().hasPlayableCard(topCard.getId(), topCard.getColorIndex());
     }
 
     /**
      * Plays a card from the player's hand and updates the game state.
-     * The card is added to the table, removed from the player's hand, and the visual representation is updated.
+     * The card is added to the table, removed from the player's hand, and the listeners are notified.
      *
      * @param player The player who is playing the card.
      * @param card The card to be played.
      */
     public void playCard(Player player, Card card) {
         table.addCardOnTheTable(card);
-        player.getCardsPlayer().remove(card);
-        Platform.runLater(updateVisualCallback);
-        GameSaver.save(this);
+        player.removeCard(card);
+        for (GameListener listener : listeners) {
+            listener.onCardPlayed(player, card);
+        }
+        fireStateChanged();
     }
 
     /**
@@ -227,40 +273,31 @@ public class GameHandler implements Serializable {
      */
     public void applyCardEffectAndTurn(Card card, boolean playedByHuman) {
         if (card.isPlusTwo()) {
-            if (playedByHuman) {
-                machinePlayer.addCards(deck.takeCards(2));
-            } else {
-                humanPlayer.addCards(deck.takeCards(2));
-            }
+            eatCard(playedByHuman ? machinePlayer : humanPlayer, 2);
 
-            DialogManager.showInfoDialog("+2 Jugado", "Se repite el turno!");
-            GamePauseManager.getInstance().pauseGame();
+            fireTurnRepeated(card, playedByHuman);
 
         } else if (card.isPlusFour() || card.isWildCard()) {
             if(card.isPlusFour()) {
-                if (playedByHuman) {
-                    machinePlayer.addCards(deck.takeCards(4));
-                } else {
-                    humanPlayer.addCards(deck.takeCards(4));
-                }
+                eatCard(playedByHuman ? machinePlayer : humanPlayer, 4);
 
-                DialogManager.showInfoDialog("+4 Jugado", "Se repite el turno!");
-                GamePauseManager.getInstance().pauseGame();
+                fireTurnRepeated(card, playedByHuman);
             }
 
-            // Default choosse a random color for wild cards
-            // If played by human, use the color chooser to select a color
-            String[] colors = {"RED", "GREEN", "BLUE", "YELLOW"};
-            String newColor = colors[new Random().nextInt(colors.length)];
-
-            if (playedByHuman) {
+            // The human player chooses the color in the UI; otherwise the strategy of the seat chooses it
+            String newColor;
+            if (playedByHuman && colorChooser != null) {
                 newColor = colorChooser.chooseColor();
+            } else {
+                newColor = CardCatalog.COLORS[getStrategy(playedByHuman).chooseColor(getView(playedByHuman), card.getId())];
             }
 
             card.setColor(newColor);
+            for (GameListener listener : listeners) {
+                listener.onColorChosen(card, newColor);
+            }
         } else if(card.isSkipOrReverse()) {
-            DialogManager.showInfoDialog("Skip / Block jugado", "Se repite el turno!");
-            GamePauseManager.getInstance().pauseGame();
+            fireTurnRepeated(card, playedByHuman);
         }
 
         if (card.isSkipOrReverse() || card.isPlusTwo() || card.isPlusFour()) {
@@ -270,41 +307,150 @@ public class GameHandler implements Serializable {
         } else {
             isHumanTurn = !playedByHuman;
         }
+        signalTurnChange();
 
-        GameSaver.save(this);
+        fireStateChanged();
     }
 
     /**
-     * Sets the color chooser for selecting colors when playing wild cards
+     * Sets the color chooser for selecting colors when playing wild cards.
+     * If no color chooser is set, the strategy of the human seat chooses the color too.
      * @param colorChooser The ColorChooser instance to set.
      */
     public void setColorChooser(ColorChooser colorChooser) {
         this.colorChooser = colorChooser;
     }
 
+    /**
+     * Sets the random generator used for the random choices of the rules, such as the color of a wild card.
+     * @param random The random generator, or null to use the generator of the current thread.
+     */
+    public void setRandom(RandomGenerator random) {
+        this.random = random;
+    }
+
+    /**
+     * Returns the random generator used for the random choices of the rules.
+     * @return The generator of the game, or the generator of the current thread if it has none.
+     */
+    public RandomGenerator getRandom() {
+        return random != null ? random : ThreadLocalRandom.current();
+    }
+
+    /**
+     * Sets the strategy that plays a seat. The machine seat plays with it in the game, and
+     * the human seat only in simulations; in the UI the human player chooses its own moves.
+     * Strategies are not saved with the game, a loaded game uses the GreedyStrategy again;
+     * only the name set with setMachineStrategyName is saved.
+     * @param humanSeat True for the seat of the human player, false for the machine player.
+     * @param strategy The strategy of the seat.
+     */
+    public void setStrategy(boolean humanSeat, MachineStrategy strategy) {
+        strategies()[humanSeat ? 0 : 1] = strategy;
+    }
+
+    /**
+     * Sets the name of the strategy chosen for the machine player. The name is saved with the game,
+     * so a resumed game is played with the same strategy; the strategy itself is set with setStrategy.
+     * @param machineStrategyName The name of the strategy, or null if none was chosen.
+     */
+    public void setMachineStrategyName(String machineStrategyName) {
+        this.machineStrategyName = machineStrategyName;
+    }
+
+    /**
+     * Returns the name of the strategy chosen for the machine player.
+     * @return The name of the strategy, or null if none was chosen, as in a game saved before the names were saved.
+     */
+    public String getMachineStrategyName() {
+        return machineStrategyName;
+    }
+
+    /**
+     * Returns the strategy that plays a seat, the GreedyStrategy unless another one was set.
+     * @param humanSeat True for the seat of the human player, false for the machine player.
+     * @return The strategy of the seat.
+     */
+    public MachineStrategy getStrategy(boolean humanSeat) {
+        return strategies()[humanSeat ? 0 : 1];
+    }
+
+    /**
+     * Returns the read-only view of the game seen from a seat, given to its strategy.
+     * @param humanSeat True for the seat of the human player, false for the machine player.
+     * @return The view of the seat, the same instance for the whole game.
+     */
+    public GameView getView(boolean humanSeat) {
+        if (views == null) {
+            views = new GameView[] {new SeatView(this, true), new SeatView(this, false)};
+        }
+        return views[humanSeat ? 0 : 1];
+    }
+
+    private MachineStrategy[] strategies() {
+        if (strategies == null) {
+            strategies = new MachineStrategy[] {new GreedyStrategy(), new GreedyStrategy()};
+        }
+        return strategies;
+    }
+
     /**
      * Checks if there is a winner in the game.
      * If the human player has no cards left, they win.
      * If the machine player has no cards left, they win.
      * Updates the game state accordingly and returns the winner.
+     * The listeners are notified and the result is completed only the first time a winner is found.
      *
      * @return The type of the winner ("HUMAN" or "MACHINE"), or null if no winner yet.
      */
     public String checkWinner() {
+        boolean wasEnded = gameEnded;
         if (humanPlayer.getCardsPlayer().isEmpty()) {
             gameEnded = true;
             winner = "HUMAN";
-            PlayerStatsManager.updateStats(true, 0, false);
         } else if (machinePlayer.getCardsPlayer().isEmpty()) {
             gameEnded = true;
             winner = "MACHINE";
-            PlayerStatsManager.updateStats(false, 0, false);
         } else {
             winner = null; // No winner yet
         }
+
+        if (gameEnded && !wasEnded) {
+            publishSnapshot();
+            signalTurnChange();
+            for (GameListener listener : listeners) {
+                listener.onGameEnded(winner);
+            }
+            result.complete(winner);
+        }
         return winner;
     }
 
+    /**
+     * Restores the result of a game read from a save.
+     *
+     * @param gameEnded Indicates if the game had already ended.
+     * @param winner The type of the winner ("HUMAN" or "MACHINE"), or null if there is none.
+     */
+    void restoreResult(boolean gameEnded, String winner) {
+        this.gameEnded = gameEnded;
+        this.winner = winner;
+        if (gameEnded) {
+            result.complete(winner);
+        }
+    }
+
+    /**
+     * Returns the result of the game, completed with the type of the winner ("HUMAN" or "MACHINE")
+     * as soon as a winner is found, so the end of the game can be handled without polling.
+     * For a game that has already ended it is completed from the start.
+     *
+     * @return The result of the game.
+     */
+    public CompletionStage<String> whenGameEnded() {
+        return result.minimalCompletionStage();
+    }
+
     /**
      * Gets the last card played by the specified player.
      *
@@ -341,7 +487,10 @@ public class GameHandler implements Serializable {
     }
 
     public void setIASaidUno(boolean iaSaidUno) {
-        this.iaSaidUno = iaSaidUno;
+        if (this.iaSaidUno != iaSaidUno) {
+            this.iaSaidUno = iaSaidUno;
+            fireStateChanged();
+        }
     }
 
     public boolean getHumanSaidUno() {
@@ -349,30 +498,155 @@ public class GameHandler implements Serializable {
     }
 
     public void setHumanSaidUno(boolean humanSaidUno) {
-        this.humanSaidUno = humanSaidUno;
+        if (this.humanSaidUno != humanSaidUno) {
+            this.humanSaidUno = humanSaidUno;
+            fireStateChanged();
+        }
     }
 
     public boolean getHumanTurn() {
         return isHumanTurn;
     }
 
-    public void setUpdateVisualCallback(Runnable updateVisualCallback) {
-        this.updateVisualCallback = updateVisualCallback;
+    /**
+     * Registers a listener to be notified of the game events.
+     * Listeners are not saved with the game, so they must be registered again after loading a game.
+     *
+     * @param listener The listener to add.
+     */
+    public void addGameListener(GameListener listener) {
+        listeners.add(listener);
     }
 
-    public void setResetCardScroll(Runnable resetCardScroll) {
-        this.resetCardScroll = resetCardScroll;
+    /**
+     * Removes a previously registered listener.
+     *
+     * @param listener The listener to remove.
+     */
+    public void removeGameListener(GameListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Notifies the listeners that a card made the same player repeat the turn.
+     */
+    private void fireTurnRepeated(Card card, boolean playedByHuman) {
+        for (GameListener listener : listeners) {
+            listener.onTurnRepeated(card, playedByHuman);
+        }
+    }
+
+    /**
+     * Publishes a snapshot of the current state, when enabled, and notifies the listeners that it has changed.
+     */
+    private void fireStateChanged() {
+        publishSnapshot();
+        for (GameListener listener : listeners) {
+            listener.onStateChanged();
+        }
     }
 
     public void passTurnToHuman() {
-        isHumanTurn = true;
+        if (!isHumanTurn) {
+            isHumanTurn = true;
+            signalTurnChange();
+            fireStateChanged();
+        }
     }
 
     public void passTurnToMachine() {
-        isHumanTurn = false;
+        if (isHumanTurn) {
+            isHumanTurn = false;
+            signalTurnChange();
+            fireStateChanged();
+        }
+    }
+
+    /**
+     * Publishes a snapshot of the visible state now and after every change from now on.
+     * It is called by the view when it is attached, before the game thread starts;
+     * games without a view, like the simulated ones, never copy their state.
+     */
+    public void enableSnapshots() {
+        snapshotsEnabled = true;
+        snapshot.set(createSnapshot());
+    }
+
+    /**
+     * Returns the last published snapshot of the visible state.
+     * Once the snapshots are enabled it can be called from any thread without locking; the snapshot never changes.
+     * Before that a new snapshot is copied on every call, so it must be called by the thread that changes the game.
+     *
+     * @return The current snapshot of the game.
+     */
+    public GameSnapshot getSnapshot() {
+        GameSnapshot current = snapshot.get();
+        return current != null ? current : createSnapshot();
+    }
+
+    /**
+     * Copies the visible state into a new snapshot and publishes it, if a view has enabled the snapshots.
+     * It must be called by the thread that changes the game, after each change.
+     */
+    private void publishSnapshot() {
+        if (snapshotsEnabled) {
+            snapshot.set(createSnapshot());
+        }
+    }
+
+    private GameSnapshot createSnapshot() {
+        List<Card> tableCards = table.getCards();
+        return new GameSnapshot(
+                humanPlayer.getCardsPlayer(),
+                machinePlayer.getCardsPlayer().size(),
+                tableCards.isEmpty() ? null : tableCards.get(tableCards.size() - 1),
+                isHumanTurn, humanSaidUno, iaSaidUno, gameEnded);
+    }
+
+    /**
+     * Blocks the calling thread until it is the machine's turn or the game has ended.
+     * The thread is woken by the turn changes themselves, so it uses no CPU while it waits.
+     *
+     * @return true if it is the machine's turn, false if the game has ended.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    public boolean awaitMachineTurn() throws InterruptedException {
+        synchronized (turnMonitor) {
+            while (isHumanTurn && !gameEnded) {
+                turnMonitor.wait();
+            }
+        }
+        return !gameEnded;
+    }
+
+    /**
+     * Wakes up the threads waiting for a change of turn.
+     */
+    private void signalTurnChange() {
+        synchronized (turnMonitor) {
+            turnMonitor.notifyAll();
+        }
+    }
+
+    /**
+     * Returns the sequence number of the last journal record included in this state.
+     * A snapshot of the game only needs the records written after this number.
+     *
+     * @return The journal sequence number.
+     */
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+
+    public void setJournalSequence(long journalSequence) {
+        this.journalSequence = journalSequence;
     }
 
     public boolean isGameEnded() {
         return gameEnded;
     }
+
+    public String getWinner() {
+        return winner;
+    }
 }
\ No newline at end of file
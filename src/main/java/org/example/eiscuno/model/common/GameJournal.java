@@ -0,0 +1,369 @@
+package org.example.eiscuno.model.common;
+
+// Imports
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCatalog;
+import org.example.eiscuno.model.player.Player;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * GameJournal saves a game as a snapshot plus the list of moves made after it.
+ * Every draw, play, color choice, deck recycle and change of the turn or UNO flags is appended
+ * to the journal file as a fixed-size record, so a move costs one tiny write instead of
+ * serializing the whole game. Every snapshotInterval records the game is serialized on the
+ * thread that made the move, right after a draw or a play has been recorded, where the state
+ * matches the journal, and the snapshot is written in the background by a GameSaveService.
+ * Changes of the flags can be reported in the middle of a move, before its cards are recorded,
+ * so they never take a snapshot. Once it is on disk the records it includes are dropped.
+ *
+ * Record layout (RECORD_SIZE bytes): sequence number (long), type, player, card id, value,
+ * and the CRC32 of the previous 12 bytes (int). The game keeps the sequence number of the last
+ * record it includes, so loading replays only the records written after the snapshot.
+ */
+public class GameJournal implements GameListener {
+
+    /** Size in bytes of every record of the journal. */
+    public static final int RECORD_SIZE = 16;
+
+    /** Default number of records between two snapshots. */
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 64;
+
+    // Record types
+    static final byte DRAW = 1;
+    static final byte PLAY = 2;
+    static final byte COLOR = 3;
+    static final byte RECYCLE = 4;
+    static final byte STATE = 5;
+
+    // Players of a record
+    private static final byte HUMAN = 0;
+    private static final byte MACHINE = 1;
+
+    // Bits of the value of a STATE record
+    private static final int HUMAN_TURN = 1;
+    private static final int HUMAN_SAID_UNO = 2;
+    private static final int IA_SAID_UNO = 4;
+
+    private final GameHandler handler;
+    private final FileChannel channel;
+    private final Consumer<byte[]> snapshotWriter;
+    private final GameSaveService snapshotService;
+    private final int snapshotInterval;
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+    private final CRC32 crc = new CRC32();
+
+    private long lastSequence;
+    private long writePosition;
+    private int recordsSinceSnapshot;
+    private int lastFlags;
+    private byte[] pendingSnapshot;
+    private long pendingSnapshotSequence;
+    private boolean closed;
+
+    /**
+     * Opens the journal of a game.
+     * A snapshot of the current state is written right away and the journal file is emptied,
+     * so the journal always starts right after the last snapshot.
+     *
+     * @param handler the game to record
+     * @param journalFile the file where the records are appended
+     * @param snapshotWriter writes a serialized snapshot, for example GameSaver::writeSnapshot
+     * @param snapshotInterval the number of records between two snapshots
+     * @throws IOException if the journal file cannot be opened
+     */
+    public GameJournal(GameHandler handler, File journalFile, Consumer<byte[]> snapshotWriter,
+                       int snapshotInterval) throws IOException {
+        this.handler = handler;
+        this.snapshotWriter = snapshotWriter;
+        this.snapshotInterval = snapshotInterval;
+        this.lastSequence = handler.getJournalSequence();
+        this.lastFlags = flagsOf(handler);
+
+        snapshotWriter.accept(GameSaver.serialize(handler));
+        this.channel = FileChannel.open(journalFile.toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        channel.truncate(0);
+
+        this.snapshotService = new GameSaveService(this::writePendingSnapshot, 0);
+    }
+
+    /**
+     * Rebuilds the moves made after a snapshot by replaying the journal on the loaded game.
+     * Records already included in the snapshot are skipped. Replay stops at the first record
+     * that is torn, corrupt, out of sequence or that cannot be applied.
+     *
+     * @param handler the game loaded from the snapshot
+     * @param journalFile the journal file
+     * @return the number of records replayed
+     * @throws IOException if the journal file cannot be read
+     */
+    public static int replay(GameHandler handler, File journalFile) throws IOException {
+        if (!journalFile.exists()) return 0;
+
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(journalFile.toPath()));
+        CRC32 crc = new CRC32();
+        int replayed = 0;
+        while (buffer.remaining() >= RECORD_SIZE) {
+            int start = buffer.position();
+            long sequence = buffer.getLong();
+            byte type = buffer.get();
+            byte player = buffer.get();
+            int cardId = buffer.get() & 0xFF;
+            int value = buffer.get() & 0xFF;
+            int checksum = buffer.getInt();
+
+            crc.reset();
+            crc.update(buffer.array(), start, RECORD_SIZE - Integer.BYTES);
+            if ((int) crc.getValue() != checksum) break;
+
+            if (sequence <= handler.getJournalSequence()) continue;
+            if (sequence != handler.getJournalSequence() + 1) break;
+            if (!apply(handler, type, player, cardId, value)) break;
+
+            handler.setJournalSequence(sequence);
+            replayed++;
+        }
+        return replayed;
+    }
+
+    @Override
+    public synchronized void onCardsDrawn(Player player, int numberOfCards) {
+        List<Card> cards = player.getCardsPlayer();
+        for (int i = cards.size() - numberOfCards; i < cards.size(); i++) {
+            append(DRAW, playerOf(player), cards.get(i).getId(), 0);
+        }
+        snapshotIfDue();
+    }
+
+    @Override
+    public synchronized void onCardPlayed(Player player, Card card) {
+        append(PLAY, playerOf(player), card.getId(), 0);
+        snapshotIfDue();
+    }
+
+    @Override
+    public synchronized void onColorChosen(Card card, String color) {
+        append(COLOR, HUMAN, card.getId(), CardCatalog.colorIndex(color));
+    }
+
+    @Override
+    public synchronized void onDeckRecycled(int numberOfCards) {
+        append(RECYCLE, HUMAN, 0, 0);
+    }
+
+    /**
+     * Records the turn and UNO flags if they changed.
+     * A STATE record holds the whole flags, so replaying it on a snapshot that already has them changes nothing.
+     */
+    @Override
+    public synchronized void onStateChanged() {
+        int flags = flagsOf(handler);
+        if (flags != lastFlags) {
+            lastFlags = flags;
+            append(STATE, HUMAN, 0, flags);
+        }
+    }
+
+    /**
+     * Stops recording when the game ends, since its save is going to be deleted.
+     */
+    @Override
+    public void onGameEnded(String winner) {
+        snapshotService.discard();
+        synchronized (this) {
+            closeChannel();
+        }
+    }
+
+    /**
+     * Writes the pending snapshot and closes the journal file.
+     * Every move is already in the journal, so nothing is lost.
+     */
+    public void close() {
+        snapshotService.shutdown();
+        synchronized (this) {
+            closeChannel();
+        }
+    }
+
+    /**
+     * Appends one record to the journal and advances the sequence number of the game.
+     */
+    private void append(byte type, byte player, int cardId, int value) {
+        if (closed) return;
+
+        long sequence = lastSequence + 1;
+        record.clear();
+        record.putLong(sequence).put(type).put(player).put((byte) cardId).put((byte) value);
+        crc.reset();
+        crc.update(record.array(), 0, record.position());
+        record.putInt((int) crc.getValue());
+        record.flip();
+        try {
+            while (record.hasRemaining()) {
+                writePosition += channel.write(record, writePosition);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            return;
+        }
+
+        lastSequence = sequence;
+        handler.setJournalSequence(sequence);
+        recordsSinceSnapshot++;
+    }
+
+    /**
+     * Takes a snapshot if enough records were appended since the last one.
+     * Called only once every card moved by a draw or a play is in the journal.
+     */
+    private void snapshotIfDue() {
+        if (recordsSinceSnapshot >= snapshotInterval) {
+            takeSnapshot();
+        }
+    }
+
+    /**
+     * Serializes the game now and leaves the bytes for the background writer.
+     */
+    private void takeSnapshot() {
+        byte[] data;
+        try {
+            data = GameSaver.serialize(handler);
+        } catch (ConcurrentModificationException e) {
+            // Another thread is changing the game, try again after the next move
+            return;
+        }
+        if (data == null) return;
+
+        pendingSnapshot = data;
+        pendingSnapshotSequence = lastSequence;
+        recordsSinceSnapshot = 0;
+        snapshotService.markDirty();
+    }
+
+    /**
+     * Writes the last snapshot taken and drops the records it already includes.
+     * Runs on the GameSaveService thread, so moves keep being appended while the snapshot is written.
+     */
+    private void writePendingSnapshot() {
+        byte[] data;
+        long sequence;
+        synchronized (this) {
+            data = pendingSnapshot;
+            sequence = pendingSnapshotSequence;
+            pendingSnapshot = null;
+        }
+        if (data == null) return;
+
+        snapshotWriter.accept(data);
+
+        synchronized (this) {
+            if (!closed) {
+                compact(sequence);
+            }
+        }
+    }
+
+    /**
+     * Moves the records written after the given sequence number to the start of the journal
+     * and cuts the rest. If the application dies in the middle, the copied records are
+     * followed by older ones, which replay skips by their sequence number.
+     */
+    private void compact(long snapshotSequence) {
+        int keep = (int) (lastSequence - snapshotSequence) * RECORD_SIZE;
+        try {
+            if (keep > 0) {
+                ByteBuffer tail = ByteBuffer.allocate(keep);
+                while (tail.hasRemaining()) {
+                    if (channel.read(tail, writePosition - keep + tail.position()) < 0) return;
+                }
+                tail.flip();
+                long position = 0;
+                while (tail.hasRemaining()) {
+                    position += channel.write(tail, position);
+                }
+            }
+            channel.truncate(keep);
+            writePosition = keep;
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void closeChannel() {
+        if (closed) return;
+        closed = true;
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Applies one record to the game.
+     *
+     * @return true if the record could be applied, false if it does not match the game
+     */
+    private static boolean apply(GameHandler handler, byte type, byte playerCode, int cardId, int value) {
+        Player player = playerCode == MACHINE ? handler.getMachinePlayer() : handler.getHumanPlayer();
+        switch (type) {
+            case DRAW: {
+                Card card = handler.getDeck().takeCardById(cardId);
+                if (card == null) return false;
+                player.addCard(card);
+                return true;
+            }
+            case PLAY: {
+                Card card = player.getHand().findById(cardId);
+                if (card == null) return false;
+                handler.playCard(player, card);
+                return true;
+            }
+            case COLOR: {
+                Card top = handler.getCurrentCardOnTable();
+                if (top.getId() != cardId || value >= CardCatalog.COLORS.length) return false;
+                top.setColor(CardCatalog.COLORS[value]);
+                return true;
+            }
+            case RECYCLE:
+                handler.getDeck().recycle(handler.getTable().takeDiscardedCards());
+                return true;
+            case STATE:
+                if ((value & HUMAN_TURN) != 0) {
+                    handler.passTurnToHuman();
+                } else {
+                    handler.passTurnToMachine();
+                }
+                handler.setHumanSaidUno((value & HUMAN_SAID_UNO) != 0);
+                handler.setIASaidUno((value & IA_SAID_UNO) != 0);
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private byte playerOf(Player player) {
+        return player == handler.getMachinePlayer() ? MACHINE : HUMAN;
+    }
+
+    private static int flagsOf(GameHandler handler) {
+        int flags = 0;
+        if (handler.getHumanTurn()) flags |= HUMAN_TURN;
+        if (handler.getHumanSaidUno()) flags |= HUMAN_SAID_UNO;
+        if (handler.getIASaidUno()) flags |= IA_SAID_UNO;
+        return flags;
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.eiscuno.model.common;
+
+// Imports
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.player.Player;
+
+/**
+ * Listener interface for the events produced by the GameHandler.
+ * The game rules never talk to the UI, the disk or the pause manager directly,
+ * they only notify the registered listeners, so a game can run without JavaFX.
+ * Every method has an empty default implementation, so a listener only overrides what it needs.
+ * Events are delivered on the thread that changed the game state.
+ */
+public interface GameListener {
+
+    /**
+     * Called after a player has taken cards from the deck.
+     *
+     * @param player The player who received the cards.
+     * @param numberOfCards The number of cards taken.
+     */
+    default void onCardsDrawn(Player player, int numberOfCards) {}
+
+    /**
+     * Called after a card has been moved from a player's hand to the table.
+     *
+     * @param player The player who played the card.
+     * @param card The card that was played.
+     */
+    default void onCardPlayed(Player player, Card card) {}
+
+    /**
+     * Called after the discarded cards of the table have been shuffled back into the empty deck.
+     *
+     * @param numberOfCards The number of cards put back into the deck.
+     */
+    default void onDeckRecycled(int numberOfCards) {}
+
+    /**
+     * Called after a color has been chosen for a wild or +4 card.
+     *
+     * @param card The card that received the color.
+     * @param color The chosen color.
+     */
+    default void onColorChosen(Card card, String color) {}
+
+    /**
+     * Called when a +2, +4, skip or reverse card makes the same player repeat the turn.
+     *
+     * @param card The card that caused the repeated turn.
+     * @param playedByHuman Indicates if the card was played by the human player.
+     */
+    default void onTurnRepeated(Card card, boolean playedByHuman) {}
+
+    /**
+     * Called after every committed change of the game state.
+     * This is the point where a listener can persist the game.
+     */
+    default void onStateChanged() {}
+
+    /**
+     * Called once, when a player runs out of cards.
+     *
+     * @param winner The type of the winner ("HUMAN" or "MACHINE").
+     */
+    default void onGameEnded(String winner) {}
+}
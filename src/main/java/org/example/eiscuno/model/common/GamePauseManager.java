@@ -1,16 +1,18 @@
 package org.example.eiscuno.model.common;
 
 // Imports
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * GamePauseManager is a singleton class that manages the pause state of the game.
+ * GamePauseManager manages the pause state of one game.
  * It allows the game to be paused and resumed, and provides a mechanism for threads
  * to wait until the game is unpaused.
+ * Each GameSession has its own instance, so a dialog in one game never pauses another.
  */
 public class GamePauseManager {
-    private static final GamePauseManager INSTANCE = new GamePauseManager();
 
     // Lock to manage access to the pause state
     // and to coordinate between threads waiting for the game to be unpaused.
@@ -22,17 +24,8 @@ public class GamePauseManager {
     private final Condition unpaused = lock.newCondition();
     private volatile boolean paused = false;
 
-    // Private constructor to prevent instantiation
-    private GamePauseManager() {}
-
-    /**
-     * Returns the singleton instance of GamePauseManager.
-     *
-     * @return the singleton instance
-     */
-    public static GamePauseManager getInstance() {
-        return INSTANCE;
-    }
+    // Actions waiting for the game to be resumed, guarded by lock
+    private final List<Runnable> onResume = new ArrayList<>();
 
     /**
      * Pauses the game.
@@ -52,13 +45,39 @@ public class GamePauseManager {
      * This method sets the paused state to false and signals all waiting threads.
      */
     public void resumeGame() {
+        List<Runnable> actions;
         lock.lock();
         try {
             paused = false;
             unpaused.signalAll();
+            actions = new ArrayList<>(onResume);
+            onResume.clear();
+        } finally {
+            lock.unlock();
+        }
+        for (Runnable action : actions) {
+            action.run();
+        }
+    }
+
+    /**
+     * Runs an action now if the game is not paused, or when it is resumed otherwise.
+     * Unlike waitIfPaused, it never blocks the calling thread, so it can be used from timer threads.
+     * Actions delayed by a pause run on the thread that resumes the game.
+     *
+     * @param action the action to run
+     */
+    public void runWhenResumed(Runnable action) {
+        lock.lock();
+        try {
+            if (paused) {
+                onResume.add(action);
+                return;
+            }
         } finally {
             lock.unlock();
         }
+        action.run();
     }
 
     /*
@@ -0,0 +1,114 @@
+package org.example.eiscuno.model.common;
+
+// Imports
+import java.util.ConcurrentModificationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * GameSaveService saves the game in the background, merging bursts of changes into one write.
+ * Each change only marks the game as dirty. The first change after a write schedules the next
+ * write on a dedicated thread, maxDelayMillis later, and every change made in the meantime is
+ * saved by that same write. At most maxDelayMillis of moves can be lost if the application dies.
+ */
+public class GameSaveService {
+
+    /** Default time between a change and the write that saves it. */
+    public static final long DEFAULT_MAX_DELAY_MILLIS = 250;
+
+    private final Runnable writer;
+    private final long maxDelayMillis;
+    private final ScheduledExecutorService executor;
+
+    // True when there are changes that have not been written yet
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    // True when a write is already scheduled
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+    private volatile boolean closed = false;
+
+    /**
+     * Constructs a GameSaveService.
+     *
+     * @param writer the action that writes the game, for example () -> GameSaver.save(handler)
+     * @param maxDelayMillis the maximum time, in milliseconds, between a change and its write
+     */
+    public GameSaveService(Runnable writer, long maxDelayMillis) {
+        this.writer = writer;
+        this.maxDelayMillis = maxDelayMillis;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "GameSaveService");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Marks the game as changed. The change is written at most maxDelayMillis later.
+     * This method never blocks and never touches the disk.
+     */
+    public void markDirty() {
+        if (closed) return;
+        dirty.set(true);
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                executor.schedule(this::writeIfDirty, maxDelayMillis, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // The service has been shut down
+                scheduled.set(false);
+            }
+        }
+    }
+
+    /**
+     * Writes the pending changes now and waits until they are on disk.
+     */
+    public void flush() {
+        try {
+            executor.submit(this::writeIfDirty).get();
+        } catch (RejectedExecutionException e) {
+            // The service has been shut down, nothing else can be written
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Writes the pending changes and stops the background thread.
+     * Changes marked after this call are ignored.
+     */
+    public void shutdown() {
+        flush();
+        closed = true;
+        executor.shutdown();
+    }
+
+    /**
+     * Drops the pending changes and stops the background thread without writing.
+     * This is used when the game has ended and its save file is going to be deleted.
+     */
+    public void discard() {
+        closed = true;
+        dirty.set(false);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Writes the game if it has changes, always on the background thread.
+     */
+    private void writeIfDirty() {
+        scheduled.set(false);
+        if (!dirty.getAndSet(false)) return;
+        try {
+            writer.run();
+        } catch (ConcurrentModificationException e) {
+            // The game changed while it was being written, try again in the next window
+            markDirty();
+        }
+    }
+}
@@ -2,60 +2,168 @@ package org.example.eiscuno.model.common;
 
 // Imports
 import java.io.*;
+import java.nio.file.Files;
 
 /**
  * GameSaver is a utility class that handles saving and loading the game state.
- * It uses serialization to write the GameHandler object to a file and read it back.
+ * The save is made of a snapshot, the GameHandler written by GameCodec, and a GameJournal with
+ * the moves made after it. Loading reads the snapshot and replays the journal on top of it.
+ * The snapshot is kept in a SaveSlot, so a crash while saving never loses the previous snapshot.
  */
 public class GameSaver {
 
     // The file where the game state will be saved.
     private static final File SAVE_FILE = new File(PlayerStatsManager.getAppDataFolder(), "savegame.dat");
 
+    // The file where the moves made after the last snapshot are appended.
+    private static final File JOURNAL_FILE = new File(PlayerStatsManager.getAppDataFolder(), "savegame.journal");
+
+    // The slot of SAVE_FILE, opened on first use
+    private static SaveSlot slot;
+
+    // Private constructor to prevent instantiation
+    private GameSaver() {}
+
     /**
      * Saves the current game state to a file.
      *
      * @param handler the GameHandler object containing the game state
      */
     public static void save(GameHandler handler) {
-        try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(SAVE_FILE))) {
-            out.writeObject(handler);
+        writeSnapshot(serialize(handler));
+    }
+
+    /**
+     * Serializes the game state in memory, in the binary format of GameCodec.
+     *
+     * @param handler the GameHandler object containing the game state
+     * @return the serialized game, or null if it could not be serialized
+     */
+    public static byte[] serialize(GameHandler handler) {
+        try {
+            return GameCodec.encode(handler);
         } catch (IOException e) {
             e.printStackTrace();
+            return null;
         }
     }
 
     /**
-     * Loads the game state from a file.
+     * Rebuilds a game state serialized with {@link #serialize(GameHandler)}.
+     * Saves written with Java serialization by older versions are not valid games;
+     * the classes they hold have changed since, so a new game is started instead.
+     *
+     * @param data the serialized game
+     * @return the GameHandler, or null if the data is not a valid game
+     */
+    public static GameHandler deserialize(byte[] data) {
+        try {
+            return GameCodec.decode(data);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Writes a serialized game as the snapshot of the save.
+     *
+     * @param data the serialized game, nothing is written if it is null
+     */
+    public static void writeSnapshot(byte[] data) {
+        if (data == null) return;
+
+        try {
+            slot().write(data);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Loads the game state from the snapshot and replays the journaled moves made after it.
      *
      * @return the GameHandler object containing the loaded game state, or null if loading fails
      */
     public static GameHandler load() {
-        if (!SAVE_FILE.exists()) return null;
+        byte[] data = readSnapshot();
+        if (data == null) return null;
+
+        GameHandler handler = deserialize(data);
+        if (handler == null) return null;
 
-        try (ObjectInputStream in = new ObjectInputStream(new FileInputStream(SAVE_FILE))) {
-            return (GameHandler) in.readObject();
-        } catch (IOException | ClassNotFoundException e) {
+        try {
+            GameJournal.replay(handler, JOURNAL_FILE);
+        } catch (IOException e) {
+            // The snapshot alone is still a valid game
             e.printStackTrace();
-            return null;
         }
+        return handler;
     }
 
     /**
-     * Deletes the save file if it exists.
+     * Deletes the saved game and its journal.
+     * While the slot is open its file cannot always be deleted, so its saves are invalidated instead.
+     *
+     * @return true if no saved game is left, false otherwise
      */
-    public static void deleteSaveFile() {
-        if (SAVE_FILE.exists()) {
+    public static synchronized boolean deleteSaveFile() {
+        if (slot != null) {
+            slot.clear();
+        } else if (SAVE_FILE.exists()) {
             SAVE_FILE.delete();
         }
+        if (JOURNAL_FILE.exists()) {
+            JOURNAL_FILE.delete();
+        }
+        return !saveExists();
     }
 
     /**
-     * Checks if a save file exists.
+     * Checks if there is a saved game.
      *
-     * @return true if the save file exists, false otherwise
+     * @return true if a saved game exists, false otherwise
      */
     public static boolean saveExists() {
-        return SAVE_FILE.exists();
+        return readSnapshot() != null;
+    }
+
+    /**
+     * Reads the newest snapshot, either from the slot or from a save written by an older version.
+     *
+     * @return the serialized game, or null if there is none
+     */
+    private static synchronized byte[] readSnapshot() {
+        if (slot == null && !SAVE_FILE.exists()) return null;
+
+        try {
+            if (slot == null && !SaveSlot.isSlotFile(SAVE_FILE)) {
+                // Plain file written before the slot existed
+                return Files.readAllBytes(SAVE_FILE.toPath());
+            }
+            return slot().read();
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Returns the slot of the save file, opening it the first time.
+     */
+    private static synchronized SaveSlot slot() throws IOException {
+        if (slot == null) {
+            slot = SaveSlot.open(SAVE_FILE);
+        }
+        return slot;
+    }
+
+    /**
+     * Returns the file where the GameJournal of the current game is written.
+     *
+     * @return the journal file
+     */
+    public static File getJournalFile() {
+        return JOURNAL_FILE;
     }
 }
@@ -0,0 +1,86 @@
+package org.example.eiscuno.model.common;
+
+// Imports
+import org.example.eiscuno.model.threads.ThreadPlayMachine;
+import org.example.eiscuno.model.threads.UnoCalloutService;
+
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * GameSession owns everything that belongs to one running game: the GameHandler, its command queue,
+ * its pause state, its clock and the workers that play the machine's turns and the UNO callouts.
+ * Nothing in a session is shared with other sessions, so several games can run in the same process,
+ * each one paused and resumed on its own.
+ */
+public class GameSession {
+
+    private final GameHandler gameHandler;
+    private final GameCommandQueue commands;
+    private final GamePauseManager pauseManager = new GamePauseManager();
+    private final GameClock clock;
+
+    private UnoCalloutService unoCallout;
+    private ThreadPlayMachine threadPlayMachine;
+
+    /**
+     * Creates a session for a game, using the real time clock.
+     *
+     * @param gameHandler the game of the session
+     */
+    public GameSession(GameHandler gameHandler) {
+        this(gameHandler, GameClock.system());
+    }
+
+    /**
+     * Creates a session for a game.
+     *
+     * @param gameHandler the game of the session
+     * @param clock the clock used for the delays of the game
+     */
+    public GameSession(GameHandler gameHandler, GameClock clock) {
+        this.gameHandler = gameHandler;
+        this.clock = clock;
+        this.commands = new GameCommandQueue(gameHandler);
+    }
+
+    /**
+     * Starts the UNO callouts and the thread that plays the machine's turns.
+     *
+     * @param showUnoButtonCallback a callback to show or hide the UNO button, called on the game thread
+     * @param showMessageCallback a callback that tells the player about a UNO penalty or call, called on the game thread
+     */
+    public synchronized void start(Consumer<Boolean> showUnoButtonCallback, BiConsumer<String, String> showMessageCallback) {
+        unoCallout = new UnoCalloutService(commands, pauseManager, showUnoButtonCallback, showMessageCallback, clock);
+        unoCallout.start();
+        threadPlayMachine = new ThreadPlayMachine(commands, pauseManager, clock);
+        Thread machine = new Thread(threadPlayMachine, "ThreadPlayMachine");
+        machine.setDaemon(true);
+        machine.start();
+    }
+
+    /**
+     * Stops the workers of the session and waits briefly for the last submitted move.
+     */
+    public synchronized void close() {
+        if (threadPlayMachine != null) threadPlayMachine.stopThread();
+        if (unoCallout != null) unoCallout.stop();
+        commands.shutdown();
+    }
+
+    public GameHandler getGameHandler() {
+        return gameHandler;
+    }
+
+    public GameCommandQueue getCommands() {
+        return commands;
+    }
+
+    public GamePauseManager getPauseManager() {
+        return pauseManager;
+    }
+
+    public GameClock getClock() {
+        return clock;
+    }
+}
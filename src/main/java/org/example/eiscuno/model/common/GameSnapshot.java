@@ -0,0 +1,100 @@
+package org.example.eiscuno.model.common;
+
+// Imports
+import org.example.eiscuno.model.card.Card;
+
+import java.util.List;
+
+/**
+ * GameSnapshot is an immutable copy of the visible state of a game: the human's hand,
+ * the number of cards of the machine, the top card and its color, the turn and the UNO calls.
+ * The GameHandler publishes a new snapshot after every change, on the game thread, and the
+ * view renders only from snapshots, so it never reads the hands while they are being changed.
+ */
+public final class GameSnapshot {
+
+    /** Number of cards of the human player shown at the same time. */
+    public static final int VISIBLE_CARDS = 4;
+
+    private final List<Card> humanCards;
+    private final int machineCardCount;
+    private final Card topCard;
+    private final String currentColor;
+    private final boolean humanTurn;
+    private final boolean humanSaidUno;
+    private final boolean iaSaidUno;
+    private final boolean gameEnded;
+
+    /**
+     * Constructs a snapshot. The hand is copied.
+     *
+     * @param humanCards the cards of the human player, oldest first
+     * @param machineCardCount the number of cards of the machine player
+     * @param topCard the card on top of the table, or null if the table is empty
+     * @param humanTurn true if it is the human player's turn
+     * @param humanSaidUno true if the human player has said UNO
+     * @param iaSaidUno true if the machine player has said UNO
+     * @param gameEnded true if the game has ended
+     */
+    public GameSnapshot(List<Card> humanCards, int machineCardCount, Card topCard,
+                        boolean humanTurn, boolean humanSaidUno, boolean iaSaidUno, boolean gameEnded) {
+        this.humanCards = List.copyOf(humanCards);
+        this.machineCardCount = machineCardCount;
+        this.topCard = topCard;
+        // The color of a wild card changes when it is played, so it is copied too
+        this.currentColor = topCard != null ? topCard.getColor() : null;
+        this.humanTurn = humanTurn;
+        this.humanSaidUno = humanSaidUno;
+        this.iaSaidUno = iaSaidUno;
+        this.gameEnded = gameEnded;
+    }
+
+    /**
+     * Gets the visible cards of the human player starting from a position.
+     * The cards are reversed to show the most recent cards first.
+     *
+     * @param posInitCardToShow the position of the first card to show
+     * @return at most VISIBLE_CARDS cards of the human player
+     */
+    public Card[] getVisibleHumanCards(int posInitCardToShow) {
+        int newest = humanCards.size() - 1 - posInitCardToShow;
+        int numVisibleCards = Math.max(0, Math.min(VISIBLE_CARDS, newest + 1));
+        Card[] cards = new Card[numVisibleCards];
+        for (int i = 0; i < numVisibleCards; i++) {
+            cards[i] = humanCards.get(newest - i);
+        }
+        return cards;
+    }
+
+    public List<Card> getHumanCards() {
+        return humanCards;
+    }
+
+    public int getMachineCardCount() {
+        return machineCardCount;
+    }
+
+    public Card getTopCard() {
+        return topCard;
+    }
+
+    public String getCurrentColor() {
+        return currentColor;
+    }
+
+    public boolean isHumanTurn() {
+        return humanTurn;
+    }
+
+    public boolean getHumanSaidUno() {
+        return humanSaidUno;
+    }
+
+    public boolean getIASaidUno() {
+        return iaSaidUno;
+    }
+
+    public boolean isGameEnded() {
+        return gameEnded;
+    }
+}
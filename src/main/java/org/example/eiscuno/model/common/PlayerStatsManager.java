@@ -2,61 +2,155 @@ package org.example.eiscuno.model.common;
 
 // Imports
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * PlayerStatsManager is responsible for managing player statistics such as
  * the number of games played, won, and cards placed.
- * It reads from and writes to a CSV file located in the user's application data folder.
+ * The statistics are read once from a CSV file located in the user's application data folder
+ * and then kept in memory, so recording a move never touches the disk. A background writer
+ * saves them a few seconds after they change, and right away when a game ends or the application closes.
+ * The file is replaced atomically, so it is never left half written.
  */
 public class PlayerStatsManager {
     // Constants for file management
     private static final String APP_FOLDER_NAME = "EISCUno";
     private static final String FILE_NAME = "player_stats.csv";
+    private static final String HEADER = "partidas_jugadas,partidas_ganadas,cartas_colocadas";
+
+    /** Default time between a change of the statistics and the write that saves it. */
+    public static final long DEFAULT_FLUSH_DELAY_MILLIS = 5000;
+
+    private final File file;
+    private final LongAdder playedGames = new LongAdder();
+    private final LongAdder gamesWon = new LongAdder();
+    private final LongAdder placedCards = new LongAdder();
+    private final GameSaveService writer;
+
+    /**
+     * Holder of the statistics of the user, loaded the first time they are used.
+     */
+    private static class Holder {
+        private static final PlayerStatsManager INSTANCE =
+                new PlayerStatsManager(new File(getAppDataFolder(), FILE_NAME), DEFAULT_FLUSH_DELAY_MILLIS);
+    }
+
+    /**
+     * Loads the statistics stored in a file.
+     *
+     * @param file the CSV file of the statistics, it does not need to exist
+     * @param flushDelayMillis the maximum time, in milliseconds, between a change and its write
+     */
+    PlayerStatsManager(File file, long flushDelayMillis) {
+        this.file = file;
+        load();
+        this.writer = new GameSaveService(this::write, flushDelayMillis);
+    }
+
+    /**
+     * Returns the statistics of the user.
+     *
+     * @return the statistics stored in the application data folder
+     */
+    public static PlayerStatsManager getInstance() {
+        return Holder.INSTANCE;
+    }
 
     /**
      * Updates the player statistics based on the game outcome and number of cards placed.
+     * Only the counters in memory are changed; the file is written later by the background writer.
      *
      * @param won               Indicates if the player won the game.
      * @param cardsToAument     The number of cards to add to the total placed cards.
      * @param justUpdatePutCards If true, only updates the number of cards placed without changing game counts.
      */
     public static void updateStats(boolean won, int cardsToAument, boolean justUpdatePutCards) {
-        File dataFolder = getAppDataFolder();
-        if (!dataFolder.exists()) {
-            dataFolder.mkdirs(); // crea carpeta si no existe
+        getInstance().record(won, cardsToAument, justUpdatePutCards);
+    }
+
+    /**
+     * Records a change of the statistics in memory and schedules its write.
+     *
+     * @param won               Indicates if the player won the game.
+     * @param cardsToAument     The number of cards to add to the total placed cards.
+     * @param justUpdatePutCards If true, only updates the number of cards placed without changing game counts.
+     */
+    public void record(boolean won, int cardsToAument, boolean justUpdatePutCards) {
+        if (!justUpdatePutCards) {
+            playedGames.increment();
+            if (won) gamesWon.increment();
         }
+        placedCards.add(cardsToAument);
+        writer.markDirty();
+    }
 
-        File file = new File(dataFolder, FILE_NAME);
-
-        int playedGames = 0;
-        int gamesWon = 0;
-        int PlacedCards = 0;
-
-        if (file.exists()) {
-            try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-                reader.readLine(); // encabezado
-                String data = reader.readLine();
-                if (data != null) {
-                    String[] parts = data.split(",");
-                    playedGames = Integer.parseInt(parts[0]);
-                    gamesWon = Integer.parseInt(parts[1]);
-                    PlacedCards = Integer.parseInt(parts[2]);
-                }
-            } catch (IOException | NumberFormatException e) {
-                e.printStackTrace();
+    /**
+     * Writes the pending changes now and waits until they are on disk.
+     */
+    public void flush() {
+        writer.flush();
+    }
+
+    public long getPlayedGames() {
+        return playedGames.sum();
+    }
+
+    public long getGamesWon() {
+        return gamesWon.sum();
+    }
+
+    public long getPlacedCards() {
+        return placedCards.sum();
+    }
+
+    /**
+     * Reads the statistics from the file, if it exists.
+     */
+    private void load() {
+        if (!file.exists()) return;
+        try (BufferedReader reader = new BufferedReader(new FileReader(file, StandardCharsets.UTF_8))) {
+            reader.readLine(); // encabezado
+            String data = reader.readLine();
+            if (data != null) {
+                String[] parts = data.split(",");
+                playedGames.add(Long.parseLong(parts[0].trim()));
+                gamesWon.add(Long.parseLong(parts[1].trim()));
+                placedCards.add(Long.parseLong(parts[2].trim()));
             }
+        } catch (IOException | RuntimeException e) {
+            e.printStackTrace();
         }
+    }
 
-        if(!justUpdatePutCards){
-            playedGames++;
-            if (won) gamesWon++;
+    /**
+     * Writes the statistics to a temporary file and renames it over the statistics file.
+     * Runs on the background writer thread.
+     */
+    private void write() {
+        File dataFolder = file.getAbsoluteFile().getParentFile();
+        if (!dataFolder.exists()) {
+            dataFolder.mkdirs(); // crea carpeta si no existe
         }
 
-        PlacedCards += cardsToAument;
-
-        try (PrintWriter writer = new PrintWriter(new FileWriter(file))) {
-            writer.println("partidas_jugadas,partidas_ganadas,cartas_colocadas");
-            writer.printf("%d,%d,%d\n", playedGames, gamesWon, PlacedCards);
+        File temp = new File(dataFolder, file.getName() + ".tmp");
+        try {
+            try (PrintWriter out = new PrintWriter(new FileWriter(temp, StandardCharsets.UTF_8))) {
+                out.println(HEADER);
+                out.printf("%d,%d,%d\n", getPlayedGames(), getGamesWon(), getPlacedCards());
+                if (out.checkError()) {
+                    throw new IOException("Could not write " + temp);
+                }
+            }
+            try {
+                Files.move(temp.toPath(), file.toPath(),
+                        StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -0,0 +1,166 @@
+package org.example.eiscuno.model.common;
+
+// Imports
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * SaveSlot keeps the last saved game in a fixed-size memory-mapped file with two regions.
+ * Each save goes to the region that does not hold the newest save, so a crash in the middle
+ * of a write can only damage the save being written, never the previous one.
+ * Each region starts with a header: sequence number (long), data length (int) and the CRC32C
+ * of the sequence number, the length and the data (int). Reading picks the valid region with
+ * the highest sequence number.
+ */
+public class SaveSlot implements Closeable {
+
+    /** Size in bytes of each of the two regions. */
+    public static final int REGION_SIZE = 4096;
+
+    /** Size in bytes of the slot file. */
+    public static final int FILE_SIZE = 2 * REGION_SIZE;
+
+    private static final int HEADER_SIZE = Long.BYTES + Integer.BYTES + Integer.BYTES;
+
+    /** Largest save, in bytes, that fits in a region. */
+    public static final int CAPACITY = REGION_SIZE - HEADER_SIZE;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final CRC32C crc = new CRC32C();
+
+    // Sequence number and region of the newest valid save, region is -1 if there is none
+    private long sequence;
+    private int newestRegion = -1;
+
+    private SaveSlot(FileChannel channel, MappedByteBuffer buffer) {
+        this.channel = channel;
+        this.buffer = buffer;
+        for (int region = 0; region < 2; region++) {
+            long regionSequence = validSequence(region);
+            if (regionSequence >= 0 && (newestRegion < 0 || regionSequence > sequence)) {
+                sequence = regionSequence;
+                newestRegion = region;
+            }
+        }
+    }
+
+    /**
+     * Opens the slot stored in the given file, creating it if needed.
+     * A file that does not have the size of a slot is emptied first.
+     *
+     * @param file the slot file
+     * @return the opened slot
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public static SaveSlot open(File file) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        FileChannel channel = FileChannel.open(file.toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() != FILE_SIZE) {
+                channel.truncate(0);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, FILE_SIZE);
+            return new SaveSlot(channel, buffer);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Checks if a file has the size of a slot file.
+     *
+     * @param file the file to check
+     * @return true if the file could be a slot, false otherwise
+     */
+    public static boolean isSlotFile(File file) {
+        return file.length() == FILE_SIZE;
+    }
+
+    /**
+     * Saves the data in the region that does not hold the newest save and forces it to disk.
+     *
+     * @param data the data to save
+     * @throws IOException if the data does not fit in a region
+     */
+    public synchronized void write(byte[] data) throws IOException {
+        if (data.length > CAPACITY) {
+            throw new IOException("The save takes " + data.length + " bytes, the slot holds " + CAPACITY);
+        }
+        int region = newestRegion == 0 ? 1 : 0;
+        int base = region * REGION_SIZE;
+        long nextSequence = sequence + 1;
+
+        buffer.put(base + HEADER_SIZE, data);
+        buffer.putLong(base, nextSequence);
+        buffer.putInt(base + Long.BYTES, data.length);
+        buffer.putInt(base + Long.BYTES + Integer.BYTES, checksum(base, data.length));
+        buffer.force(base, HEADER_SIZE + data.length);
+
+        sequence = nextSequence;
+        newestRegion = region;
+    }
+
+    /**
+     * Returns the newest valid save.
+     *
+     * @return a copy of the saved data, or null if the slot has no valid save
+     */
+    public synchronized byte[] read() {
+        if (newestRegion < 0) return null;
+
+        int base = newestRegion * REGION_SIZE;
+        byte[] data = new byte[buffer.getInt(base + Long.BYTES)];
+        buffer.get(base + HEADER_SIZE, data);
+        return data;
+    }
+
+    /**
+     * Invalidates both regions, so the slot has no save.
+     */
+    public synchronized void clear() {
+        for (int region = 0; region < 2; region++) {
+            int base = region * REGION_SIZE;
+            buffer.put(base, new byte[HEADER_SIZE]);
+        }
+        buffer.force(0, FILE_SIZE);
+        newestRegion = -1;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Returns the sequence number of a region, or -1 if its header or data are not valid.
+     */
+    private long validSequence(int region) {
+        int base = region * REGION_SIZE;
+        long regionSequence = buffer.getLong(base);
+        int length = buffer.getInt(base + Long.BYTES);
+        if (regionSequence <= 0 || length < 0 || length > CAPACITY) return -1;
+        if (buffer.getInt(base + Long.BYTES + Integer.BYTES) != checksum(base, length)) return -1;
+        return regionSequence;
+    }
+
+    /**
+     * Computes the CRC32C of the sequence number, the length and the data of a region.
+     */
+    private int checksum(int base, int length) {
+        crc.reset();
+        crc.update(buffer.slice(base, Long.BYTES + Integer.BYTES));
+        crc.update(buffer.slice(base + HEADER_SIZE, length));
+        return (int) crc.getValue();
+    }
+}
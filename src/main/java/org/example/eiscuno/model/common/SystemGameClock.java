@@ -0,0 +1,40 @@
+package org.example.eiscuno.model.common;
+
+// Imports
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SystemGameClock is the real time GameClock.
+ * Scheduled tasks run on a single daemon timer thread shared by every game.
+ */
+public final class SystemGameClock implements GameClock {
+
+    static final SystemGameClock INSTANCE = new SystemGameClock();
+
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "GameClockTimer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Private constructor, use GameClock.system()
+    private SystemGameClock() {}
+
+    @Override
+    public long currentTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+    @Override
+    public void sleep(long millis) throws InterruptedException {
+        Thread.sleep(millis);
+    }
+
+    @Override
+    public Future<?> schedule(Runnable task, long delayMillis) {
+        return timer.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,120 @@
+package org.example.eiscuno.model.common;
+
+// Imports
+import java.util.PriorityQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * VirtualGameClock is a GameClock whose time only moves when someone sleeps or advances it.
+ * Sleeping does not wait: the time jumps forward and every task scheduled up to the new time
+ * runs right away on the calling thread, in the order of their deadlines. A whole game,
+ * callout penalties included, runs in microseconds and always in the same order of events.
+ */
+public class VirtualGameClock implements GameClock {
+
+    private final PriorityQueue<ScheduledTask> tasks = new PriorityQueue<>();
+    private long now;
+    private long nextSequence;
+
+    /**
+     * Task waiting for its deadline. Tasks with the same deadline run in the order they were scheduled.
+     */
+    private static final class ScheduledTask extends FutureTask<Void> implements Comparable<ScheduledTask> {
+        private final long deadline;
+        private final long sequence;
+
+        ScheduledTask(Runnable task, long deadline, long sequence) {
+            super(task, null);
+            this.deadline = deadline;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(ScheduledTask other) {
+            int byDeadline = Long.compare(deadline, other.deadline);
+            return byDeadline != 0 ? byDeadline : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    @Override
+    public synchronized long currentTimeMillis() {
+        return now;
+    }
+
+    /**
+     * Advances the time without waiting.
+     */
+    @Override
+    public void sleep(long millis) {
+        advance(millis);
+    }
+
+    @Override
+    public boolean isVirtual() {
+        return true;
+    }
+
+    @Override
+    public synchronized Future<?> schedule(Runnable task, long delayMillis) {
+        ScheduledTask scheduled = new ScheduledTask(task, now + Math.max(0, delayMillis), nextSequence++);
+        tasks.add(scheduled);
+        return scheduled;
+    }
+
+    /**
+     * Moves the time forward, running the tasks whose deadline is reached on the way.
+     * Tasks scheduled by those tasks also run if their deadline is reached.
+     *
+     * @param millis the time to advance, in milliseconds
+     */
+    public void advance(long millis) {
+        long target;
+        synchronized (this) {
+            target = now + millis;
+        }
+        while (true) {
+            ScheduledTask next;
+            synchronized (this) {
+                next = tasks.peek();
+                if (next == null || next.deadline > target) {
+                    now = Math.max(now, target);
+                    return;
+                }
+                tasks.poll();
+                now = Math.max(now, next.deadline);
+            }
+            next.run(); // Outside the lock, the task may schedule other tasks
+        }
+    }
+
+    /**
+     * Jumps to the next deadline and runs the tasks due at that time.
+     *
+     * @return true if a deadline was found, false if no task is pending
+     */
+    public boolean runNext() {
+        long deadline;
+        synchronized (this) {
+            removeCancelled();
+            if (tasks.isEmpty()) return false;
+            deadline = tasks.peek().deadline;
+        }
+        advance(Math.max(0, deadline - currentTimeMillis()));
+        return true;
+    }
+
+    /**
+     * Returns the number of tasks waiting for their deadline, not counting the cancelled ones.
+     *
+     * @return the number of pending tasks
+     */
+    public synchronized int pendingTasks() {
+        removeCancelled();
+        return tasks.size();
+    }
+
+    private void removeCancelled() {
+        tasks.removeIf(FutureTask::isCancelled);
+    }
+}
@@ -1,47 +1,51 @@
 package org.example.eiscuno.model.deck;
 
 // Imports
-import org.example.eiscuno.model.unoenum.EISCUnoEnum;
 import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCatalog;
 
-import java.io.Serializable;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a deck of Uno cards.
+ * The order of the deck is kept by an IntDeck of CardCatalog ids, so drawing and shuffling
+ * never allocate; the Card of each id is kept in a table, because the cards are never duplicated.
  */
-public class Deck implements Serializable {
-    private Stack<Card> deckOfCards;
+public class Deck {
+    private final IntDeck deckOfCards;
+
+    // Card of each CardCatalog id, for the cards that are or have been in this deck
+    private final Card[] cardsById = new Card[CardCatalog.CARD_COUNT];
 
     /**
      * Constructs a new deck of Uno cards and initializes it.
      */
     public Deck() {
-        deckOfCards = new Stack<>();
-        initializeDeck();
+        this(new SplittableRandom());
     }
 
     /**
-     * Initializes the deck with all possible cards.
+     * Constructs a new deck of Uno cards shuffled with the given random generator.
+     * The generator is also used when the deck is refilled or recycled, so a simulation
+     * that owns the generator gets reproducible games without sharing it with other threads.
+     * @param random the random generator used to shuffle the deck.
      */
-    private void initializeDeck() {
-        for (EISCUnoEnum cardEnum : EISCUnoEnum.values()) {
-            if (cardEnum.name().startsWith("GREEN_") ||
-                    cardEnum.name().startsWith("YELLOW_") ||
-                    cardEnum.name().startsWith("BLUE_") ||
-                    cardEnum.name().startsWith("RED_") ||
-                    cardEnum.name().startsWith("SKIP_") ||
-                    cardEnum.name().startsWith("REVERSE_") ||
-                    cardEnum.name().startsWith("TWO_WILD_DRAW_") ||
-                    cardEnum.name().equals("FOUR_WILD_DRAW") ||
-                    cardEnum.name().equals("WILD")) {
-
-                Card card = new Card(cardEnum.getFilePath(), getCardValue(cardEnum.name()), getCardColor(cardEnum.name()));
-                deckOfCards.push(card);
-            }
+    public Deck(RandomGenerator random) {
+        for (int id = 0; id < CardCatalog.CARD_COUNT; id++) {
+            cardsById[id] = CardCatalog.createCard(id);
         }
-        Collections.shuffle(deckOfCards);
+        this.deckOfCards = new IntDeck(random);
+    }
+
+    /**
+     * Constructs a deck with the given cards, for example when a saved game is loaded.
+     * @param cards the cards of the deck, from the bottom to the top.
+     */
+    public Deck(List<Card> cards) {
+        deckOfCards = new IntDeck(new SplittableRandom());
+        deckOfCards.clear();
+        addCards(cards);
     }
 
     /**
@@ -49,102 +53,68 @@ public class Deck implements Serializable {
      * If the deck is empty, throws exception (can be improved later).
      */
     public Card takeCard() {
-        if (deckOfCards.isEmpty()) {
-            throw new IllegalStateException("El mazo está vacío, pero tranquilos, se puede reponer, intenta de nuevo");
-        }
-        return deckOfCards.pop();
+        return cardsById[deckOfCards.takeCard()];
     }
 
     /**
      * Returns a list of all cards in the deck.
-     * @return a list of all cards.
+     * @return a list of all cards, from the bottom to the top.
      */
     public List<Card> getAllCards() {
-        return new ArrayList<>(deckOfCards);
+        List<Card> cards = new ArrayList<>(deckOfCards.size());
+        for (int i = 0; i < deckOfCards.size(); i++) {
+            cards.add(cardsById[deckOfCards.getCard(i)]);
+        }
+        return cards;
     }
 
     /**
-     * Replenishes the deck with cards, excluding specified cards.
-     * @param excluded a list of cards to exclude from the replenishment.
+     * Puts already existing cards back into the deck and shuffles it.
+     * Wild and +4 cards lose the color chosen when they were played and become again like new cards.
+     * No new cards are created, so the cards in the players' hands are never duplicated.
+     * @param cards the cards to put back, usually the discarded cards of the table.
      */
-    public void refillDeck(List<Card> excluded) {
-        System.out.println("Estamos reponiendo el mazo");
-        Set<String> excludedUrls = excluded.stream()
-                .map(Card::getUrl)
-                .collect(Collectors.toSet());
-
-        deckOfCards.clear();
-
-        for (EISCUnoEnum cardEnum : EISCUnoEnum.values()) {
-            if (cardEnum.name().startsWith("GREEN_") ||
-                    cardEnum.name().startsWith("YELLOW_") ||
-                    cardEnum.name().startsWith("BLUE_") ||
-                    cardEnum.name().startsWith("RED_") ||
-                    cardEnum.name().startsWith("SKIP_") ||
-                    cardEnum.name().startsWith("REVERSE_") ||
-                    cardEnum.name().startsWith("TWO_WILD_DRAW_") ||
-                    cardEnum.name().equals("FOUR_WILD_DRAW") ||
-                    cardEnum.name().equals("WILD")) {
-
-                String url = cardEnum.getFilePath();
-                if (!excludedUrls.contains(url)) {
-                    Card card = new Card(url, getCardValue(cardEnum.name()), getCardColor(cardEnum.name()));
-                    deckOfCards.push(card);
-                }
+    public void recycle(List<Card> cards) {
+        for (Card card : cards) {
+            if (card.isWildCard() || card.isPlusFour()) {
+                card.resetColor();
             }
         }
+        addCards(cards);
+        deckOfCards.shuffle();
+    }
+
+    private void addCards(List<Card> cards) {
+        for (Card card : cards) {
+            cardsById[card.getId()] = card;
+            deckOfCards.addCard(card.getId());
+        }
+    }
 
-        Collections.shuffle(deckOfCards);
+    /**
+     * Takes a specific card out of the deck, wherever it is.
+     * This is used to replay a journaled draw, where the drawn card is known.
+     * @param id the CardCatalog id of the card to take.
+     * @return the removed card, or null if the deck has no card with that id.
+     */
+    public Card takeCardById(int id) {
+        return deckOfCards.removeCard(id) ? cardsById[id] : null;
     }
 
     /**
      * Returns the number of cards in the deck.
      * @return the size of the deck.
      */
-    private String getCardValue(String name) {
-        if (name.endsWith("0")){
-            return "0";
-        } else if (name.endsWith("1")){
-            return "1";
-        } else if (name.endsWith("2")){
-            return "2";
-        } else if (name.endsWith("3")){
-            return "3";
-        } else if (name.endsWith("4")){
-            return "4";
-        } else if (name.endsWith("5")){
-            return "5";
-        } else if (name.endsWith("6")){
-            return "6";
-        } else if (name.endsWith("7")){
-            return "7";
-        } else if (name.endsWith("8")){
-            return "8";
-        } else if (name.endsWith("9")){
-            return "9";
-        } else {
-            return null;
-        }
-
+    public int size() {
+        return deckOfCards.size();
     }
 
     /**
-     * Returns the color of the card based on its name.
-     * @param name the name of the card.
-     * @return the color of the card.
+     * Checks if the deck has no cards left.
+     * @return true if the deck is empty, false otherwise.
      */
-    private String getCardColor(String name){
-        if(name.contains("GREEN")){
-            return "GREEN";
-        } else if(name.contains("YELLOW")){
-            return "YELLOW";
-        } else if(name.contains("BLUE")){
-            return "BLUE";
-        } else if(name.contains("RED")){
-            return "RED";
-        } else {
-            return null;
-        }
+    public boolean isEmpty() {
+        return deckOfCards.isEmpty();
     }
 
     /**
@@ -153,13 +123,12 @@ public class Deck implements Serializable {
      * @return a list of taken cards.
      */
     public Object takeCards(int cardCount) {
-        List<Card> takenCards = new ArrayList<>();
+        if (cardCount > deckOfCards.size()) {
+            throw new IllegalStateException("El mazo está vacío y no hay forma de reponerlo.");
+        }
+        List<Card> takenCards = new ArrayList<>(cardCount);
         for (int j = 0; j < cardCount; j++) {
-            if (!deckOfCards.isEmpty()) {
-                takenCards.add(deckOfCards.pop());
-            } else {
-                throw new IllegalStateException("El mazo está vacío y no hay forma de reponerlo.");
-            }
+            takenCards.add(cardsById[deckOfCards.takeCard()]);
         }
         return takenCards;
     }
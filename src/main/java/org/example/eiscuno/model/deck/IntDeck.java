@@ -0,0 +1,196 @@
+package org.example.eiscuno.model.deck;
+
+// Imports
+import org.example.eiscuno.model.card.CardCatalog;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Represents a deck of Uno cards stored as CardCatalog ids.
+ * The cards live in an int array with a pointer to the top, so drawing never allocates,
+ * and the deck is shuffled in place with the Fisher-Yates algorithm using an injected
+ * RandomGenerator. Giving each simulation its own seeded generator makes its shuffles
+ * reproducible and free of contention with other threads.
+ * This class is not thread safe; each game should own its deck.
+ */
+public class IntDeck {
+    private final int[] cards;
+    private int size;
+    private RandomGenerator random;
+
+    /**
+     * Constructs a full, shuffled deck that uses a new SplittableRandom.
+     */
+    public IntDeck() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Constructs a full deck shuffled with the given random generator.
+     *
+     * @param random the random generator used to shuffle the deck
+     */
+    public IntDeck(RandomGenerator random) {
+        this.cards = new int[CardCatalog.CARD_COUNT];
+        this.random = random;
+        reset();
+    }
+
+    /**
+     * Constructs a copy of another deck, with the same cards in the same order.
+     * The copy shares the random generator of the original deck.
+     *
+     * @param other the deck to copy
+     */
+    public IntDeck(IntDeck other) {
+        this.cards = other.cards.clone();
+        this.size = other.size;
+        this.random = other.random;
+    }
+
+    /**
+     * Puts every card of the catalog back in the deck and shuffles it.
+     */
+    public void reset() {
+        for (int id = 0; id < CardCatalog.CARD_COUNT; id++) {
+            cards[id] = id;
+        }
+        size = CardCatalog.CARD_COUNT;
+        shuffle();
+    }
+
+    /**
+     * Shuffles the cards of the deck in place with the Fisher-Yates algorithm.
+     */
+    public void shuffle() {
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int card = cards[i];
+            cards[i] = cards[j];
+            cards[j] = card;
+        }
+    }
+
+    /**
+     * Takes the card on top of the deck.
+     *
+     * @return the id of the card taken
+     * @throws IllegalStateException if the deck is empty
+     */
+    public int takeCard() {
+        if (size == 0) {
+            throw new IllegalStateException("El mazo está vacío, pero tranquilos, se puede reponer, intenta de nuevo");
+        }
+        return cards[--size];
+    }
+
+    /**
+     * Takes several cards from the top of the deck into the given array.
+     *
+     * @param destination the array that receives the ids of the cards taken
+     * @param offset the first position of the array to write
+     * @param cardCount the number of cards to take
+     * @throws IllegalStateException if the deck does not have enough cards
+     */
+    public void takeCards(int[] destination, int offset, int cardCount) {
+        if (cardCount > size) {
+            throw new IllegalStateException("El mazo está vacío y no hay forma de reponerlo.");
+        }
+        for (int i = 0; i < cardCount; i++) {
+            destination[offset + i] = cards[--size];
+        }
+    }
+
+    /**
+     * Puts a card on top of the deck.
+     *
+     * @param cardId the id of the card
+     * @throws IllegalStateException if the deck already holds every card of the catalog
+     */
+    public void addCard(int cardId) {
+        if (size == cards.length) {
+            throw new IllegalStateException("El mazo ya tiene todas las cartas.");
+        }
+        cards[size++] = cardId;
+    }
+
+    /**
+     * Puts several cards on top of the deck.
+     *
+     * @param source the array with the ids of the cards
+     * @param offset the first position of the array to read
+     * @param cardCount the number of cards to add
+     * @throws IllegalStateException if the cards do not fit in the deck
+     */
+    public void addCards(int[] source, int offset, int cardCount) {
+        if (size + cardCount > cards.length) {
+            throw new IllegalStateException("El mazo ya tiene todas las cartas.");
+        }
+        System.arraycopy(source, offset, cards, size, cardCount);
+        size += cardCount;
+    }
+
+    /**
+     * Takes a specific card out of the deck, wherever it is, keeping the order of the other cards.
+     *
+     * @param cardId the id of the card
+     * @return true if the card was in the deck, false otherwise
+     */
+    public boolean removeCard(int cardId) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (cards[i] == cardId) {
+                System.arraycopy(cards, i + 1, cards, i, size - i - 1);
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Takes every card out of the deck.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns the id of the card at the given position, 0 being the bottom of the deck.
+     *
+     * @param index the position of the card
+     * @return the id of the card
+     */
+    public int getCard(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for deck of size " + size);
+        }
+        return cards[index];
+    }
+
+    /**
+     * Copies the state of another deck into this one, without allocating.
+     *
+     * @param other the deck to copy
+     */
+    public void copyFrom(IntDeck other) {
+        System.arraycopy(other.cards, 0, cards, 0, other.size);
+        size = other.size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public RandomGenerator getRandom() {
+        return random;
+    }
+
+    public void setRandom(RandomGenerator random) {
+        this.random = random;
+    }
+}
@@ -0,0 +1,224 @@
+package org.example.eiscuno.model.history;
+
+// Imports
+import org.example.eiscuno.model.card.CardCatalog;
+import org.example.eiscuno.model.common.GameClock;
+import org.example.eiscuno.model.common.GameHandler;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * GameArchive is an append-only, column-oriented archive of finished games, meant for
+ * analyzing millions of games played between machine players.
+ * Each attribute of a game is stored in its own file of fixed-width little-endian values,
+ * so a query reads only the columns it needs and a GameArchiveReader can map them in memory.
+ *
+ * Columns, one row per game:
+ * winner.col (1 byte, WINNER_HUMAN or WINNER_MACHINE), turns.col (int), draws.col (int), and
+ * plays.col (2 * CardCatalog.CARD_COUNT bytes: how many times each card id was played by the
+ * human seat, then by the machine seat, saturated at 255).
+ * The file format.col holds the format version and the number of card ids.
+ *
+ * Rows are buffered and written in blocks. If the application stops in the middle of a block,
+ * the columns are cut back to the last complete row when the archive is opened again.
+ * Appends are synchronized, so games played on several threads can share one archive.
+ */
+public class GameArchive implements AutoCloseable {
+
+    /** Value of the winner column for a game won by the human seat. */
+    public static final byte WINNER_HUMAN = 0;
+
+    /** Value of the winner column for a game won by the machine seat. */
+    public static final byte WINNER_MACHINE = 1;
+
+    /** Number of bytes of the plays column in every row. */
+    public static final int PLAYS_WIDTH = 2 * CardCatalog.CARD_COUNT;
+
+    // Column files
+    static final String FORMAT_FILE = "format.col";
+    static final String WINNER_FILE = "winner.col";
+    static final String TURNS_FILE = "turns.col";
+    static final String DRAWS_FILE = "draws.col";
+    static final String PLAYS_FILE = "plays.col";
+
+    static final int FORMAT_VERSION = 1;
+
+    // Number of rows kept in memory before they are written
+    private static final int BLOCK_ROWS = 4096;
+
+    private final FileChannel winnerChannel;
+    private final FileChannel turnsChannel;
+    private final FileChannel drawsChannel;
+    private final FileChannel playsChannel;
+
+    private final ByteBuffer winners = column(BLOCK_ROWS);
+    private final ByteBuffer turns = column(BLOCK_ROWS * Integer.BYTES);
+    private final ByteBuffer draws = column(BLOCK_ROWS * Integer.BYTES);
+    private final ByteBuffer plays = column(BLOCK_ROWS * PLAYS_WIDTH);
+    private final byte[] playsRow = new byte[PLAYS_WIDTH];
+
+    private long rows;
+    private boolean closed;
+
+    /**
+     * Opens an archive, creating its folder and columns if they do not exist.
+     *
+     * @param folder the folder of the column files
+     * @throws IOException if the columns cannot be opened, or they were written with another card catalog
+     */
+    public GameArchive(File folder) throws IOException {
+        checkFormat(folder, true);
+        winnerChannel = open(folder, WINNER_FILE);
+        turnsChannel = open(folder, TURNS_FILE);
+        drawsChannel = open(folder, DRAWS_FILE);
+        playsChannel = open(folder, PLAYS_FILE);
+
+        // Drop the rows that were only written to some of the columns
+        rows = Math.min(Math.min(winnerChannel.size(), turnsChannel.size() / Integer.BYTES),
+                Math.min(drawsChannel.size() / Integer.BYTES, playsChannel.size() / PLAYS_WIDTH));
+        winnerChannel.truncate(rows);
+        turnsChannel.truncate(rows * Integer.BYTES);
+        drawsChannel.truncate(rows * Integer.BYTES);
+        playsChannel.truncate(rows * PLAYS_WIDTH);
+        winnerChannel.position(winnerChannel.size());
+        turnsChannel.position(turnsChannel.size());
+        drawsChannel.position(drawsChannel.size());
+        playsChannel.position(playsChannel.size());
+    }
+
+    /**
+     * Starts archiving a game. The game is appended when it ends.
+     *
+     * @param gameHandler the game to archive
+     * @param clock the clock of the game
+     * @return the listener registered on the game
+     */
+    public GameRecorder track(GameHandler gameHandler, GameClock clock) {
+        GameRecorder recorder = new GameRecorder(gameHandler, clock, this::append);
+        gameHandler.addGameListener(recorder);
+        return recorder;
+    }
+
+    /**
+     * Appends a finished game. The row is written with the next full block, or on flush.
+     *
+     * @param record the finished game
+     */
+    public synchronized void append(GameRecord record) {
+        if (closed) throw new IllegalStateException("The archive is closed");
+
+        Arrays.fill(playsRow, (byte) 0);
+        for (int i = 0; i < record.getPlayCount(); i++) {
+            int cardId = record.getPlayedCardId(i);
+            if (cardId < 0 || cardId >= CardCatalog.CARD_COUNT) continue;
+            int column = record.isPlayedByHuman(i) ? cardId : CardCatalog.CARD_COUNT + cardId;
+            if (playsRow[column] != (byte) 0xFF) playsRow[column]++;
+        }
+
+        winners.put("HUMAN".equals(record.getWinner()) ? WINNER_HUMAN : WINNER_MACHINE);
+        turns.putInt(record.getTurns());
+        draws.putInt(record.getCardsDrawn());
+        plays.put(playsRow);
+        rows++;
+        if (!winners.hasRemaining()) {
+            writeBlock();
+        }
+    }
+
+    /**
+     * Writes the buffered rows to the column files.
+     */
+    public synchronized void flush() {
+        if (!closed) writeBlock();
+    }
+
+    /**
+     * Returns the number of games in the archive, including the ones not written yet.
+     *
+     * @return the number of rows
+     */
+    public synchronized long size() {
+        return rows;
+    }
+
+    /**
+     * Writes the buffered rows and closes the column files.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) return;
+        writeBlock();
+        closed = true;
+        try {
+            winnerChannel.close();
+            turnsChannel.close();
+            drawsChannel.close();
+            playsChannel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Checks the format file of an archive, writing it if the archive is new.
+     *
+     * @param folder the folder of the archive
+     * @param create true to create the folder and the format file when they do not exist
+     * @throws IOException if the archive was written with another format or card catalog
+     */
+    static void checkFormat(File folder, boolean create) throws IOException {
+        File format = new File(folder, FORMAT_FILE);
+        if (!format.exists()) {
+            if (!create) throw new IOException("There is no game archive in " + folder);
+            Files.createDirectories(folder.toPath());
+            ByteBuffer header = column(2 * Integer.BYTES);
+            header.putInt(FORMAT_VERSION).putInt(CardCatalog.CARD_COUNT).flip();
+            Files.write(format.toPath(), header.array());
+            return;
+        }
+        ByteBuffer header = ByteBuffer.wrap(Files.readAllBytes(format.toPath())).order(ByteOrder.LITTLE_ENDIAN);
+        if (header.remaining() < 2 * Integer.BYTES || header.getInt() != FORMAT_VERSION
+                || header.getInt() != CardCatalog.CARD_COUNT) {
+            throw new IOException("The game archive in " + folder + " has another format");
+        }
+    }
+
+    /**
+     * Writes the rows of every column buffer, the plays column first and the winner column last.
+     */
+    private void writeBlock() {
+        try {
+            write(playsChannel, plays);
+            write(drawsChannel, draws);
+            write(turnsChannel, turns);
+            write(winnerChannel, winners);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static FileChannel open(File folder, String name) throws IOException {
+        return FileChannel.open(new File(folder, name).toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private static ByteBuffer column(int capacity) {
+        return ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
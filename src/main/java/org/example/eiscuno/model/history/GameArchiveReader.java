@@ -0,0 +1,222 @@
+package org.example.eiscuno.model.history;
+
+// Imports
+import org.example.eiscuno.model.card.CardCatalog;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.IntStream;
+
+/**
+ * GameArchiveReader runs aggregate queries over the games of a GameArchive.
+ * The columns are mapped in memory in segments of SEGMENT_ROWS games, and every query streams
+ * through the segments it needs in parallel, reading only its own columns and merging the
+ * partial results of the segments. Nothing is copied to the heap apart from small scan buffers.
+ * The reader sees the games that were written when it was opened.
+ */
+public class GameArchiveReader {
+
+    /** Number of games of every mapped segment. */
+    public static final int SEGMENT_ROWS = 1 << 20;
+
+    // Number of rows of the plays column copied at once while scanning
+    private static final int SCAN_ROWS = 1024;
+
+    private final long rows;
+    private final Segment[] segments;
+
+    /**
+     * The mapped columns of a range of games.
+     */
+    private static class Segment {
+        final int rows;
+        final ByteBuffer winners;
+        final IntBuffer turns;
+        final IntBuffer draws;
+        final ByteBuffer plays;
+
+        Segment(int rows, ByteBuffer winners, IntBuffer turns, IntBuffer draws, ByteBuffer plays) {
+            this.rows = rows;
+            this.winners = winners;
+            this.turns = turns;
+            this.draws = draws;
+            this.plays = plays;
+        }
+    }
+
+    /**
+     * Opens an archive for reading.
+     *
+     * @param folder the folder of the archive
+     * @throws IOException if there is no archive in the folder or it cannot be mapped
+     */
+    public GameArchiveReader(File folder) throws IOException {
+        GameArchive.checkFormat(folder, false);
+        try (FileChannel winnerChannel = open(folder, GameArchive.WINNER_FILE);
+             FileChannel turnsChannel = open(folder, GameArchive.TURNS_FILE);
+             FileChannel drawsChannel = open(folder, GameArchive.DRAWS_FILE);
+             FileChannel playsChannel = open(folder, GameArchive.PLAYS_FILE)) {
+            // A row is complete only once it is in every column
+            rows = Math.min(Math.min(winnerChannel.size(), turnsChannel.size() / Integer.BYTES),
+                    Math.min(drawsChannel.size() / Integer.BYTES, playsChannel.size() / GameArchive.PLAYS_WIDTH));
+
+            segments = new Segment[(int) ((rows + SEGMENT_ROWS - 1) / SEGMENT_ROWS)];
+            for (int i = 0; i < segments.length; i++) {
+                long first = (long) i * SEGMENT_ROWS;
+                int count = (int) Math.min(SEGMENT_ROWS, rows - first);
+                segments[i] = new Segment(count,
+                        map(winnerChannel, first, count, 1),
+                        map(turnsChannel, first, count, Integer.BYTES).asIntBuffer(),
+                        map(drawsChannel, first, count, Integer.BYTES).asIntBuffer(),
+                        map(playsChannel, first, count, GameArchive.PLAYS_WIDTH));
+            }
+        }
+    }
+
+    /**
+     * Returns the number of games that can be queried.
+     *
+     * @return the number of rows of the archive when it was opened
+     */
+    public long size() {
+        return rows;
+    }
+
+    /**
+     * Counts the games won by each seat.
+     *
+     * @return the games won, indexed by GameArchive.WINNER_HUMAN and GameArchive.WINNER_MACHINE
+     */
+    public long[] countByWinner() {
+        long machineWins = IntStream.range(0, segments.length).parallel()
+                .mapToLong(i -> machineWins(segments[i]))
+                .sum();
+        return new long[] {rows - machineWins, machineWins};
+    }
+
+    /**
+     * Averages the number of turns of the games won by each seat.
+     *
+     * @return the average turns, indexed by winner, or NaN for a seat that never won
+     */
+    public double[] averageTurnsByWinner() {
+        return averageByWinner(true);
+    }
+
+    /**
+     * Averages the number of cards drawn in the games won by each seat.
+     *
+     * @return the average cards drawn, indexed by winner, or NaN for a seat that never won
+     */
+    public double[] averageDrawsByWinner() {
+        return averageByWinner(false);
+    }
+
+    /**
+     * Counts how many times each card was played by the player who went on to win the game,
+     * and by the player who lost it.
+     *
+     * @return two arrays indexed by card id: [0] the plays by the winner, [1] the plays by the loser
+     */
+    public long[][] cardPlaysByOutcome() {
+        return IntStream.range(0, segments.length).parallel()
+                .mapToObj(i -> cardPlaysByOutcome(segments[i]))
+                .reduce(new long[2][CardCatalog.CARD_COUNT], GameArchiveReader::add);
+    }
+
+    /**
+     * Computes the win contribution of each card: the fraction of its plays that were made by
+     * the player who won the game. A card with a value above 0.5 is played more by winners.
+     *
+     * @return the win contribution indexed by card id, or NaN for a card that was never played
+     */
+    public double[] cardWinContribution() {
+        long[][] plays = cardPlaysByOutcome();
+        double[] contribution = new double[CardCatalog.CARD_COUNT];
+        for (int card = 0; card < contribution.length; card++) {
+            long total = plays[0][card] + plays[1][card];
+            contribution[card] = total == 0 ? Double.NaN : (double) plays[0][card] / total;
+        }
+        return contribution;
+    }
+
+    private double[] averageByWinner(boolean turns) {
+        long[] sums = IntStream.range(0, segments.length).parallel()
+                .mapToObj(i -> sumByWinner(segments[i], turns))
+                .reduce(new long[2], (a, b) -> new long[] {a[0] + b[0], a[1] + b[1]});
+        long[] wins = countByWinner();
+        return new double[] {
+                wins[0] == 0 ? Double.NaN : (double) sums[0] / wins[0],
+                wins[1] == 0 ? Double.NaN : (double) sums[1] / wins[1]
+        };
+    }
+
+    private static long machineWins(Segment segment) {
+        ByteBuffer winners = segment.winners;
+        long count = 0;
+        for (int i = 0; i < segment.rows; i++) {
+            count += winners.get(i); // WINNER_MACHINE is 1
+        }
+        return count;
+    }
+
+    private static long[] sumByWinner(Segment segment, boolean turns) {
+        ByteBuffer winners = segment.winners;
+        IntBuffer values = turns ? segment.turns : segment.draws;
+        long[] sums = new long[2];
+        for (int i = 0; i < segment.rows; i++) {
+            sums[winners.get(i)] += values.get(i);
+        }
+        return sums;
+    }
+
+    private static long[][] cardPlaysByOutcome(Segment segment) {
+        int cards = CardCatalog.CARD_COUNT;
+        int width = GameArchive.PLAYS_WIDTH;
+        long[] byWinner = new long[cards];
+        long[] byLoser = new long[cards];
+        byte[] block = new byte[SCAN_ROWS * width];
+        ByteBuffer plays = segment.plays.duplicate();
+
+        for (int first = 0; first < segment.rows; first += SCAN_ROWS) {
+            int count = Math.min(SCAN_ROWS, segment.rows - first);
+            plays.get(block, 0, count * width);
+            for (int row = 0; row < count; row++) {
+                int offset = row * width;
+                boolean humanWon = segment.winners.get(first + row) == GameArchive.WINNER_HUMAN;
+                long[] human = humanWon ? byWinner : byLoser;
+                long[] machine = humanWon ? byLoser : byWinner;
+                for (int card = 0; card < cards; card++) {
+                    human[card] += block[offset + card] & 0xFF;
+                    machine[card] += block[offset + cards + card] & 0xFF;
+                }
+            }
+        }
+        return new long[][] {byWinner, byLoser};
+    }
+
+    private static long[][] add(long[][] a, long[][] b) {
+        long[][] sum = new long[2][CardCatalog.CARD_COUNT];
+        for (int card = 0; card < CardCatalog.CARD_COUNT; card++) {
+            sum[0][card] = a[0][card] + b[0][card];
+            sum[1][card] = a[1][card] + b[1][card];
+        }
+        return sum;
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, long firstRow, int rows, int width) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, firstRow * width, (long) rows * width);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        return buffer;
+    }
+
+    private static FileChannel open(File folder, String name) throws IOException {
+        return FileChannel.open(new File(folder, name).toPath(), StandardOpenOption.READ);
+    }
+}
@@ -0,0 +1,278 @@
+package org.example.eiscuno.model.history;
+
+// Imports
+import org.example.eiscuno.model.common.GameClock;
+import org.example.eiscuno.model.common.GameHandler;
+import org.example.eiscuno.model.common.PlayerStatsManager;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * GameHistoryStore keeps a record of every finished game in an embedded H2 database,
+ * in a table of games and a table with one row per card played.
+ * The games never wait for the database: a finished game is queued and a single background
+ * thread writes the queued games in one transaction, with the card plays sent as a JDBC batch
+ * through prepared statements that are reused for the life of the store.
+ * Queries run on the same thread, so they always see every game recorded before them.
+ */
+public class GameHistoryStore implements AutoCloseable {
+    // Constants for file management
+    private static final String DATABASE_NAME = "history";
+
+    private static final String CREATE_GAMES =
+            "CREATE TABLE IF NOT EXISTS games (" +
+            "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, " +
+            "ended_at BIGINT NOT NULL, " +
+            "duration_ms BIGINT NOT NULL, " +
+            "turns INT NOT NULL, " +
+            "cards_drawn INT NOT NULL, " +
+            "winner VARCHAR(8) NOT NULL)";
+    private static final String CREATE_CARD_PLAYS =
+            "CREATE TABLE IF NOT EXISTS card_plays (" +
+            "game_id BIGINT NOT NULL, " +
+            "seq SMALLINT NOT NULL, " +
+            "card_id SMALLINT NOT NULL, " +
+            "human BOOLEAN NOT NULL, " +
+            "turn INT NOT NULL, " +
+            "PRIMARY KEY (game_id, seq))";
+    private static final String INSERT_GAME =
+            "INSERT INTO games (ended_at, duration_ms, turns, cards_drawn, winner) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_CARD_PLAY =
+            "INSERT INTO card_plays (game_id, seq, card_id, human, turn) VALUES (?, ?, ?, ?, ?)";
+    // The inner query walks the primary key backwards, so only the last games are read
+    private static final String SUMMARIZE_LAST_GAMES =
+            "SELECT COUNT(*), COALESCE(SUM(CASE WHEN winner = 'HUMAN' THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(AVG(CAST(duration_ms AS DOUBLE)), 0), COALESCE(AVG(CAST(turns AS DOUBLE)), 0) " +
+            "FROM (SELECT winner, duration_ms, turns FROM games ORDER BY id DESC LIMIT ?)";
+
+    private final String url;
+    private final ExecutorService writer;
+    private final ConcurrentLinkedQueue<GameRecord> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    // Only used on the writer thread
+    private Connection connection;
+    private PreparedStatement insertGame;
+    private PreparedStatement insertCardPlay;
+    private PreparedStatement summarizeLastGames;
+
+    /**
+     * Holder of the history of the user, opened the first time it is used.
+     */
+    private static class Holder {
+        private static final GameHistoryStore INSTANCE =
+                new GameHistoryStore(new File(PlayerStatsManager.getAppDataFolder(), DATABASE_NAME));
+    }
+
+    /**
+     * Creates a store over a database file. The database is opened on the first write or query.
+     *
+     * @param databaseFile the path of the database, without the ".mv.db" extension added by H2
+     */
+    public GameHistoryStore(File databaseFile) {
+        this.url = "jdbc:h2:file:" + databaseFile.getAbsolutePath();
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "GameHistory");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the history of the user.
+     *
+     * @return the history stored in the application data folder
+     */
+    public static GameHistoryStore getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Starts recording a game. The game is stored when it ends.
+     *
+     * @param gameHandler the game to record
+     * @param clock the clock used to measure the duration of the game
+     * @return the listener registered on the game
+     */
+    public GameRecorder track(GameHandler gameHandler, GameClock clock) {
+        GameRecorder recorder = new GameRecorder(gameHandler, clock, this::record);
+        gameHandler.addGameListener(recorder);
+        return recorder;
+    }
+
+    /**
+     * Queues a finished game to be written by the background thread.
+     *
+     * @param record the finished game
+     */
+    public void record(GameRecord record) {
+        pending.add(record);
+        if (drainScheduled.compareAndSet(false, true)) {
+            try {
+                writer.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                drainScheduled.set(false);
+            }
+        }
+    }
+
+    /**
+     * Summarizes the most recent games.
+     *
+     * @param lastGames the maximum number of games to summarize
+     * @return a future completed with the summary, after every game recorded before the call is written
+     */
+    public CompletableFuture<GameHistorySummary> summarize(int lastGames) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                drain();
+                open();
+                summarizeLastGames.setInt(1, lastGames);
+                try (ResultSet result = summarizeLastGames.executeQuery()) {
+                    result.next();
+                    return new GameHistorySummary(result.getInt(1), result.getInt(2), result.getDouble(3), result.getDouble(4));
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException("Could not read the game history", e);
+            }
+        }, writer);
+    }
+
+    /**
+     * Writes the queued games now and waits until they are stored.
+     */
+    public void flush() {
+        try {
+            CompletableFuture.runAsync(this::drain, writer).join();
+        } catch (RejectedExecutionException e) {
+            // Already closed, the last games were written while closing
+        }
+    }
+
+    /**
+     * Writes the queued games and closes the database.
+     */
+    @Override
+    public void close() {
+        try {
+            writer.execute(() -> {
+                drain();
+                closeConnection();
+            });
+        } catch (RejectedExecutionException e) {
+            return;
+        }
+        writer.shutdown();
+        try {
+            writer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes every queued game in a single transaction, with one batch for the games and one
+     * for their card plays. Runs on the writer thread.
+     * If the write fails the games of the transaction are lost, they are never retried
+     * so a broken database cannot stop the game.
+     */
+    private void drain() {
+        drainScheduled.set(false);
+        List<GameRecord> records = new ArrayList<>();
+        GameRecord polled;
+        while ((polled = pending.poll()) != null) {
+            records.add(polled);
+        }
+        if (records.isEmpty()) return;
+
+        try {
+            open();
+            for (GameRecord record : records) {
+                insertGame.setLong(1, record.getEndedAtMillis());
+                insertGame.setLong(2, record.getDurationMillis());
+                insertGame.setInt(3, record.getTurns());
+                insertGame.setInt(4, record.getCardsDrawn());
+                insertGame.setString(5, record.getWinner());
+                insertGame.addBatch();
+            }
+            insertGame.executeBatch();
+
+            // The generated ids come back in the order of the batch
+            int plays = 0;
+            try (ResultSet keys = insertGame.getGeneratedKeys()) {
+                for (GameRecord record : records) {
+                    if (!keys.next()) {
+                        throw new SQLException("Missing generated id for a game of the batch");
+                    }
+                    long gameId = keys.getLong(1);
+                    for (int i = 0; i < record.getPlayCount(); i++) {
+                        insertCardPlay.setLong(1, gameId);
+                        insertCardPlay.setShort(2, (short) i);
+                        insertCardPlay.setShort(3, (short) record.getPlayedCardId(i));
+                        insertCardPlay.setBoolean(4, record.isPlayedByHuman(i));
+                        insertCardPlay.setInt(5, record.getPlayTurn(i));
+                        insertCardPlay.addBatch();
+                        plays++;
+                    }
+                }
+            }
+            if (plays > 0) insertCardPlay.executeBatch();
+            connection.commit();
+        } catch (SQLException e) {
+            e.printStackTrace();
+            rollback();
+        }
+    }
+
+    /**
+     * Opens the database, creates the tables and prepares the statements, the first time it is called.
+     */
+    private void open() throws SQLException {
+        if (connection != null) return;
+        Connection opened = DriverManager.getConnection(url);
+        try (Statement statement = opened.createStatement()) {
+            statement.execute(CREATE_GAMES);
+            statement.execute(CREATE_CARD_PLAYS);
+        }
+        opened.setAutoCommit(false);
+        insertGame = opened.prepareStatement(INSERT_GAME, Statement.RETURN_GENERATED_KEYS);
+        insertCardPlay = opened.prepareStatement(INSERT_CARD_PLAY);
+        summarizeLastGames = opened.prepareStatement(SUMMARIZE_LAST_GAMES);
+        connection = opened;
+    }
+
+    private void rollback() {
+        if (connection == null) return;
+        try {
+            insertCardPlay.clearBatch();
+            connection.rollback();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void closeConnection() {
+        if (connection == null) return;
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        connection = null;
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.eiscuno.model.history;
+
+/**
+ * GameHistorySummary holds the aggregates of the most recent recorded games.
+ */
+public final class GameHistorySummary {
+
+    private final int games;
+    private final int humanWins;
+    private final double averageDurationMillis;
+    private final double averageTurns;
+
+    /**
+     * Constructs a summary.
+     *
+     * @param games the number of games summarized
+     * @param humanWins the number of those games won by the human player
+     * @param averageDurationMillis the average duration of the games, in milliseconds
+     * @param averageTurns the average number of turns of the games
+     */
+    public GameHistorySummary(int games, int humanWins, double averageDurationMillis, double averageTurns) {
+        this.games = games;
+        this.humanWins = humanWins;
+        this.averageDurationMillis = averageDurationMillis;
+        this.averageTurns = averageTurns;
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public int getHumanWins() {
+        return humanWins;
+    }
+
+    /**
+     * Returns the fraction of the games won by the human player.
+     *
+     * @return a value between 0 and 1, or 0 if there are no games
+     */
+    public double getWinRate() {
+        return games == 0 ? 0 : (double) humanWins / games;
+    }
+
+    public double getAverageDurationMillis() {
+        return averageDurationMillis;
+    }
+
+    public double getAverageTurns() {
+        return averageTurns;
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.eiscuno.model.history;
+
+// Imports
+import java.util.Arrays;
+
+/**
+ * GameRecord is the immutable summary of one finished game: when it ended, how long it took,
+ * how many turns were played, how many cards were drawn, who won, and every card played in order.
+ */
+public final class GameRecord {
+
+    private final long endedAtMillis;
+    private final long durationMillis;
+    private final int turns;
+    private final int cardsDrawn;
+    private final String winner;
+    private final int[] playedCardIds;
+    private final boolean[] playedByHuman;
+    private final int[] playTurns;
+
+    /**
+     * Constructs a record. The arrays are copied and must have the same length.
+     *
+     * @param endedAtMillis the wall clock time when the game ended
+     * @param durationMillis the time the game took, measured on the game clock
+     * @param turns the number of turns played
+     * @param cardsDrawn the number of cards taken from the deck, penalties included
+     * @param winner "HUMAN" or "MACHINE"
+     * @param playedCardIds the CardCatalog id of each card played, in order
+     * @param playedByHuman whether each card was played by the human player
+     * @param playTurns the turn in which each card was played
+     */
+    public GameRecord(long endedAtMillis, long durationMillis, int turns, int cardsDrawn, String winner,
+                      int[] playedCardIds, boolean[] playedByHuman, int[] playTurns) {
+        if (playedCardIds.length != playedByHuman.length || playedCardIds.length != playTurns.length) {
+            throw new IllegalArgumentException("The plays of a game must have the same length");
+        }
+        this.endedAtMillis = endedAtMillis;
+        this.durationMillis = durationMillis;
+        this.turns = turns;
+        this.cardsDrawn = cardsDrawn;
+        this.winner = winner;
+        this.playedCardIds = playedCardIds.clone();
+        this.playedByHuman = playedByHuman.clone();
+        this.playTurns = playTurns.clone();
+    }
+
+    public long getEndedAtMillis() {
+        return endedAtMillis;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public int getTurns() {
+        return turns;
+    }
+
+    public int getCardsDrawn() {
+        return cardsDrawn;
+    }
+
+    public String getWinner() {
+        return winner;
+    }
+
+    public int getPlayCount() {
+        return playedCardIds.length;
+    }
+
+    public int getPlayedCardId(int index) {
+        return playedCardIds[index];
+    }
+
+    public boolean isPlayedByHuman(int index) {
+        return playedByHuman[index];
+    }
+
+    public int getPlayTurn(int index) {
+        return playTurns[index];
+    }
+
+    @Override
+    public String toString() {
+        return "GameRecord{winner=" + winner + ", turns=" + turns + ", cardsDrawn=" + cardsDrawn
+                + ", durationMillis=" + durationMillis + ", plays=" + Arrays.toString(playedCardIds) + "}";
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.eiscuno.model.history;
+
+// Imports
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.common.GameClock;
+import org.example.eiscuno.model.common.GameHandler;
+import org.example.eiscuno.model.common.GameListener;
+import org.example.eiscuno.model.player.Player;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * GameRecorder follows the events of one game and builds its GameRecord when the game ends.
+ * A turn is counted when a player draws or plays a card after the turn has passed to the other player
+ * or after a card made the same player repeat the turn, so the turn handed over by the winning card is not counted.
+ * For a game loaded from a save, only the part played after loading is recorded.
+ */
+public class GameRecorder implements GameListener {
+
+    private final GameHandler gameHandler;
+    private final GameClock clock;
+    private final Consumer<GameRecord> sink;
+    private final long startMillis;
+
+    private boolean lastHumanTurn;
+    private boolean turnPending;
+    private int turns = 1;
+    private int cardsDrawn;
+    private int plays;
+    private int[] playedCardIds = new int[64];
+    private boolean[] playedByHuman = new boolean[64];
+    private int[] playTurns = new int[64];
+
+    /**
+     * Starts recording a game. The recorder must be registered as a listener of the game.
+     *
+     * @param gameHandler the game to record
+     * @param clock the clock used to measure the duration of the game
+     * @param sink where the record is sent when the game ends
+     */
+    public GameRecorder(GameHandler gameHandler, GameClock clock, Consumer<GameRecord> sink) {
+        this.gameHandler = gameHandler;
+        this.clock = clock;
+        this.sink = sink;
+        this.startMillis = clock.currentTimeMillis();
+        this.lastHumanTurn = gameHandler.getHumanTurn();
+    }
+
+    @Override
+    public void onCardsDrawn(Player player, int numberOfCards) {
+        startPendingTurn();
+        cardsDrawn += numberOfCards;
+    }
+
+    @Override
+    public void onCardPlayed(Player player, Card card) {
+        startPendingTurn();
+        if (plays == playedCardIds.length) {
+            playedCardIds = Arrays.copyOf(playedCardIds, plays * 2);
+            playedByHuman = Arrays.copyOf(playedByHuman, plays * 2);
+            playTurns = Arrays.copyOf(playTurns, plays * 2);
+        }
+        playedCardIds[plays] = card.getId();
+        playedByHuman[plays] = player == gameHandler.getHumanPlayer();
+        playTurns[plays] = turns;
+        plays++;
+    }
+
+    @Override
+    public void onTurnRepeated(Card card, boolean playedByHuman) {
+        turnPending = true;
+    }
+
+    @Override
+    public void onStateChanged() {
+        boolean humanTurn = gameHandler.getHumanTurn();
+        if (humanTurn != lastHumanTurn) {
+            lastHumanTurn = humanTurn;
+            turnPending = true;
+        }
+    }
+
+    @Override
+    public void onGameEnded(String winner) {
+        sink.accept(new GameRecord(System.currentTimeMillis(), clock.currentTimeMillis() - startMillis,
+                turns, cardsDrawn, winner,
+                Arrays.copyOf(playedCardIds, plays), Arrays.copyOf(playedByHuman, plays), Arrays.copyOf(playTurns, plays)));
+    }
+
+    /**
+     * Counts the turn that has been handed over, now that its player has acted.
+     */
+    private void startPendingTurn() {
+        if (turnPending) {
+            turnPending = false;
+            turns++;
+        }
+    }
+}
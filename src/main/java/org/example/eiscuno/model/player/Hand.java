@@ -0,0 +1,192 @@
+package org.example.eiscuno.model.player;
+
+// Imports
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCatalog;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Represents the hand of cards of a player.
+ * Besides the cards, in the order they were received, the hand keeps how many cards
+ * it has of each CardCatalog id and of each color, updated on every add and remove.
+ * The ids present in the hand are also kept as a bit mask, so asking whether any card
+ * can be played on the top card, or which ones, does not depend on the size of the hand.
+ */
+public class Hand {
+    private final ArrayList<Card> cards;
+    private final int[] idCounts;
+    private final int[] colorCounts;
+    private long idMask;
+    private List<Card> readOnlyCards;
+
+    /**
+     * Constructs an empty hand.
+     */
+    public Hand() {
+        this.cards = new ArrayList<>();
+        this.idCounts = new int[CardCatalog.CARD_COUNT + 1];
+        this.colorCounts = new int[CardCatalog.COLOR_COUNT];
+    }
+
+    /**
+     * Adds a card to the hand.
+     *
+     * @param card The card to add.
+     */
+    public void add(Card card) {
+        cards.add(card);
+        int id = card.getId();
+        idCounts[id]++;
+        idMask |= 1L << id;
+        colorCounts[baseColor(id)]++;
+    }
+
+    /**
+     * Removes a card from the hand.
+     *
+     * @param card The card to remove.
+     * @return true if the card was in the hand, false otherwise.
+     */
+    public boolean remove(Card card) {
+        // Cards are usually played from the end of the list, so search backwards
+        for (int i = cards.size() - 1; i >= 0; i--) {
+            if (cards.get(i).equals(card)) {
+                remove(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes the card at the given position of the hand.
+     *
+     * @param index The position of the card to remove.
+     * @return The removed card.
+     */
+    public Card remove(int index) {
+        Card card = cards.remove(index);
+        int id = card.getId();
+        if (--idCounts[id] == 0) {
+            idMask &= ~(1L << id);
+        }
+        colorCounts[baseColor(id)]--;
+        return card;
+    }
+
+    /**
+     * Checks if any card of the hand can be played on the top card.
+     *
+     * @param topId The id of the card on top of the table.
+     * @param activeColor The color index of the card on top of the table.
+     * @return true if at least one card can be played, false otherwise.
+     */
+    public boolean hasPlayableCard(int topId, int activeColor) {
+        return (idMask & CardCatalog.legalMask(topId, activeColor)) != 0;
+    }
+
+    /**
+     * Returns the ids of the cards of the hand that can be played on the top card.
+     *
+     * @param topId The id of the card on top of the table.
+     * @param activeColor The color index of the card on top of the table.
+     * @return A bit mask where bit i is set if a card with id i can be played.
+     */
+    public long getPlayableIds(int topId, int activeColor) {
+        return idMask & CardCatalog.legalMask(topId, activeColor);
+    }
+
+    /**
+     * Finds the first card of the hand, in the order they were received, that can be played.
+     *
+     * @param topId The id of the card on top of the table.
+     * @param activeColor The color index of the card on top of the table.
+     * @return The first playable card, or null if there is none.
+     */
+    public Card findPlayableCard(int topId, int activeColor) {
+        long playable = getPlayableIds(topId, activeColor);
+        if (playable == 0) {
+            return null;
+        }
+        for (Card card : cards) {
+            if ((playable & (1L << card.getId())) != 0) {
+                return card;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds the most recently received card with the given id.
+     *
+     * @param id The CardCatalog id.
+     * @return The card, or null if the hand has no card with that id.
+     */
+    public Card findById(int id) {
+        if (idCounts[id] == 0) {
+            return null;
+        }
+        for (int i = cards.size() - 1; i >= 0; i--) {
+            if (cards.get(i).getId() == id) {
+                return cards.get(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns how many cards with the given id are in the hand.
+     *
+     * @param id The CardCatalog id.
+     * @return The number of cards with that id.
+     */
+    public int countById(int id) {
+        return idCounts[id];
+    }
+
+    /**
+     * Returns how many cards of the given color are in the hand.
+     * Wild and +4 cards are counted under CardCatalog.NO_COLOR.
+     *
+     * @param colorIndex The color index, as in CardCatalog.COLORS.
+     * @return The number of cards of that color.
+     */
+    public int countByColor(int colorIndex) {
+        return colorCounts[colorIndex];
+    }
+
+    /**
+     * Returns the printed color of a card id, which does not change when a wild card is colored.
+     */
+    private static int baseColor(int id) {
+        return id == CardCatalog.INVALID_ID ? CardCatalog.NO_COLOR : CardCatalog.getColorIndex(id);
+    }
+
+    public Card get(int index) {
+        return cards.get(index);
+    }
+
+    public int size() {
+        return cards.size();
+    }
+
+    public boolean isEmpty() {
+        return cards.isEmpty();
+    }
+
+    /**
+     * Returns a read-only view of the cards of the hand.
+     * The hand must be changed through add and remove so its counters stay up to date.
+     *
+     * @return The cards of the hand, in the order they were received.
+     */
+    public List<Card> asList() {
+        if (readOnlyCards == null) {
+            readOnlyCards = Collections.unmodifiableList(cards);
+        }
+        return readOnlyCards;
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.eiscuno.model.player;
+
+/**
+ * Listener for the changes of size of a player's hand.
+ * It is called right after every card added to or removed from the hand,
+ * on the thread that changed it.
+ */
+public interface HandListener {
+
+    /**
+     * Called after the hand of a player changed size.
+     *
+     * @param player The player whose hand changed.
+     * @param size The new number of cards in the hand.
+     */
+    void onHandSizeChanged(Player player, int size);
+}
@@ -3,7 +3,7 @@ package org.example.eiscuno.model.player;
 // Imports
 import org.example.eiscuno.model.card.Card;
 
-import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Interface representing a player in the Uno game.
@@ -29,9 +29,9 @@ public interface IPlayer {
     /**
      * Retrieves all cards currently held by the player.
      *
-     * @return An ArrayList containing all cards in the player's hand.
+     * @return A read-only list containing all cards in the player's hand.
      */
-    ArrayList<Card> getCardsPlayer();
+    List<Card> getCardsPlayer();
 
     /**
      * Removes a card from the player's hand based on its index.
@@ -39,4 +39,19 @@ public interface IPlayer {
      * @param index The index of the card to remove.
      */
     void removeCard(int index);
+
+    /**
+     * Removes the given card from the player's hand.
+     *
+     * @param card The card to remove.
+     * @return true if the card was in the player's hand, false otherwise.
+     */
+    boolean removeCard(Card card);
+
+    /**
+     * Retrieves the indexed hand of the player, used to find playable cards quickly.
+     *
+     * @return The hand of the player.
+     */
+    Hand getHand();
 }
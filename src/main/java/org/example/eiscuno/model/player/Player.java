@@ -3,21 +3,22 @@ package org.example.eiscuno.model.player;
 // Imports
 import org.example.eiscuno.model.card.Card;
 
-import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Represents a player in the Uno game.
  */
-public class Player implements IPlayer, Serializable {
-    private ArrayList<Card> cardsPlayer;
+public class Player implements IPlayer {
+    private Hand cardsPlayer;
     private String typePlayer;
+    private HandListener handListener;
 
     /**
      * Constructs a new Player object with an empty hand of cards.
      */
     public Player(String typePlayer){
-        this.cardsPlayer = new ArrayList<Card>();
+        this.cardsPlayer = new Hand();
         this.typePlayer = typePlayer;
     };
 
@@ -29,16 +30,17 @@ public class Player implements IPlayer, Serializable {
     @Override
     public void addCard(Card card){
         cardsPlayer.add(card);
+        fireHandSizeChanged();
     }
 
     /**
      * Retrieves all cards currently held by the player.
      *
-     * @return An ArrayList containing all cards in the player's hand.
+     * @return A read-only list containing all cards in the player's hand.
      */
     @Override
-    public ArrayList<Card> getCardsPlayer() {
-        return cardsPlayer;
+    public List<Card> getCardsPlayer() {
+        return cardsPlayer.asList();
     }
 
     /**
@@ -49,6 +51,32 @@ public class Player implements IPlayer, Serializable {
     @Override
     public void removeCard(int index) {
         cardsPlayer.remove(index);
+        fireHandSizeChanged();
+    }
+
+    /**
+     * Removes the given card from the player's hand.
+     *
+     * @param card The card to remove.
+     * @return true if the card was in the player's hand, false otherwise.
+     */
+    @Override
+    public boolean removeCard(Card card) {
+        boolean removed = cardsPlayer.remove(card);
+        if (removed) {
+            fireHandSizeChanged();
+        }
+        return removed;
+    }
+
+    /**
+     * Retrieves the indexed hand of the player.
+     *
+     * @return The hand of the player.
+     */
+    @Override
+    public Hand getHand() {
+        return cardsPlayer;
     }
 
     /**
@@ -79,11 +107,31 @@ public class Player implements IPlayer, Serializable {
     public void addCards(Object o) {
         if (o instanceof ArrayList) {
             ArrayList<Card> cards = (ArrayList<Card>) o;
-            cardsPlayer.addAll(cards);
+            for (Card card : cards) {
+                cardsPlayer.add(card);
+            }
         } else if (o instanceof Card) {
             cardsPlayer.add((Card) o);
         } else {
             throw new IllegalArgumentException("Unsupported type for adding cards");
         }
+        fireHandSizeChanged();
+    }
+
+    /**
+     * Sets the listener notified every time the hand of this player changes size.
+     * The listener is not saved with the game, so it must be set again after loading a game.
+     *
+     * @param handListener The listener, or null to remove it.
+     */
+    public void setHandListener(HandListener handListener) {
+        this.handListener = handListener;
+    }
+
+    private void fireHandSizeChanged() {
+        HandListener listener = handListener;
+        if (listener != null) {
+            listener.onHandSizeChanged(this, cardsPlayer.size());
+        }
     }
 }
\ No newline at end of file
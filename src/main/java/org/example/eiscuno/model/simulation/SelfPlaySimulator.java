@@ -0,0 +1,210 @@
+package org.example.eiscuno.model.simulation;
+
+// Imports
+import org.example.eiscuno.model.common.GameClock;
+import org.example.eiscuno.model.common.GameHandler;
+import org.example.eiscuno.model.common.VirtualGameClock;
+import org.example.eiscuno.model.history.GameArchive;
+import org.example.eiscuno.model.strategy.GreedyStrategy;
+import org.example.eiscuno.model.strategy.MachineStrategy;
+import org.example.eiscuno.model.threads.ThreadPlayMachine;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * SelfPlaySimulator plays large batches of complete games between two machine players,
+ * with the rules of the GameHandler and a MachineStrategy for each seat, played as ThreadPlayMachine plays them.
+ * It does not use JavaFX, threads of its own, clocks or UNO timers: every game is played
+ * synchronously by one worker, from the deal to the winner.
+ *
+ * The batch is split recursively on a ForkJoinPool. Each task gets its own SplittableRandom,
+ * split from its parent's, so no generator is shared and the same seed plays the same games
+ * whatever the number of workers, as long as the strategies do not depend on the real time.
+ * Each task returns its own totals, which are merged when the tasks are joined, so the workers
+ * never write shared state.
+ *
+ * Each task creates its own strategies, so strategies that keep working memory are never shared.
+ * From the command line the searching strategies are built on a VirtualGameClock, so they are
+ * limited by a number of playouts instead of a time budget and the batch is reproducible.
+ * When a GameArchive is given every finished game is appended to it; unfinished games are not archived.
+ *
+ * Usage: SelfPlaySimulator [games] [seed] [workers] [first strategy] [second strategy] [archive folder]
+ */
+public class SelfPlaySimulator {
+
+    /** Turns after which a game is stopped and counted as unfinished. */
+    public static final int MAX_TURNS = 10_000;
+
+    // Number of games played by a task without splitting it
+    private static final long GAMES_PER_TASK = 256;
+
+    private final ForkJoinPool pool;
+    private final Supplier<MachineStrategy> firstStrategy;
+    private final Supplier<MachineStrategy> secondStrategy;
+    private final GameArchive archive;
+
+    /**
+     * Creates a simulator that runs on the common ForkJoinPool, using every core,
+     * with the GreedyStrategy for both seats.
+     */
+    public SelfPlaySimulator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a simulator that runs on the given pool, with the GreedyStrategy for both seats.
+     *
+     * @param pool the pool of the workers
+     */
+    public SelfPlaySimulator(ForkJoinPool pool) {
+        this(pool, GreedyStrategy::new, GreedyStrategy::new);
+    }
+
+    /**
+     * Creates a simulator that runs on the given pool.
+     *
+     * @param pool the pool of the workers
+     * @param firstStrategy creates the strategy of the seat that plays first (the human seat)
+     * @param secondStrategy creates the strategy of the other seat (the machine seat)
+     */
+    public SelfPlaySimulator(ForkJoinPool pool, Supplier<MachineStrategy> firstStrategy,
+                             Supplier<MachineStrategy> secondStrategy) {
+        this(pool, firstStrategy, secondStrategy, null);
+    }
+
+    /**
+     * Creates a simulator that runs on the given pool and archives the finished games.
+     * The archive is shared by the workers, its append is synchronized; it is not closed by the simulator.
+     *
+     * @param pool the pool of the workers
+     * @param firstStrategy creates the strategy of the seat that plays first (the human seat)
+     * @param secondStrategy creates the strategy of the other seat (the machine seat)
+     * @param archive the archive of the finished games, or null to keep only the totals
+     */
+    public SelfPlaySimulator(ForkJoinPool pool, Supplier<MachineStrategy> firstStrategy,
+                             Supplier<MachineStrategy> secondStrategy, GameArchive archive) {
+        this.pool = pool;
+        this.firstStrategy = firstStrategy;
+        this.secondStrategy = secondStrategy;
+        this.archive = archive;
+    }
+
+    /**
+     * Plays a batch of games and waits for the result.
+     *
+     * @param games the number of games to play
+     * @param seed the seed of the batch
+     * @return the totals of the batch
+     */
+    public SimulationResult run(long games, long seed) {
+        long start = System.nanoTime();
+        SimulationResult result = pool.invoke(new BatchTask(0, games, new SplittableRandom(seed)));
+        return result.withElapsedNanos(System.nanoTime() - start);
+    }
+
+    /**
+     * Plays one game until a player wins or the turn limit is reached.
+     *
+     * @param gameHandler a new game
+     * @return the number of turns played
+     */
+    static int playGame(GameHandler gameHandler) {
+        int turns = 0;
+        while (!gameHandler.isGameEnded() && turns < MAX_TURNS) {
+            ThreadPlayMachine.playStrategyTurn(gameHandler, gameHandler.getHumanTurn());
+            turns++;
+        }
+        return turns;
+    }
+
+    /**
+     * Plays a range of the games of a batch, splitting it while it is large.
+     */
+    @SuppressWarnings("serial") // Tasks are never serialized
+    private class BatchTask extends RecursiveTask<SimulationResult> {
+        private final long first;
+        private final long count;
+        private final SplittableRandom random;
+
+        BatchTask(long first, long count, SplittableRandom random) {
+            this.first = first;
+            this.count = count;
+            this.random = random;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (count <= GAMES_PER_TASK) {
+                return playGames();
+            }
+            long half = count / 2;
+            BatchTask left = new BatchTask(first, half, random.split());
+            BatchTask right = new BatchTask(first + half, count - half, random);
+            left.fork();
+            SimulationResult rightResult = right.compute();
+            return left.join().merge(rightResult);
+        }
+
+        private SimulationResult playGames() {
+            long humanWins = 0;
+            long machineWins = 0;
+            long totalTurns = 0;
+            MachineStrategy first = firstStrategy.get();
+            MachineStrategy second = secondStrategy.get();
+            for (long i = 0; i < count; i++) {
+                GameHandler gameHandler = GameHandler.createNewGame(random);
+                gameHandler.setStrategy(true, first);
+                gameHandler.setStrategy(false, second);
+                if (archive != null) {
+                    archive.track(gameHandler, GameClock.system());
+                }
+                totalTurns += playGame(gameHandler);
+                if ("HUMAN".equals(gameHandler.getWinner())) {
+                    humanWins++;
+                } else if ("MACHINE".equals(gameHandler.getWinner())) {
+                    machineWins++;
+                }
+            }
+            return new SimulationResult(count, humanWins, machineWins, totalTurns, 0);
+        }
+    }
+
+    /**
+     * Plays a batch of games from the command line and prints the report.
+     *
+     * @param args the number of games, the seed, the number of workers, the names of the strategies
+     *             of both seats and the folder of the archive, all optional
+     * @throws IOException if the archive cannot be opened or written
+     */
+    public static void main(String[] args) throws IOException {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 100_000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : System.nanoTime();
+        int workers = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        String first = args.length > 3 ? args[3] : "greedy";
+        String second = args.length > 4 ? args[4] : "greedy";
+        MachineStrategy.byName(first);
+        MachineStrategy.byName(second); // Fail before starting if a name is wrong
+
+        GameArchive archive = args.length > 5 ? new GameArchive(new File(args[5])) : null;
+
+        ForkJoinPool pool = new ForkJoinPool(workers);
+        try {
+            // Each strategy gets its own virtual clock, nobody sleeps on it and its time never moves
+            SimulationResult result = new SelfPlaySimulator(pool,
+                    () -> MachineStrategy.byName(first, new VirtualGameClock()),
+                    () -> MachineStrategy.byName(second, new VirtualGameClock()), archive).run(games, seed);
+            System.out.println("Semilla " + seed + ", " + workers + " hilos, " + first + " contra " + second);
+            System.out.println(result);
+        } finally {
+            pool.shutdown();
+            if (archive != null) {
+                archive.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package org.example.eiscuno.model.simulation;
+
+/**
+ * SimulationResult holds the totals of a batch of self-play games and the statistics derived from them.
+ * Partial results of the workers are merged with {@link #merge}, which never changes its arguments.
+ */
+public final class SimulationResult {
+
+    /** z value of a 95% confidence interval. */
+    private static final double Z_95 = 1.959963984540054;
+
+    private final long games;
+    private final long humanWins;
+    private final long machineWins;
+    private final long totalTurns;
+    private final long elapsedNanos;
+
+    /**
+     * Constructs a result.
+     *
+     * @param games the number of games played
+     * @param humanWins the games won by the human seat, which plays first
+     * @param machineWins the games won by the machine seat
+     * @param totalTurns the turns played in all the games
+     * @param elapsedNanos the wall clock time of the batch, in nanoseconds
+     */
+    public SimulationResult(long games, long humanWins, long machineWins, long totalTurns, long elapsedNanos) {
+        this.games = games;
+        this.humanWins = humanWins;
+        this.machineWins = machineWins;
+        this.totalTurns = totalTurns;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Adds the totals of two partial results. The elapsed time is the longest of the two.
+     *
+     * @param other the other partial result
+     * @return a new result with the sum of both
+     */
+    public SimulationResult merge(SimulationResult other) {
+        return new SimulationResult(games + other.games, humanWins + other.humanWins,
+                machineWins + other.machineWins, totalTurns + other.totalTurns,
+                Math.max(elapsedNanos, other.elapsedNanos));
+    }
+
+    /**
+     * Returns the same totals with another elapsed time.
+     *
+     * @param elapsedNanos the wall clock time of the batch, in nanoseconds
+     * @return a new result
+     */
+    public SimulationResult withElapsedNanos(long elapsedNanos) {
+        return new SimulationResult(games, humanWins, machineWins, totalTurns, elapsedNanos);
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getHumanWins() {
+        return humanWins;
+    }
+
+    public long getMachineWins() {
+        return machineWins;
+    }
+
+    /**
+     * Returns the games stopped at the turn limit without a winner.
+     *
+     * @return the number of unfinished games
+     */
+    public long getUnfinished() {
+        return games - humanWins - machineWins;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the games played per second of wall clock time.
+     *
+     * @return the throughput of the batch
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Returns the average number of turns of a game.
+     *
+     * @return the average length of the games
+     */
+    public double getAverageTurns() {
+        return games == 0 ? 0 : (double) totalTurns / games;
+    }
+
+    /**
+     * Returns the fraction of the games won by the human seat.
+     *
+     * @return the win rate of the human seat
+     */
+    public double getHumanWinRate() {
+        return games == 0 ? 0 : (double) humanWins / games;
+    }
+
+    /**
+     * Returns the 95% Wilson score interval of the win rate of the human seat.
+     *
+     * @return the lower and upper bounds of the interval
+     */
+    public double[] getHumanWinRateInterval() {
+        if (games == 0) return new double[] {0, 1};
+        double p = getHumanWinRate();
+        double z2 = Z_95 * Z_95;
+        double denominator = 1 + z2 / games;
+        double center = (p + z2 / (2.0 * games)) / denominator;
+        double margin = Z_95 * Math.sqrt(p * (1 - p) / games + z2 / (4.0 * games * games)) / denominator;
+        return new double[] {Math.max(0, center - margin), Math.min(1, center + margin)};
+    }
+
+    @Override
+    public String toString() {
+        double[] interval = getHumanWinRateInterval();
+        return String.format("%d partidas en %.2f s (%.0f partidas/s)%n"
+                        + "Victorias del primer jugador: %.2f%% (IC 95%%: %.2f%% - %.2f%%)%n"
+                        + "Victorias del segundo jugador: %.2f%%, sin terminar: %d%n"
+                        + "Turnos por partida: %.2f",
+                games, elapsedNanos / 1e9, getGamesPerSecond(),
+                getHumanWinRate() * 100, interval[0] * 100, interval[1] * 100,
+                games == 0 ? 0 : machineWins * 100.0 / games, getUnfinished(),
+                getAverageTurns());
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.eiscuno.model.strategy;
+
+// Imports
+import java.util.random.RandomGenerator;
+
+/**
+ * GameView is the read-only view of a game that a MachineStrategy sees from one seat.
+ * It shows only what that player could know: its own hand, the size of the other hand and
+ * of the deck, and the cards on the table. Cards are given as CardCatalog ids and colors
+ * as color indexes, so reading the view never allocates.
+ */
+public interface GameView {
+
+    /**
+     * Returns the number of cards in the hand of the player.
+     *
+     * @return the size of the hand
+     */
+    int getHandSize();
+
+    /**
+     * Returns the id of a card of the hand, in the order the cards were received.
+     *
+     * @param index the position of the card in the hand
+     * @return the CardCatalog id of the card
+     */
+    int getHandCardId(int index);
+
+    /**
+     * Returns how many cards with the given id the player has.
+     *
+     * @param cardId the CardCatalog id
+     * @return the number of cards with that id
+     */
+    int countInHand(int cardId);
+
+    /**
+     * Returns how many cards of the given printed color the player has.
+     * Wild and +4 cards are counted under CardCatalog.NO_COLOR.
+     *
+     * @param colorIndex the color index, as in CardCatalog.COLORS
+     * @return the number of cards of that color
+     */
+    int countInHandByColor(int colorIndex);
+
+    /**
+     * Returns the ids of the cards of the hand that can be played on the top card.
+     *
+     * @return a bit mask where bit i is set if a card with id i can be played
+     */
+    long getPlayableIds();
+
+    /**
+     * Returns the id of the card on top of the table.
+     *
+     * @return the CardCatalog id of the top card
+     */
+    int getTopCardId();
+
+    /**
+     * Returns the color that must be followed: the color of the top card, or the color chosen for it
+     * if it is a wild card. It is CardCatalog.NO_COLOR while the color of a wild card is being chosen.
+     *
+     * @return the active color index
+     */
+    int getActiveColor();
+
+    /**
+     * Returns the number of cards of the other player.
+     *
+     * @return the size of the other hand
+     */
+    int getOpponentHandSize();
+
+    /**
+     * Returns the number of cards left in the deck.
+     *
+     * @return the size of the deck
+     */
+    int getDeckSize();
+
+    /**
+     * Returns the number of cards on the table, the top card included.
+     *
+     * @return the size of the discard pile
+     */
+    int getDiscardSize();
+
+    /**
+     * Returns a card of the table.
+     *
+     * @param index the position of the card, 0 being the oldest and getDiscardSize() - 1 the top card
+     * @return the CardCatalog id of the card
+     */
+    int getDiscardId(int index);
+
+    /**
+     * Returns the random generator of the game, for strategies that make random choices.
+     * Using it keeps seeded games reproducible.
+     *
+     * @return the random generator of the game
+     */
+    RandomGenerator getRandom();
+}
@@ -0,0 +1,119 @@
+package org.example.eiscuno.model.strategy;
+
+// Imports
+import org.example.eiscuno.model.card.CardCatalog;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * GameViewSnapshot is a copy of a GameView taken at one moment, so a strategy can read it on
+ * another thread while the game goes on. It is filled on the thread that changes the game and
+ * has its own random generator, seeded from the generator of the game, so a seeded game still
+ * makes the same decisions. The arrays are allocated once and every copy reuses them.
+ */
+public final class GameViewSnapshot implements GameView {
+
+    private static final int CARDS = CardCatalog.CARD_COUNT;
+
+    private final int[] hand = new int[CARDS];
+    private final int[] handCounts = new int[CARDS];
+    private final int[] colorCounts = new int[CardCatalog.COLOR_COUNT];
+    private final int[] discard = new int[CARDS];
+    private final SplitMixRandom random = new SplitMixRandom();
+    private int handSize;
+    private int discardSize;
+    private long playableIds;
+    private int topCardId;
+    private int activeColor;
+    private int opponentHandSize;
+    private int deckSize;
+
+    /**
+     * Copies a view. It must be called on the thread that changes the game of the view.
+     *
+     * @param view the view to copy
+     */
+    public void copyFrom(GameView view) {
+        for (int i = 0; i < handSize; i++) {
+            handCounts[hand[i]] = 0;
+        }
+        handSize = view.getHandSize();
+        for (int i = 0; i < handSize; i++) {
+            hand[i] = view.getHandCardId(i);
+            handCounts[hand[i]]++;
+        }
+        for (int color = 0; color < CardCatalog.COLOR_COUNT; color++) {
+            colorCounts[color] = view.countInHandByColor(color);
+        }
+        discardSize = view.getDiscardSize();
+        for (int i = 0; i < discardSize; i++) {
+            discard[i] = view.getDiscardId(i);
+        }
+        playableIds = view.getPlayableIds();
+        topCardId = view.getTopCardId();
+        activeColor = view.getActiveColor();
+        opponentHandSize = view.getOpponentHandSize();
+        deckSize = view.getDeckSize();
+        random.setSeed(view.getRandom().nextLong());
+    }
+
+    @Override
+    public int getHandSize() {
+        return handSize;
+    }
+
+    @Override
+    public int getHandCardId(int index) {
+        return hand[index];
+    }
+
+    @Override
+    public int countInHand(int cardId) {
+        return handCounts[cardId];
+    }
+
+    @Override
+    public int countInHandByColor(int colorIndex) {
+        return colorCounts[colorIndex];
+    }
+
+    @Override
+    public long getPlayableIds() {
+        return playableIds;
+    }
+
+    @Override
+    public int getTopCardId() {
+        return topCardId;
+    }
+
+    @Override
+    public int getActiveColor() {
+        return activeColor;
+    }
+
+    @Override
+    public int getOpponentHandSize() {
+        return opponentHandSize;
+    }
+
+    @Override
+    public int getDeckSize() {
+        return deckSize;
+    }
+
+    @Override
+    public int getDiscardSize() {
+        return discardSize;
+    }
+
+    @Override
+    public int getDiscardId(int index) {
+        return discard[index];
+    }
+
+    @Override
+    public RandomGenerator getRandom() {
+        return random;
+    }
+}
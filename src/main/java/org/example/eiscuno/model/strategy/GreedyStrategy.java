@@ -0,0 +1,32 @@
+package org.example.eiscuno.model.strategy;
+
+// Imports
+import org.example.eiscuno.model.card.CardCatalog;
+
+/**
+ * GreedyStrategy is the original policy of the machine player:
+ * it plays the first card of its hand, in the order the cards were received, that can be played,
+ * and it chooses the color of wild cards at random. It keeps no state, so it can be shared.
+ */
+public class GreedyStrategy implements MachineStrategy {
+
+    @Override
+    public int chooseCard(GameView view) {
+        long playable = view.getPlayableIds();
+        if (playable == 0) {
+            return DRAW;
+        }
+        for (int i = 0; i < view.getHandSize(); i++) {
+            int id = view.getHandCardId(i);
+            if ((playable & (1L << id)) != 0) {
+                return id;
+            }
+        }
+        return DRAW;
+    }
+
+    @Override
+    public int chooseColor(GameView view, int cardId) {
+        return view.getRandom().nextInt(CardCatalog.COLORS.length);
+    }
+}
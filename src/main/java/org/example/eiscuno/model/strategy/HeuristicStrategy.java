@@ -0,0 +1,72 @@
+package org.example.eiscuno.model.strategy;
+
+// Imports
+import org.example.eiscuno.model.card.CardCatalog;
+import org.example.eiscuno.model.card.CardKind;
+
+/**
+ * HeuristicStrategy scores every playable card with a few fixed rules and plays the best one:
+ * cards that keep the turn (skip, reverse, +2) come first, the color the player holds most of
+ * is preferred so it keeps more options, and wild and +4 cards are saved for when nothing else
+ * can be played or the other player is about to win. Wild colors go to the color held most.
+ * It keeps no state, so it can be shared, and each decision is a single pass over the playable ids.
+ */
+public class HeuristicStrategy implements MachineStrategy {
+
+    // Number of cards of the other player from which the attacking cards are played first
+    private static final int DANGER_HAND_SIZE = 2;
+
+    @Override
+    public int chooseCard(GameView view) {
+        long playable = view.getPlayableIds();
+        boolean danger = view.getOpponentHandSize() <= DANGER_HAND_SIZE;
+        int best = DRAW;
+        int bestScore = Integer.MIN_VALUE;
+        while (playable != 0) {
+            int id = Long.numberOfTrailingZeros(playable);
+            playable &= playable - 1;
+            int score = score(view, id, danger);
+            if (score > bestScore) {
+                bestScore = score;
+                best = id;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public int chooseColor(GameView view, int cardId) {
+        int best = -1;
+        int bestCount = 0;
+        for (int color = 0; color < CardCatalog.COLORS.length; color++) {
+            int count = view.countInHandByColor(color);
+            if (count > bestCount) {
+                bestCount = count;
+                best = color;
+            }
+        }
+        return best >= 0 ? best : view.getRandom().nextInt(CardCatalog.COLORS.length);
+    }
+
+    /**
+     * Scores a playable card; the card with the highest score is played.
+     */
+    private static int score(GameView view, int id, boolean danger) {
+        CardKind kind = CardCatalog.getKind(id);
+        int colorCount = view.countInHandByColor(CardCatalog.getColorIndex(id));
+        switch (kind) {
+            case PLUS_FOUR:
+                return danger ? 60 : 0;
+            case WILD:
+                return 1;
+            case PLUS_TWO:
+                return (danger ? 50 : 30) + colorCount;
+            case SKIP:
+            case REVERSE:
+                return (danger ? 45 : 25) + colorCount;
+            default:
+                // Among numbers, follow the color held most and get rid of high numbers first
+                return 10 + 2 * colorCount + CardCatalog.getNumber(id) / 3;
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package org.example.eiscuno.model.strategy;
+
+// Imports
+import org.example.eiscuno.model.card.CardCatalog;
+import org.example.eiscuno.model.common.GameClock;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * IsmctsStrategy chooses its card with an information set Monte Carlo tree search (ISMCTS).
+ * Every iteration deals at random the cards the player cannot see, the other hand and the order
+ * of the deck, walks down a tree of moves shared by all the deals choosing with UCB1 among the
+ * moves that are legal in that deal, adds one new move to the tree, and finishes the game with
+ * the HeuristicStrategy for both players. The tree holds the moves of both players, each one
+ * scored for the player who made it, and a move is only compared with the moves that were
+ * available at the same time.
+ *
+ * The search runs on several workers, each one with its own tree (root parallelization). When
+ * the time budget is over the visits of the first moves of every tree are added up and the most
+ * visited card is played. The games are arrays of card ids (PlayoutGame) and the trees are
+ * allocated once, so a decision only copies arrays. Colors are chosen by the HeuristicStrategy,
+ * inside the search and for the real move.
+ *
+ * The time budget is measured on a GameClock. The time of a VirtualGameClock does not move while
+ * the search runs, so with one a decision is limited to VIRTUAL_ITERATIONS iterations instead,
+ * and games played in virtual time choose the same moves on every run.
+ *
+ * The trees are reused by every decision, so each game needs its own instance.
+ */
+public class IsmctsStrategy implements MachineStrategy {
+
+    /** Default time budget of a decision, in milliseconds. */
+    public static final long DEFAULT_BUDGET_MILLIS = 50;
+
+    /** Iterations of a decision when the budget is measured on a virtual clock. */
+    public static final int VIRTUAL_ITERATIONS = 1_000;
+
+    /** Exploration constant of UCB1. */
+    static final double EXPLORATION = 0.7;
+
+    /** Maximum number of nodes of the tree of a worker; once full the tree stops growing. */
+    static final int MAX_NODES = 1 << 16;
+
+    // The draw move is stored after every card id
+    private static final int DRAW_MOVE = CardCatalog.CARD_COUNT;
+    private static final long DRAW_BIT = 1L << DRAW_MOVE;
+    private static final int NO_NODE = -1;
+
+    private final long budgetMillis;
+    private final int maxIterations;
+    private final ForkJoinPool pool;
+    private final GameClock clock;
+    private final MachineStrategy heuristic = new HeuristicStrategy();
+    private final PlayoutGame root = new PlayoutGame();
+    private final Worker[] workers;
+    private final int[] rootVisits = new int[DRAW_MOVE + 1];
+
+    /**
+     * Creates a search with one worker, limited only by the real time.
+     *
+     * @param budgetMillis the time that a decision may take, in milliseconds
+     */
+    public IsmctsStrategy(long budgetMillis) {
+        this(budgetMillis, 1);
+    }
+
+    /**
+     * Creates a search limited only by the real time.
+     * The calling thread is one of the workers, the others run on the common ForkJoinPool.
+     *
+     * @param budgetMillis the time that a decision may take, in milliseconds
+     * @param workerCount the number of trees searched at the same time
+     */
+    public IsmctsStrategy(long budgetMillis, int workerCount) {
+        this(budgetMillis, workerCount, GameClock.system());
+    }
+
+    /**
+     * Creates a search limited by the time of a clock, or by VIRTUAL_ITERATIONS if the clock is virtual.
+     * The calling thread is one of the workers, the others run on the common ForkJoinPool.
+     *
+     * @param budgetMillis the time that a decision may take, in milliseconds of the clock
+     * @param workerCount the number of trees searched at the same time
+     * @param clock the clock of the game
+     */
+    public IsmctsStrategy(long budgetMillis, int workerCount, GameClock clock) {
+        this(budgetMillis, workerCount, clock.isVirtual() ? VIRTUAL_ITERATIONS : Integer.MAX_VALUE,
+                ForkJoinPool.commonPool(), clock);
+    }
+
+    /**
+     * Creates a search limited by the real time and by a number of iterations.
+     * With a fixed number of iterations and a seeded game the decisions are reproducible.
+     *
+     * @param budgetMillis the time that a decision may take, in milliseconds
+     * @param workerCount the number of trees searched at the same time
+     * @param maxIterations the maximum number of iterations of a decision, shared by the workers
+     * @param pool the pool that runs every worker but the first one
+     * @throws IllegalArgumentException if workerCount or maxIterations is not positive
+     */
+    public IsmctsStrategy(long budgetMillis, int workerCount, int maxIterations, ForkJoinPool pool) {
+        this(budgetMillis, workerCount, maxIterations, pool, GameClock.system());
+    }
+
+    /**
+     * Creates a search limited by the time of a clock and by a number of iterations.
+     *
+     * @param budgetMillis the time that a decision may take, in milliseconds of the clock
+     * @param workerCount the number of trees searched at the same time
+     * @param maxIterations the maximum number of iterations of a decision, shared by the workers
+     * @param pool the pool that runs every worker but the first one
+     * @param clock the clock that measures the budget
+     * @throws IllegalArgumentException if workerCount or maxIterations is not positive
+     */
+    public IsmctsStrategy(long budgetMillis, int workerCount, int maxIterations, ForkJoinPool pool, GameClock clock) {
+        if (workerCount < 1 || maxIterations < 1) {
+            throw new IllegalArgumentException("workerCount and maxIterations must be positive");
+        }
+        this.budgetMillis = budgetMillis;
+        this.maxIterations = maxIterations;
+        this.pool = pool;
+        this.clock = clock;
+        this.workers = new Worker[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            workers[i] = new Worker();
+        }
+    }
+
+    @Override
+    public int chooseCard(GameView view) {
+        long playable = view.getPlayableIds();
+        if (playable == 0) {
+            return DRAW;
+        }
+        if (Long.bitCount(playable) == 1) {
+            return Long.numberOfTrailingZeros(playable);
+        }
+
+        // The view is only read here, on the calling thread; the workers deal again from the root
+        root.determinize(view, view.getRandom());
+        long deadline = clock.currentTimeMillis() + budgetMillis;
+        for (int i = 0; i < workers.length; i++) {
+            int iterations = maxIterations / workers.length + (i < maxIterations % workers.length ? 1 : 0);
+            workers[i].prepare(view.getRandom().nextLong(), deadline, iterations);
+        }
+        for (int i = 1; i < workers.length; i++) {
+            pool.execute(workers[i]);
+        }
+        workers[0].search();
+
+        Arrays.fill(rootVisits, 0);
+        for (int i = 0; i < workers.length; i++) {
+            if (i > 0) workers[i].join();
+            workers[i].addRootVisits(rootVisits);
+        }
+
+        int best = Long.numberOfTrailingZeros(playable);
+        for (long rest = playable & (playable - 1); rest != 0; rest &= rest - 1) {
+            int id = Long.numberOfTrailingZeros(rest);
+            if (rootVisits[id] > rootVisits[best]) {
+                best = id;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public int chooseColor(GameView view, int cardId) {
+        return heuristic.chooseColor(view, cardId);
+    }
+
+    /**
+     * A worker searches its own tree on copies of the root game.
+     * The nodes are stored in parallel arrays; the children of a node form a linked list.
+     */
+    @SuppressWarnings("serial") // Workers are never serialized
+    private final class Worker extends RecursiveAction {
+
+        private final PlayoutGame game = new PlayoutGame();
+        private final SplitMixRandom random = new SplitMixRandom();
+        private final int[] move = new int[MAX_NODES];
+        private final int[] player = new int[MAX_NODES];
+        private final int[] parent = new int[MAX_NODES];
+        private final int[] firstChild = new int[MAX_NODES];
+        private final int[] nextSibling = new int[MAX_NODES];
+        private final int[] visits = new int[MAX_NODES];
+        private final int[] wins = new int[MAX_NODES];
+        private final int[] available = new int[MAX_NODES];
+        private int nodeCount;
+        private long deadline;
+        private int iterations;
+
+        /**
+         * Gets the worker ready for a new decision.
+         */
+        void prepare(long seed, long deadline, int iterations) {
+            random.setSeed(seed);
+            this.deadline = deadline;
+            this.iterations = iterations;
+            reinitialize();
+        }
+
+        @Override
+        protected void compute() {
+            search();
+        }
+
+        /**
+         * Runs iterations until the budget is over. The first iteration runs even if the time is already over.
+         */
+        void search() {
+            nodeCount = 1;
+            firstChild[0] = NO_NODE;
+            for (int i = 0; i < iterations; i++) {
+                if (i > 0 && clock.currentTimeMillis() - deadline >= 0) break;
+                iterate();
+            }
+        }
+
+        private void iterate() {
+            game.copyFrom(root);
+            game.redeal(random);
+
+            // Selection: follow the best known move until a legal move of the deal is not in the tree yet
+            int node = 0;
+            while (game.getWinner() == PlayoutGame.NO_WINNER) {
+                int seat = game.getSeat();
+                long legal = game.getPlayableIds();
+                if (legal == 0) {
+                    legal = DRAW_BIT;
+                }
+
+                long tried = 0;
+                int best = NO_NODE;
+                double bestScore = Double.NEGATIVE_INFINITY;
+                for (int child = firstChild[node]; child != NO_NODE; child = nextSibling[child]) {
+                    long bit = 1L << move[child];
+                    if (player[child] != seat || (legal & bit) == 0) continue;
+                    tried |= bit;
+                    available[child]++;
+                    double score = (double) wins[child] / visits[child]
+                            + EXPLORATION * Math.sqrt(Math.log(available[child]) / visits[child]);
+                    if (score > bestScore) {
+                        bestScore = score;
+                        best = child;
+                    }
+                }
+
+                long untried = legal & ~tried;
+                if (untried != 0) {
+                    // Expansion: one new move, then the playout
+                    int newMove = pick(untried);
+                    if (nodeCount < MAX_NODES) {
+                        node = addChild(node, newMove, seat);
+                    }
+                    apply(newMove);
+                    break;
+                }
+                node = best;
+                apply(move[best]);
+            }
+
+            int winner = game.getWinner();
+            if (winner == PlayoutGame.NO_WINNER) {
+                winner = game.playOut(heuristic, SearchStrategy.MAX_PLAYOUT_TURNS);
+            }
+            for (; node != 0; node = parent[node]) {
+                visits[node]++;
+                if (player[node] == winner) {
+                    wins[node]++;
+                }
+            }
+        }
+
+        private void apply(int move) {
+            if (move == DRAW_MOVE) {
+                game.drawAndPlay(heuristic);
+            } else {
+                game.play(move, heuristic);
+            }
+        }
+
+        private int pick(long moves) {
+            for (int skip = random.nextInt(Long.bitCount(moves)); skip > 0; skip--) {
+                moves &= moves - 1;
+            }
+            return Long.numberOfTrailingZeros(moves);
+        }
+
+        private int addChild(int node, int childMove, int seat) {
+            int child = nodeCount++;
+            move[child] = childMove;
+            player[child] = seat;
+            parent[child] = node;
+            firstChild[child] = NO_NODE;
+            nextSibling[child] = firstChild[node];
+            firstChild[node] = child;
+            visits[child] = 0;
+            wins[child] = 0;
+            available[child] = 1;
+            return child;
+        }
+
+        /**
+         * Adds the visits of the moves of the root to the totals of every worker.
+         */
+        void addRootVisits(int[] totals) {
+            for (int child = firstChild[0]; child != NO_NODE; child = nextSibling[child]) {
+                totals[move[child]] += visits[child];
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.eiscuno.model.strategy;
+
+// Imports
+import org.example.eiscuno.model.common.GameClock;
+
+/**
+ * MachineStrategy decides the moves of a machine player: which card to play and which color
+ * to choose for a wild or +4 card. The rules are applied by the GameHandler; a strategy only
+ * reads a GameView of the game and answers with CardCatalog ids and color indexes.
+ *
+ * Strategies run on the machine's thread in the UI, reading a GameViewSnapshot, and on every worker
+ * in bulk simulation, so their decisions must not allocate. Colors are chosen on the thread that
+ * changes the game. A strategy that keeps working memory is not thread safe and each game must get
+ * its own instance; the stateless ones can be shared.
+ */
+public interface MachineStrategy {
+
+    /** Answer of chooseCard when the player takes a card from the deck instead of playing. */
+    int DRAW = -1;
+
+    /**
+     * Chooses the card to play.
+     * It must return the id of a card of the hand that can be played, or DRAW only when none can.
+     * If the drawn card can be played it is played right away, as in the rules of the game.
+     *
+     * @param view the game as seen by the player
+     * @return the CardCatalog id of the card to play, or DRAW
+     */
+    int chooseCard(GameView view);
+
+    /**
+     * Chooses the color of a wild or +4 card that has just been played.
+     * The card is already on the table and no longer in the hand.
+     *
+     * @param view the game as seen by the player
+     * @param cardId the id of the card that was played
+     * @return the chosen color index, as in CardCatalog.COLORS
+     */
+    int chooseColor(GameView view, int cardId);
+
+    /**
+     * Creates a strategy from its name. The searches are limited by the real time.
+     *
+     * @param name "greedy", "heuristic", "search" or "ismcts"
+     * @return a new instance of the strategy
+     * @throws IllegalArgumentException if there is no strategy with that name
+     */
+    static MachineStrategy byName(String name) {
+        return byName(name, GameClock.system());
+    }
+
+    /**
+     * Creates a strategy from its name, whose searches measure their budget on the given clock.
+     * With a virtual clock the searches are limited by a number of playouts, so they are reproducible.
+     *
+     * @param name "greedy", "heuristic", "search" or "ismcts"
+     * @param clock the clock of the game
+     * @return a new instance of the strategy
+     * @throws IllegalArgumentException if there is no strategy with that name
+     */
+    static MachineStrategy byName(String name, GameClock clock) {
+        switch (name.toLowerCase()) {
+            case "greedy":
+                return new GreedyStrategy();
+            case "heuristic":
+                return new HeuristicStrategy();
+            case "search":
+                return new SearchStrategy(SearchStrategy.DEFAULT_BUDGET_MILLIS, clock);
+            case "ismcts":
+                return new IsmctsStrategy(IsmctsStrategy.DEFAULT_BUDGET_MILLIS, 1, clock);
+            default:
+                throw new IllegalArgumentException("Unknown strategy: " + name);
+        }
+    }
+}
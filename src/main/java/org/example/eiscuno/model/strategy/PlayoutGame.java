@@ -0,0 +1,361 @@
+package org.example.eiscuno.model.strategy;
+
+// Imports
+import org.example.eiscuno.model.card.CardCatalog;
+import org.example.eiscuno.model.card.CardKind;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * PlayoutGame is a copy of a game made only of card ids, used by the search strategies to play
+ * many fast games from the current position. It follows the rules of the GameHandler:
+ * +2 and +4 make the other player draw and the same player repeats the turn, skip and reverse
+ * repeat the turn, a player who cannot play draws one card and plays it if it can, and the
+ * discarded cards are shuffled back into the deck when it runs out. UNO calls are not simulated.
+ *
+ * The cards the searching player cannot see, the other hand and the deck, are dealt at random
+ * from the cards it has not seen (a determinization). Every array is allocated once, so playing
+ * a game does not allocate. Seats are relative: ROOT is the searching player, OPPONENT the other one.
+ * While it is used as a GameView, it shows the game from the seat whose turn it is.
+ */
+final class PlayoutGame implements GameView {
+
+    static final int ROOT = 0;
+    static final int OPPONENT = 1;
+
+    /** Value of getWinner while nobody has won. */
+    static final int NO_WINNER = -1;
+
+    private static final int CARDS = CardCatalog.CARD_COUNT;
+
+    private final int[][] counts = new int[2][CARDS];
+    private final int[][] colorCounts = new int[2][CardCatalog.COLOR_COUNT];
+    private final long[] masks = new long[2];
+    private final int[] sizes = new int[2];
+    private final int[] deck = new int[CARDS];
+    private final int[] pile = new int[CARDS];
+    private final int[] unknown = new int[CARDS];
+
+    private int deckSize;
+    private int pileSize;
+    private int activeColor;
+    private int seat;
+    private int winner;
+    private RandomGenerator random;
+
+    /**
+     * Rebuilds the game seen by a player, dealing the cards it cannot see at random.
+     * The ROOT seat gets the hand of the player and the turn.
+     *
+     * @param view the game as seen by the searching player
+     * @param random the generator used to deal the hidden cards and by the playout policies
+     */
+    void determinize(GameView view, RandomGenerator random) {
+        this.random = random;
+        clearHand(ROOT);
+        clearHand(OPPONENT);
+
+        long seen = 0;
+        for (int i = 0; i < view.getHandSize(); i++) {
+            int id = view.getHandCardId(i);
+            addToHand(ROOT, id);
+            seen |= 1L << id;
+        }
+        pileSize = 0;
+        for (int i = 0; i < view.getDiscardSize(); i++) {
+            int id = view.getDiscardId(i);
+            pile[pileSize++] = id;
+            seen |= 1L << id;
+        }
+
+        // Every id is in the deck once, so the hidden cards are the ids not seen
+        int unknownSize = 0;
+        for (int id = 0; id < CARDS; id++) {
+            if ((seen & (1L << id)) == 0) {
+                unknown[unknownSize++] = id;
+            }
+        }
+        shuffle(unknown, unknownSize);
+        int opponentCards = Math.min(view.getOpponentHandSize(), unknownSize);
+        for (int i = 0; i < opponentCards; i++) {
+            addToHand(OPPONENT, unknown[i]);
+        }
+        deckSize = unknownSize - opponentCards;
+        System.arraycopy(unknown, opponentCards, deck, 0, deckSize);
+
+        activeColor = view.getActiveColor();
+        seat = ROOT;
+        winner = NO_WINNER;
+    }
+
+    /**
+     * Makes this game a copy of another one, sharing nothing with it.
+     *
+     * @param other the game to copy
+     */
+    void copyFrom(PlayoutGame other) {
+        for (int player = ROOT; player <= OPPONENT; player++) {
+            System.arraycopy(other.counts[player], 0, counts[player], 0, CARDS);
+            System.arraycopy(other.colorCounts[player], 0, colorCounts[player], 0, CardCatalog.COLOR_COUNT);
+        }
+        masks[ROOT] = other.masks[ROOT];
+        masks[OPPONENT] = other.masks[OPPONENT];
+        sizes[ROOT] = other.sizes[ROOT];
+        sizes[OPPONENT] = other.sizes[OPPONENT];
+        System.arraycopy(other.deck, 0, deck, 0, other.deckSize);
+        System.arraycopy(other.pile, 0, pile, 0, other.pileSize);
+        deckSize = other.deckSize;
+        pileSize = other.pileSize;
+        activeColor = other.activeColor;
+        seat = other.seat;
+        winner = other.winner;
+        random = other.random;
+    }
+
+    /**
+     * Deals again the cards the ROOT seat cannot see, the other hand and the deck, keeping their sizes.
+     * It is a new determinization of the same position, much cheaper than rebuilding it from a view.
+     *
+     * @param random the generator used to deal the hidden cards and by the playout policies
+     */
+    void redeal(RandomGenerator random) {
+        this.random = random;
+        int opponentCards = sizes[OPPONENT];
+        int hiddenSize = 0;
+        for (long hand = masks[OPPONENT]; hand != 0; hand &= hand - 1) {
+            int id = Long.numberOfTrailingZeros(hand);
+            for (int i = 0; i < counts[OPPONENT][id]; i++) {
+                unknown[hiddenSize++] = id;
+            }
+        }
+        System.arraycopy(deck, 0, unknown, hiddenSize, deckSize);
+        hiddenSize += deckSize;
+
+        clearHand(OPPONENT);
+        shuffle(unknown, hiddenSize);
+        for (int i = 0; i < opponentCards; i++) {
+            addToHand(OPPONENT, unknown[i]);
+        }
+        deckSize = hiddenSize - opponentCards;
+        System.arraycopy(unknown, opponentCards, deck, 0, deckSize);
+    }
+
+    /**
+     * Plays a card from the hand of the seat whose turn it is and applies its effect.
+     * The color of a wild or +4 card is chosen by the given strategy.
+     *
+     * @param id the card to play, which must be in the hand and playable
+     * @param strategy the strategy that chooses the color of a wild card
+     */
+    void play(int id, MachineStrategy strategy) {
+        int player = seat;
+        removeFromHand(player, id);
+        pile[pileSize++] = id;
+
+        CardKind kind = CardCatalog.getKind(id);
+        if (kind == CardKind.PLUS_TWO) {
+            draw(player ^ 1, 2);
+        } else if (kind == CardKind.PLUS_FOUR) {
+            draw(player ^ 1, 4);
+        }
+
+        if (kind == CardKind.WILD || kind == CardKind.PLUS_FOUR) {
+            activeColor = CardCatalog.NO_COLOR;
+            activeColor = strategy.chooseColor(this, id);
+        } else {
+            activeColor = CardCatalog.getColorIndex(id);
+        }
+
+        if (sizes[player] == 0) {
+            winner = player;
+        } else if (kind == CardKind.NUMBER || kind == CardKind.WILD) {
+            seat = player ^ 1;
+        }
+    }
+
+    /**
+     * Plays the turn of the seat whose turn it is: the card chosen by the strategy, or a card from the deck.
+     *
+     * @param strategy the policy of the seat
+     */
+    void playTurn(MachineStrategy strategy) {
+        int id = strategy.chooseCard(this);
+        if (id == MachineStrategy.DRAW) {
+            drawAndPlay(strategy);
+        } else {
+            play(id, strategy);
+        }
+    }
+
+    /**
+     * Takes a card from the deck for the seat whose turn it is, plays it if it can,
+     * and otherwise passes the turn.
+     *
+     * @param strategy the strategy that chooses the color if the drawn card is a wild card
+     */
+    void drawAndPlay(MachineStrategy strategy) {
+        int drawn = draw(seat, 1);
+        if (drawn >= 0 && CardCatalog.isLegal(drawn, pile[pileSize - 1], activeColor)) {
+            play(drawn, strategy);
+        } else {
+            seat ^= 1;
+        }
+    }
+
+    /**
+     * Plays the game until a seat wins or the turn limit is reached, both seats with the same policy.
+     *
+     * @param strategy the policy of both seats
+     * @param maxTurns the maximum number of turns to play
+     * @return the winning seat, or NO_WINNER if the limit was reached
+     */
+    int playOut(MachineStrategy strategy, int maxTurns) {
+        for (int turn = 0; winner == NO_WINNER && turn < maxTurns; turn++) {
+            playTurn(strategy);
+        }
+        return winner;
+    }
+
+    /**
+     * Gives cards of the deck to a seat, recycling the table when the deck runs out.
+     *
+     * @return the last card drawn, or -1 if there were no cards left
+     */
+    private int draw(int player, int cardCount) {
+        int last = -1;
+        for (int i = 0; i < cardCount; i++) {
+            if (deckSize == 0) {
+                recycle();
+                if (deckSize == 0) break;
+            }
+            last = deck[--deckSize];
+            addToHand(player, last);
+        }
+        return last;
+    }
+
+    /**
+     * Moves every card of the table except the top one into the deck and shuffles it.
+     */
+    private void recycle() {
+        int top = pile[pileSize - 1];
+        System.arraycopy(pile, 0, deck, deckSize, pileSize - 1);
+        deckSize += pileSize - 1;
+        pile[0] = top;
+        pileSize = 1;
+        shuffle(deck, deckSize);
+    }
+
+    private void shuffle(int[] cards, int size) {
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int card = cards[i];
+            cards[i] = cards[j];
+            cards[j] = card;
+        }
+    }
+
+    private void clearHand(int player) {
+        Arrays.fill(counts[player], 0);
+        Arrays.fill(colorCounts[player], 0);
+        masks[player] = 0;
+        sizes[player] = 0;
+    }
+
+    private void addToHand(int player, int id) {
+        counts[player][id]++;
+        colorCounts[player][CardCatalog.getColorIndex(id)]++;
+        masks[player] |= 1L << id;
+        sizes[player]++;
+    }
+
+    private void removeFromHand(int player, int id) {
+        if (--counts[player][id] == 0) {
+            masks[player] &= ~(1L << id);
+        }
+        colorCounts[player][CardCatalog.getColorIndex(id)]--;
+        sizes[player]--;
+    }
+
+    int getSeat() {
+        return seat;
+    }
+
+    int getWinner() {
+        return winner;
+    }
+
+    int getHandSize(int player) {
+        return sizes[player];
+    }
+
+    // GameView of the seat whose turn it is
+
+    @Override
+    public int getHandSize() {
+        return sizes[seat];
+    }
+
+    @Override
+    public int getHandCardId(int index) {
+        int[] hand = counts[seat];
+        for (int id = 0; id < CARDS; id++) {
+            index -= hand[id];
+            if (index < 0) {
+                return id;
+            }
+        }
+        throw new IndexOutOfBoundsException("Index out of bounds for hand of size " + sizes[seat]);
+    }
+
+    @Override
+    public int countInHand(int cardId) {
+        return counts[seat][cardId];
+    }
+
+    @Override
+    public int countInHandByColor(int colorIndex) {
+        return colorCounts[seat][colorIndex];
+    }
+
+    @Override
+    public long getPlayableIds() {
+        return masks[seat] & CardCatalog.legalMask(pile[pileSize - 1], activeColor);
+    }
+
+    @Override
+    public int getTopCardId() {
+        return pile[pileSize - 1];
+    }
+
+    @Override
+    public int getActiveColor() {
+        return activeColor;
+    }
+
+    @Override
+    public int getOpponentHandSize() {
+        return sizes[seat ^ 1];
+    }
+
+    @Override
+    public int getDeckSize() {
+        return deckSize;
+    }
+
+    @Override
+    public int getDiscardSize() {
+        return pileSize;
+    }
+
+    @Override
+    public int getDiscardId(int index) {
+        return pile[index];
+    }
+
+    @Override
+    public RandomGenerator getRandom() {
+        return random;
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.eiscuno.model.strategy;
+
+// Imports
+import org.example.eiscuno.model.common.GameClock;
+
+import java.util.Arrays;
+
+/**
+ * SearchStrategy chooses its card by playing many fast games from the current position
+ * within a time budget. Each playout deals the hidden cards at random (a PlayoutGame),
+ * plays one of the candidate cards, and finishes the game with the HeuristicStrategy for
+ * both players. The candidates take turns, and the card that won the most of its playouts is played.
+ * Drawing is only chosen when no card can be played, as the rules require.
+ * Colors are chosen by the HeuristicStrategy.
+ *
+ * The time budget is measured on a GameClock; with a VirtualGameClock, whose time does not move
+ * while the search runs, a decision is limited to VIRTUAL_PLAYOUTS playouts instead.
+ *
+ * The playout game and the counters are allocated once, so a decision does not allocate,
+ * but they make the strategy not thread safe: each game needs its own instance.
+ */
+public class SearchStrategy implements MachineStrategy {
+
+    /** Default time budget of a decision, well below the thinking delay of the machine player. */
+    public static final long DEFAULT_BUDGET_MILLIS = 50;
+
+    /** Playouts of a decision when the budget is measured on a virtual clock. */
+    public static final int VIRTUAL_PLAYOUTS = 1_000;
+
+    /** Maximum number of turns of a playout; a playout that reaches it counts as lost. */
+    static final int MAX_PLAYOUT_TURNS = 500;
+
+    private final long budgetMillis;
+    private final int maxPlayouts;
+    private final GameClock clock;
+    private final MachineStrategy rollout = new HeuristicStrategy();
+    private final PlayoutGame game = new PlayoutGame();
+    private final int[] candidates = new int[Long.SIZE];
+    private final int[] wins = new int[Long.SIZE];
+    private final int[] playouts = new int[Long.SIZE];
+
+    /**
+     * Creates a search strategy limited only by the real time.
+     *
+     * @param budgetMillis the time that a decision may take, in milliseconds
+     */
+    public SearchStrategy(long budgetMillis) {
+        this(budgetMillis, GameClock.system());
+    }
+
+    /**
+     * Creates a search strategy limited by the time of a clock, or by VIRTUAL_PLAYOUTS if the clock is virtual.
+     *
+     * @param budgetMillis the time that a decision may take, in milliseconds of the clock
+     * @param clock the clock of the game
+     */
+    public SearchStrategy(long budgetMillis, GameClock clock) {
+        this(budgetMillis, clock.isVirtual() ? VIRTUAL_PLAYOUTS : Integer.MAX_VALUE, clock);
+    }
+
+    /**
+     * Creates a search strategy limited by the real time and by a number of playouts.
+     * Every candidate is tried at least once, even when the budget is exhausted.
+     *
+     * @param budgetMillis the time that a decision may take, in milliseconds
+     * @param maxPlayouts the maximum number of playouts of a decision
+     */
+    public SearchStrategy(long budgetMillis, int maxPlayouts) {
+        this(budgetMillis, maxPlayouts, GameClock.system());
+    }
+
+    /**
+     * Creates a search strategy limited by the time of a clock and by a number of playouts.
+     * Every candidate is tried at least once, even when the budget is exhausted.
+     *
+     * @param budgetMillis the time that a decision may take, in milliseconds of the clock
+     * @param maxPlayouts the maximum number of playouts of a decision
+     * @param clock the clock that measures the budget
+     */
+    public SearchStrategy(long budgetMillis, int maxPlayouts, GameClock clock) {
+        this.budgetMillis = budgetMillis;
+        this.maxPlayouts = maxPlayouts;
+        this.clock = clock;
+    }
+
+    @Override
+    public int chooseCard(GameView view) {
+        long playable = view.getPlayableIds();
+        if (playable == 0) {
+            return DRAW;
+        }
+        if (Long.bitCount(playable) == 1) {
+            return Long.numberOfTrailingZeros(playable);
+        }
+
+        int candidateCount = 0;
+        while (playable != 0) {
+            candidates[candidateCount++] = Long.numberOfTrailingZeros(playable);
+            playable &= playable - 1;
+        }
+        Arrays.fill(wins, 0, candidateCount, 0);
+        Arrays.fill(playouts, 0, candidateCount, 0);
+
+        long deadline = clock.currentTimeMillis() + budgetMillis;
+        for (int i = 0; i < maxPlayouts; i++) {
+            if (i >= candidateCount && clock.currentTimeMillis() - deadline >= 0) break;
+            int candidate = i % candidateCount;
+            game.determinize(view, view.getRandom());
+            game.play(candidates[candidate], rollout);
+            if (game.playOut(rollout, MAX_PLAYOUT_TURNS) == PlayoutGame.ROOT) {
+                wins[candidate]++;
+            }
+            playouts[candidate]++;
+        }
+
+        int best = 0;
+        for (int candidate = 1; candidate < candidateCount; candidate++) {
+            // Compare the win rates without dividing
+            if ((long) wins[candidate] * playouts[best] > (long) wins[best] * playouts[candidate]) {
+                best = candidate;
+            }
+        }
+        return candidates[best];
+    }
+
+    @Override
+    public int chooseColor(GameView view, int cardId) {
+        return rollout.chooseColor(view, cardId);
+    }
+}
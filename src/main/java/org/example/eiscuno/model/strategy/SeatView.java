@@ -0,0 +1,100 @@
+package org.example.eiscuno.model.strategy;
+
+// Imports
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.common.GameHandler;
+import org.example.eiscuno.model.player.Hand;
+import org.example.eiscuno.model.player.Player;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * SeatView is the GameView of one seat of a GameHandler.
+ * It reads the game directly every time it is asked, so one instance serves the whole game,
+ * and it must be read on the thread that changes the game.
+ */
+public final class SeatView implements GameView {
+
+    private final GameHandler gameHandler;
+    private final boolean humanSeat;
+
+    /**
+     * Creates the view of a seat.
+     *
+     * @param gameHandler the game
+     * @param humanSeat true for the seat of the human player, false for the machine player
+     */
+    public SeatView(GameHandler gameHandler, boolean humanSeat) {
+        this.gameHandler = gameHandler;
+        this.humanSeat = humanSeat;
+    }
+
+    private Hand hand() {
+        return player(humanSeat).getHand();
+    }
+
+    private Player player(boolean human) {
+        return human ? gameHandler.getHumanPlayer() : gameHandler.getMachinePlayer();
+    }
+
+    @Override
+    public int getHandSize() {
+        return hand().size();
+    }
+
+    @Override
+    public int getHandCardId(int index) {
+        return hand().get(index).getId();
+    }
+
+    @Override
+    public int countInHand(int cardId) {
+        return hand().countById(cardId);
+    }
+
+    @Override
+    public int countInHandByColor(int colorIndex) {
+        return hand().countByColor(colorIndex);
+    }
+
+    @Override
+    public long getPlayableIds() {
+        Card top = gameHandler.getCurrentCardOnTable();
+        return hand().getPlayableIds(top.getId(), top.getColorIndex());
+    }
+
+    @Override
+    public int getTopCardId() {
+        return gameHandler.getCurrentCardOnTable().getId();
+    }
+
+    @Override
+    public int getActiveColor() {
+        return gameHandler.getCurrentCardOnTable().getColorIndex();
+    }
+
+    @Override
+    public int getOpponentHandSize() {
+        return player(!humanSeat).getHand().size();
+    }
+
+    @Override
+    public int getDeckSize() {
+        return gameHandler.getDeck().size();
+    }
+
+    @Override
+    public int getDiscardSize() {
+        return gameHandler.getTable().getCards().size();
+    }
+
+    @Override
+    public int getDiscardId(int index) {
+        return gameHandler.getTable().getCards().get(index).getId();
+    }
+
+    @Override
+    public RandomGenerator getRandom() {
+        return gameHandler.getRandom();
+    }
+}
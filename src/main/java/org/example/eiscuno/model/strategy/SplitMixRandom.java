@@ -0,0 +1,29 @@
+package org.example.eiscuno.model.strategy;
+
+// Imports
+import java.util.random.RandomGenerator;
+
+/**
+ * A SplitMix64 generator that can be seeded again, so a decision does not create generators.
+ */
+final class SplitMixRandom implements RandomGenerator {
+
+    private long seed;
+
+    /**
+     * Starts the sequence again from a seed.
+     *
+     * @param seed the new seed
+     */
+    void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    @Override
+    public long nextLong() {
+        long z = (seed += 0x9E3779B97F4A7C15L);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -3,13 +3,13 @@ package org.example.eiscuno.model.table;
 // Imports
 import org.example.eiscuno.model.card.Card;
 
-import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Represents the table in the Uno game where cards are played.
  */
-public class Table implements Serializable {
+public class Table {
     private ArrayList<Card> cardsTable;
 
     /**
@@ -44,4 +44,20 @@ public class Table implements Serializable {
     public ArrayList<Card> getCards(){
         return cardsTable;
     }
+
+    /**
+     * Removes every card from the table except the one on top.
+     * This is used to put the played cards back into the deck when it runs out.
+     *
+     * @return The cards removed from the table, the top card is not included.
+     */
+    public List<Card> takeDiscardedCards() {
+        List<Card> discarded = new ArrayList<>();
+        if (cardsTable.size() > 1) {
+            List<Card> underTop = cardsTable.subList(0, cardsTable.size() - 1);
+            discarded.addAll(underTop);
+            underTop.clear();
+        }
+        return discarded;
+    }
 }
@@ -1,116 +1,241 @@
 package org.example.eiscuno.model.threads;
 
 // Imports
-import javafx.application.Platform;
-import javafx.scene.image.ImageView;
 import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCatalog;
+import org.example.eiscuno.model.common.GameClock;
+import org.example.eiscuno.model.common.GameCommandQueue;
 import org.example.eiscuno.model.common.GameHandler;
 import org.example.eiscuno.model.common.GamePauseManager;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.strategy.GameViewSnapshot;
+import org.example.eiscuno.model.strategy.IsmctsStrategy;
+import org.example.eiscuno.model.strategy.MachineStrategy;
+
+import java.util.concurrent.ExecutionException;
 
 /**
- * ThreadPlayMachine is a thread that handles the machine's turn in the game
- * It checks if it's the machine's turn, plays a card if possible, or draws a card if not.
- * The thread runs until the game ends or it is stopped.
+ * ThreadPlayMachine is the task of the thread that handles the machine's turn in the game
+ * It checks if it's the machine's turn and plays the move chosen by the MachineStrategy of the machine seat.
+ * The moves are submitted to the GameCommandQueue of the game; this thread only waits and thinks.
+ * The strategy reads a GameViewSnapshot copied on the game thread, so a search runs on this thread
+ * and the game thread keeps handling the UNO callouts, the clicks and the pauses meanwhile.
+ * The thread runs until the game ends or it is stopped; it is created and started by the GameSession.
  */
-public class ThreadPlayMachine extends Thread {
+public class ThreadPlayMachine implements Runnable {
+
+    /** Time the machine takes to think its move, in milliseconds. */
+    public static final long THINKING_DELAY_MILLIS = 1500;
+
+    /** Name of the strategy of the machine player when none is chosen, the search. */
+    public static final String DEFAULT_STRATEGY = "ismcts";
+
+    private final GameCommandQueue commands;
     private final GameHandler gameHandler;
-    private final ImageView tableImageView;
+    private final GamePauseManager pauseManager;
+    private final GameClock clock;
     private volatile boolean running = true;
+    private volatile Thread worker;
+
+    // Written by the game thread inside a command, read by this thread once the command has finished
+    private final GameViewSnapshot snapshot = new GameViewSnapshot();
 
     /**
      * Constructor for ThreadPlayMachine.
-     * @param gameHandler The GameHandler instance that manages the game state.
-     * @param tableImageView The ImageView representing the table where cards are played.
+     * @param commands The command queue of the game where the machine's moves are submitted.
+     * @param pauseManager The pause manager of the game.
+     * @param clock The clock used for the machine's thinking time.
      */
-    public ThreadPlayMachine(GameHandler gameHandler, ImageView tableImageView) {
-        this.gameHandler = gameHandler;
-        this.tableImageView = tableImageView;
+    public ThreadPlayMachine(GameCommandQueue commands, GamePauseManager pauseManager, GameClock clock) {
+        this.commands = commands;
+        this.gameHandler = commands.getHandler();
+        this.pauseManager = pauseManager;
+        this.clock = clock;
     }
 
     /*
-    * Starts the thread to handle the machine's turn.
-    * It continuously checks if the machine can play a card or needs to draw one.
+    * Handles the machine's turn on the thread that runs this task.
+    * It sleeps until the GameHandler signals that it is the machine's turn, then plays it.
     * The thread will run until the game ends or it is stopped.
     * */
     @Override
     public void run() {
+        worker = Thread.currentThread();
         while (running) {
-            GamePauseManager.getInstance().waitIfPaused();
+            pauseManager.waitIfPaused();
             if (!running || gameHandler.isGameEnded()) break;
 
-            if (!gameHandler.getHumanTurn()) {
+            try {
+                if (!gameHandler.awaitMachineTurn()) break; // The game has ended
+            } catch (InterruptedException e) {
+                break; // The thread was stopped
+            }
+            if (running) {
                 handleMachineTurn();
             }
         }
     }
 
     /**
-     * Handles the machine's turn by checking if it can play a card or needs to draw one.
-     * If it can play a card, it plays the first playable card found.
-     * If it cannot play any card, it draws a card and checks if it can play that card.
+     * Handles the machine's turn.
+     * The game is copied by a short command and the strategy chooses on this thread, measuring the
+     * time on the game clock; then the thread waits the rest of the thinking delay, so a search
+     * spends the delay instead of adding to it. The chosen card is submitted to the command queue,
+     * and the thread waits until the move has been applied so it does not see its own turn again
+     * before the move is made.
      */
     private void handleMachineTurn() {
-        sleepSafely(1500);
-        GamePauseManager.getInstance().waitIfPaused();
+        pauseManager.waitIfPaused();
+        if (!running) return;
 
-        Card topCard = gameHandler.getCurrentCardOnTable();
-        Card cardToPlay = findPlayableCard(topCard);
+        try {
+            if (!commands.submit(this::copyTurn).get()) return;
+            long start = clock.currentTimeMillis();
+            int cardId = gameHandler.getStrategy(false).chooseCard(snapshot);
+            sleepSafely(Math.max(0, THINKING_DELAY_MILLIS - (clock.currentTimeMillis() - start)));
+            pauseManager.waitIfPaused();
+            if (!running) return;
+            commands.execute(() -> playTurn(cardId)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // The move failed or the game was closed; the error has already been printed
+        }
+    }
 
-        if (cardToPlay != null) {
-            gameHandler.playCard(gameHandler.getMachinePlayer(), cardToPlay);
-            gameHandler.applyCardEffectAndTurn(cardToPlay, false);
-            gameHandler.checkWinner();
+    /**
+     * Copies the game as seen by the machine, on the game thread.
+     *
+     * @return true if it is the machine's turn
+     */
+    private boolean copyTurn() {
+        if (gameHandler.getHumanTurn() || gameHandler.isGameEnded()) return false;
+        snapshot.copyFrom(gameHandler.getView(false));
+        return true;
+    }
 
-            Platform.runLater(() -> {
-                tableImageView.setImage(cardToPlay.getImage());
-            });
+    /**
+     * Plays the card chosen by the machine, on the game thread.
+     * If the game changed while the machine was thinking and the choice is no longer legal,
+     * nothing is played and the machine thinks again, since it is still its turn.
+     *
+     * @param cardId the chosen card id, or MachineStrategy.DRAW
+     */
+    private void playTurn(int cardId) {
+        if (gameHandler.getHumanTurn() || gameHandler.isGameEnded()) return;
+        if (isLegalChoice(gameHandler, false, cardId)) {
+            playChosenCard(gameHandler, false, cardId);
+        }
+    }
 
-        } else {
-            gameHandler.eatCard(gameHandler.getMachinePlayer(), 1);
+    /**
+     * Creates the strategy of the machine player of a game.
+     * The search gets the whole thinking delay and every core, since it runs on this thread;
+     * with a virtual clock it is limited by a number of iterations, as in IsmctsStrategy.
+     *
+     * @param name the name of the strategy, as in MachineStrategy.byName
+     * @param clock the clock of the game
+     * @return a new instance of the strategy
+     * @throws IllegalArgumentException if there is no strategy with that name
+     */
+    public static MachineStrategy createStrategy(String name, GameClock clock) {
+        if (DEFAULT_STRATEGY.equalsIgnoreCase(name)) {
+            return new IsmctsStrategy(THINKING_DELAY_MILLIS, Runtime.getRuntime().availableProcessors(), clock);
+        }
+        return MachineStrategy.byName(name, clock);
+    }
 
-            Card drawn = gameHandler.getLastCard(gameHandler.getMachinePlayer());
-            if (drawn.canBePlayedOn(topCard)) {
-                gameHandler.playCard(gameHandler.getMachinePlayer(), drawn);
-                gameHandler.applyCardEffectAndTurn(drawn, false);
-                gameHandler.checkWinner();
+    /**
+     * Plays a turn of a seat with the MachineStrategy of that seat.
+     * The strategy chooses the card to play; if it cannot play any card, the player draws a card
+     * and plays it if it can, otherwise it passes the turn.
+     * The simulator uses it for both seats, so it must not depend on this thread.
+     *
+     * @param gameHandler The game, changed only by the thread that owns it.
+     * @param human True to play the turn of the human seat, false for the machine seat.
+     * @throws IllegalStateException if the strategy chooses a card that cannot be played.
+     */
+    public static void playStrategyTurn(GameHandler gameHandler, boolean human) {
+        int cardId = gameHandler.getStrategy(human).chooseCard(gameHandler.getView(human));
+        if (!isLegalChoice(gameHandler, human, cardId)) {
+            throw new IllegalStateException("The strategy chose a card that cannot be played: " + cardId);
+        }
+        playChosenCard(gameHandler, human, cardId);
+    }
 
-                Platform.runLater(() -> tableImageView.setImage(drawn.getImage()));
-            } else {
-                gameHandler.passTurnToHuman(); // Pass the turn to the human player if no playable card is drawn
-            }
+    /**
+     * Checks that a card chosen by a strategy can be played now: a card of the hand that can be
+     * played on the top card, or DRAW when no card of the hand can be played.
+     *
+     * @param gameHandler The game, read only by the thread that owns it.
+     * @param human True for the human seat, false for the machine seat.
+     * @param cardId The chosen card id, or MachineStrategy.DRAW.
+     * @return true if the choice follows the rules.
+     */
+    public static boolean isLegalChoice(GameHandler gameHandler, boolean human, int cardId) {
+        long playable = gameHandler.getView(human).getPlayableIds();
+        if (cardId == MachineStrategy.DRAW) {
+            return playable == 0;
         }
+        return cardId >= 0 && cardId < CardCatalog.CARD_COUNT && (playable & (1L << cardId)) != 0;
     }
 
     /**
-     * Finds a playable card from the machine's hand that can be played on the top card.
-     * @param topCard The card currently on top of the table.
-     * @return A playable card if found, otherwise null.
+     * Plays a card chosen for a seat, that must be a legal choice.
+     * If the choice is DRAW, the player draws a card and plays it if it can, otherwise it passes the turn.
+     *
+     * @param gameHandler The game, changed only by the thread that owns it.
+     * @param human True to play the turn of the human seat, false for the machine seat.
+     * @param cardId The chosen card id, or MachineStrategy.DRAW.
      */
-    private Card findPlayableCard(Card topCard) {
-        for (Card card : gameHandler.getMachinePlayer().getCardsPlayer()) {
-            if (card.canBePlayedOn(topCard)) {
-                return card;
+    public static void playChosenCard(GameHandler gameHandler, boolean human, int cardId) {
+        Player player = human ? gameHandler.getHumanPlayer() : gameHandler.getMachinePlayer();
+        Card topCard = gameHandler.getCurrentCardOnTable();
+        Card cardToPlay = null;
+        if (cardId != MachineStrategy.DRAW) {
+            cardToPlay = player.getHand().findById(cardId);
+        } else {
+            gameHandler.eatCard(player, 1);
+
+            Card drawn = gameHandler.getLastCard(player);
+            if (drawn.canBePlayedOn(topCard)) {
+                cardToPlay = drawn;
             }
         }
-        return null;
+
+        if (cardToPlay != null) {
+            gameHandler.playCard(player, cardToPlay);
+            gameHandler.applyCardEffectAndTurn(cardToPlay, human);
+            gameHandler.checkWinner();
+        } else if (human) {
+            gameHandler.passTurnToMachine();
+        } else {
+            gameHandler.passTurnToHuman(); // Pass the turn to the human player if no playable card is drawn
+        }
     }
 
     /**
-     * Safely sleeps the thread for a specified number of milliseconds.
-     * If interrupted, it catches the exception and does nothing.
+     * Safely sleeps the thread for a specified number of milliseconds of the game clock.
+     * If interrupted, it keeps the interrupt flag so the thread can stop.
      * @param millis The number of milliseconds to sleep.
      */
     private void sleepSafely(long millis) {
         try {
-            Thread.sleep(millis);
-        } catch (InterruptedException ignored) {}
+            clock.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 
     /**
      * Stops the thread gracefully.
-     * This method sets the running flag to false, allowing the thread to exit its loop.
+     * This method sets the running flag to false and wakes the thread if it is waiting for its turn.
      */
     public void stopThread() {
         running = false;
+        Thread current = worker;
+        if (current != null) {
+            current.interrupt();
+        }
     }
 }
@@ -0,0 +1,226 @@
+package org.example.eiscuno.model.threads;
+
+// Imports
+import org.example.eiscuno.model.common.GameClock;
+import org.example.eiscuno.model.common.GameCommandQueue;
+import org.example.eiscuno.model.common.GameHandler;
+import org.example.eiscuno.model.common.GameListener;
+import org.example.eiscuno.model.common.GamePauseManager;
+import org.example.eiscuno.model.player.HandListener;
+import org.example.eiscuno.model.player.Player;
+
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * UnoCalloutService handles the UNO callout for both human and AI players.
+ * It listens to the hands of the players: when a hand goes down to one card a callout deadline
+ * is armed on the GameClock, and when the hand changes size again the deadline
+ * is cancelled. If the human does not call UNO before the deadline they receive a penalty,
+ * and the AI calls its own UNO after a random delay. The delay is drawn on the game thread from the
+ * random generator of the game, so a seeded game on a VirtualGameClock arms its deadlines at the
+ * same times on every run.
+ * Nothing polls the game and no thread is created per callout: the timer only submits the
+ * penalty or the call to the GameCommandQueue of the game.
+ */
+public class UnoCalloutService implements HandListener, GameListener {
+
+    /** Time the human has to call UNO, in milliseconds. */
+    public static final long HUMAN_CALLOUT_DELAY_MILLIS = 3000;
+
+    /** Minimum time the AI takes to call UNO, in milliseconds. */
+    public static final long MACHINE_MIN_DELAY_MILLIS = 2000;
+
+    /** Maximum extra random time the AI takes to call UNO, in milliseconds. */
+    public static final int MACHINE_EXTRA_DELAY_MILLIS = 2000;
+
+    private final GameCommandQueue commands;
+    private final GameHandler gameHandler;
+    private final GamePauseManager pauseManager;
+    private final Consumer<Boolean> showUnoButtonCallback; // true = show button, false = hide button
+    private final BiConsumer<String, String> showMessageCallback; // title, message
+    private final GameClock clock;
+
+    // Pending deadlines and their generation, guarded by this.
+    // The generation changes every time a deadline is armed or cancelled, so a deadline that
+    // already fired but is waiting for a pause to end can tell that it is stale.
+    private Future<?> humanDeadline;
+    private Future<?> machineDeadline;
+    private long humanGeneration;
+    private long machineGeneration;
+    private Boolean buttonVisible;
+    private volatile boolean running = false;
+
+    /**
+     * Constructor for UnoCalloutService.
+     * @param commands The command queue of the game where the penalties and calls are submitted.
+     * @param pauseManager The pause manager of the game; penalties wait while the game is paused.
+     * @param showUnoButtonCallback A callback to show or hide the UNO button, called on the game thread.
+     * @param showMessageCallback A callback that tells the player about a penalty or a call, called on the game thread.
+     * @param clock The clock where the callout deadlines are scheduled.
+     */
+    public UnoCalloutService(GameCommandQueue commands, GamePauseManager pauseManager, Consumer<Boolean> showUnoButtonCallback,
+                             BiConsumer<String, String> showMessageCallback, GameClock clock) {
+        this.commands = commands;
+        this.gameHandler = commands.getHandler();
+        this.pauseManager = pauseManager;
+        this.showUnoButtonCallback = showUnoButtonCallback;
+        this.showMessageCallback = showMessageCallback;
+        this.clock = clock;
+    }
+
+    /**
+     * Starts listening to the hands of both players.
+     * A loaded game may already have a player with one card, so both hands are checked by a command.
+     */
+    public void start() {
+        running = true;
+        gameHandler.addGameListener(this);
+        gameHandler.getHumanPlayer().setHandListener(this);
+        gameHandler.getMachinePlayer().setHandListener(this);
+        commands.execute(() -> {
+            onHandSizeChanged(gameHandler.getHumanPlayer(), gameHandler.getHumanPlayer().getCardsPlayer().size());
+            onHandSizeChanged(gameHandler.getMachinePlayer(), gameHandler.getMachinePlayer().getCardsPlayer().size());
+        });
+    }
+
+    /**
+     * Stops listening and cancels the pending deadlines.
+     */
+    public void stop() {
+        running = false;
+        gameHandler.getHumanPlayer().setHandListener(null);
+        gameHandler.getMachinePlayer().setHandListener(null);
+        gameHandler.removeGameListener(this);
+        synchronized (this) {
+            humanDeadline = cancel(humanDeadline);
+            machineDeadline = cancel(machineDeadline);
+            humanGeneration++;
+            machineGeneration++;
+        }
+    }
+
+    /**
+     * Arms the deadline of a player whose hand went down to one card,
+     * or cancels it and resets the UNO call when the hand changes again.
+     */
+    @Override
+    public void onHandSizeChanged(Player player, int size) {
+        if (!running) return;
+
+        boolean human = player == gameHandler.getHumanPlayer();
+        synchronized (this) {
+            if (human) {
+                if (size == 1) {
+                    if (humanDeadline == null && !gameHandler.getHumanSaidUno()) {
+                        long generation = ++humanGeneration;
+                        humanDeadline = clock.schedule(() -> humanDeadlinePassed(generation),
+                                HUMAN_CALLOUT_DELAY_MILLIS);
+                    }
+                } else if (humanDeadline != null) {
+                    humanDeadline = cancel(humanDeadline);
+                    humanGeneration++;
+                }
+            } else {
+                if (size == 1) {
+                    if (machineDeadline == null && !gameHandler.getIASaidUno()) {
+                        long generation = ++machineGeneration;
+                        long delay = MACHINE_MIN_DELAY_MILLIS + gameHandler.getRandom().nextInt(MACHINE_EXTRA_DELAY_MILLIS);
+                        machineDeadline = clock.schedule(() -> machineDeadlinePassed(generation), delay);
+                    }
+                } else if (machineDeadline != null) {
+                    machineDeadline = cancel(machineDeadline);
+                    machineGeneration++;
+                }
+            }
+        }
+
+        // Reset the UNO call if the player has more than one card again
+        if (size > 1) {
+            if (human) {
+                gameHandler.setHumanSaidUno(false);
+            } else {
+                gameHandler.setIASaidUno(false);
+            }
+        }
+        updateUnoButton();
+    }
+
+    /**
+     * Shows or hides the UNO button when a player calls UNO.
+     */
+    @Override
+    public void onStateChanged() {
+        updateUnoButton();
+    }
+
+    @Override
+    public void onGameEnded(String winner) {
+        stop();
+    }
+
+    /**
+     * Runs on the timer when the human did not call UNO in time.
+     * If the game is paused, the penalty waits until it is resumed, then it runs on the game thread.
+     */
+    private void humanDeadlinePassed(long generation) {
+        synchronized (this) {
+            if (generation != humanGeneration) return;
+            humanDeadline = null;
+        }
+        pauseManager.runWhenResumed(() -> commands.execute(() -> penalizeHuman(generation)));
+    }
+
+    private void penalizeHuman(long generation) {
+        synchronized (this) {
+            if (!running || generation != humanGeneration) return;
+        }
+        if (!gameHandler.getHumanSaidUno() && gameHandler.getHumanPlayer().getCardsPlayer().size() == 1) {
+            gameHandler.eatCard(gameHandler.getHumanPlayer(), 1);
+            showMessageCallback.accept("¡La IA te dijo UNO!", "¡La IA te gritó UNO! Tomas 1 carta como penalización.");
+        }
+    }
+
+    /**
+     * Runs on the timer when the AI calls its UNO.
+     * If the game is paused, the call waits until it is resumed, then it runs on the game thread.
+     */
+    private void machineDeadlinePassed(long generation) {
+        synchronized (this) {
+            if (generation != machineGeneration) return;
+            machineDeadline = null;
+        }
+        pauseManager.runWhenResumed(() -> commands.execute(() -> machineCallsUno(generation)));
+    }
+
+    private void machineCallsUno(long generation) {
+        synchronized (this) {
+            if (!running || generation != machineGeneration) return;
+        }
+        if (!gameHandler.getIASaidUno() && gameHandler.getMachinePlayer().getCardsPlayer().size() == 1) {
+            gameHandler.setIASaidUno(true);
+            showMessageCallback.accept("¡UNO!", "¡La IA gritó UNO!");
+        }
+    }
+
+    /**
+     * Shows the UNO button while a player has one card and has not called UNO, and hides it otherwise.
+     * The callback only runs when the visibility changes.
+     */
+    private synchronized void updateUnoButton() {
+        boolean visible = (gameHandler.getHumanPlayer().getCardsPlayer().size() == 1 && !gameHandler.getHumanSaidUno())
+                || (gameHandler.getMachinePlayer().getCardsPlayer().size() == 1 && !gameHandler.getIASaidUno());
+        if (buttonVisible == null || buttonVisible != visible) {
+            buttonVisible = visible;
+            showUnoButtonCallback.accept(visible);
+        }
+    }
+
+    private static Future<?> cancel(Future<?> deadline) {
+        if (deadline != null) {
+            deadline.cancel(false);
+        }
+        return null;
+    }
+}
@@ -12,6 +12,7 @@ public enum EISCUnoEnum {
     BUTTON_UNO("images/button_uno.png"),
     CARD_UNO("cards-uno/card_uno.png"),
     DECK_OF_CARDS("cards-uno/deck_of_cards.png"),
+    CARD_BACK("cardReverse-removebg-preview.png"),
     WILD("cards-uno/wild.png"),
     TWO_WILD_DRAW_BLUE("cards-uno/2_wild_draw_blue.png"),
     TWO_WILD_DRAW_GREEN("cards-uno/2_wild_draw_green.png"),
@@ -24,14 +24,16 @@ public class DialogManager {
      *
      * @param title   The title of the dialog.
      * @param content The content of the dialog.
+     * @param pauseManager The pause manager of the game the dialog belongs to.
      */
-    public static void showInfoDialog(String title, String content) {
+    public static void showInfoDialog(String title, String content, GamePauseManager pauseManager) {
+        pauseManager.pauseGame();
         Platform.runLater(() -> {
             Alert alert = new Alert(Alert.AlertType.INFORMATION);
             alert.setTitle(title);
             alert.setHeaderText(null);
             alert.setContentText(content);
-            alert.setOnHidden(e -> GamePauseManager.getInstance().resumeGame());
+            alert.setOnHidden(e -> pauseManager.resumeGame());
             alert.showAndWait();
         });
     }
@@ -45,15 +47,18 @@ public class DialogManager {
      * @param choices       The list of choices to display in the dialog.
      * @param defaultChoice The default choice to pre-select in the dialog.
      * @param onChoice      A callback function that is called with the selected choice when the user makes a selection.
+     * @param pauseManager  The pause manager of the game the dialog belongs to.
      */
-    public static void showChoiceDialog(String title, String content, List<String> choices, String defaultChoice, Consumer<String> onChoice) {
+    public static void showChoiceDialog(String title, String content, List<String> choices, String defaultChoice,
+                                        Consumer<String> onChoice, GamePauseManager pauseManager) {
+        pauseManager.pauseGame();
         Platform.runLater(() -> {
             ChoiceDialog<String> dialog = new ChoiceDialog<>(defaultChoice, choices);
             dialog.setTitle(title);
             dialog.setHeaderText(null);
             dialog.setContentText(content);
 
-            dialog.setOnHidden(e -> GamePauseManager.getInstance().resumeGame());
+            dialog.setOnHidden(e -> pauseManager.resumeGame());
 
             dialog.showAndWait().ifPresent(onChoice);
         });
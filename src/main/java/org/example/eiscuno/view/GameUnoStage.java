@@ -14,11 +14,17 @@ import java.util.Objects;
 /**
  * Represents the main stage of the Uno game application.
  * This stage displays the game interface to the user.
+ * Each stage owns the game it shows: closing it closes the session of its own game controller.
  */
 public class GameUnoStage extends Stage {
 
     private GameUnoController controller;
 
+    /**
+     * Registers the controller of the game shown in this stage, so it is shut down when the stage is closed.
+     *
+     * @param controller the game controller
+     */
     public void registerGameController(GameUnoController controller) {
         this.controller = controller;
     }
@@ -58,33 +64,4 @@ public class GameUnoStage extends Stage {
         show(); // Displays the stage
         System.out.println("La mamasita se muestra");
     }
-
-    /**
-     * Closes the instance of GameUnoStage.
-     * This method is used to clean up resources when the game stage is no longer needed.
-     */
-    public static void deleteInstance() {
-        GameUnoStageHolder.INSTANCE.close();
-        GameUnoStageHolder.INSTANCE = null;
-    }
-
-    /**
-     * Retrieves the singleton instance of GameUnoStage.
-     *
-     * @return the singleton instance of GameUnoStage.
-     * @throws IOException if an error occurs while creating the instance.
-     */
-    public static GameUnoStage getInstance() throws IOException {
-        return GameUnoStageHolder.INSTANCE != null ?
-                GameUnoStageHolder.INSTANCE :
-                (GameUnoStageHolder.INSTANCE = new GameUnoStage());
-    }
-
-    /**
-     * Holder class for the singleton instance of GameUnoStage.
-     * This class ensures lazy initialization of the singleton instance.
-     */
-    private static class GameUnoStageHolder {
-        private static GameUnoStage INSTANCE;
-    }
 }
@@ -0,0 +1,65 @@
+package org.example.eiscuno.model.card;
+
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Pruebas unitarias para la clase CardCatalog
+ * No necesitan JavaFX porque no usan las imágenes de las cartas
+ */
+class CardCatalogTest {
+
+    @Test
+    @DisplayName("Debería asignar un id distinto a cada carta jugable")
+    void testDistinctIds() {
+        assertEquals(54, CardCatalog.CARD_COUNT);
+
+        Set<Integer> ids = new HashSet<>();
+        for (int id = 0; id < CardCatalog.CARD_COUNT; id++) {
+            Card card = CardCatalog.createCard(id);
+            assertEquals(id, card.getId());
+            ids.add(card.getId());
+        }
+        assertEquals(CardCatalog.CARD_COUNT, ids.size());
+    }
+
+    @Test
+    @DisplayName("Debería obtener el id a partir del tipo, color y número")
+    void testIdOf() {
+        int red5 = CardCatalog.idOf(CardKind.NUMBER, CardCatalog.colorIndex("red"), 5);
+        assertEquals(EISCUnoEnum.RED_5, CardCatalog.getEnum(red5));
+
+        int wild = CardCatalog.idOf(CardKind.WILD, CardCatalog.colorIndex("BLUE"), -1);
+        assertEquals(EISCUnoEnum.WILD, CardCatalog.getEnum(wild));
+
+        assertEquals(CardCatalog.INVALID_ID, CardCatalog.idOf(CardKind.NUMBER, CardCatalog.NO_COLOR, 5));
+    }
+
+    @Test
+    @DisplayName("La tabla de jugadas debería coincidir con las reglas anteriores para todas las cartas")
+    void testTableMatchesLegacyRules() {
+        List<Card> cards = LegacyCardRules.allCards();
+        for (Card card : cards) {
+            for (Card top : cards) {
+                assertEquals(LegacyCardRules.legacyCanBePlayedOn(card, top), card.canBePlayedOn(top),
+                        card.getUrl() + " sobre " + top.getUrl() + " (" + top.getColor() + ")");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Una carta que no está en el catálogo no se puede jugar")
+    void testInvalidCardCannotBePlayed() {
+        Card invalid = new Card("/org/example/eiscuno/cards-uno/5_red.png", null, null);
+        Card top = CardCatalog.createCard(CardCatalog.idOf(CardKind.NUMBER, 0, 5));
+
+        assertEquals(CardCatalog.INVALID_ID, invalid.getId());
+        assertFalse(invalid.canBePlayedOn(top));
+    }
+}
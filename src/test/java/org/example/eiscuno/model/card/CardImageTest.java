@@ -0,0 +1,36 @@
+package org.example.eiscuno.model.card;
+
+import org.example.eiscuno.BaseTest;
+import org.example.eiscuno.model.deck.Deck;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de las imágenes de las cartas
+ * Son las únicas pruebas de cartas que necesitan el toolkit de JavaFX
+ */
+class CardImageTest extends BaseTest {
+
+    @Test
+    @DisplayName("Debería crear la imagen y la vista de una carta al pedirlas")
+    void testCardImage() {
+        Card redCard = new Card("/org/example/eiscuno/cards-uno/5_red.png", "5", "RED");
+        assertNotNull(redCard.getImage());
+        assertNotNull(redCard.getCard());
+
+        Card takenCard = new Deck().takeCard();
+        assertNotNull(takenCard.getImage());
+        assertNotNull(takenCard.getCard());
+    }
+
+    @Test
+    @DisplayName("Debería compartir la misma imagen entre cartas con la misma url")
+    void testCardsShareCachedImage() {
+        Card redCard = new Card("/org/example/eiscuno/cards-uno/5_red.png", "5", "RED");
+        Card otherRedCard = new Card("/org/example/eiscuno/cards-uno/5_red.png", "5", "RED");
+
+        assertSame(redCard.getImage(), otherRedCard.getImage());
+        assertNotSame(redCard.getCard(), otherRedCard.getCard());
+    }
+}
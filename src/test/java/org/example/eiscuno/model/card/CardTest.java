@@ -1,6 +1,5 @@
 package org.example.eiscuno.model.card;
 
-import org.example.eiscuno.BaseTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -9,7 +8,7 @@ import static org.junit.jupiter.api.Assertions.*;
 /**
  * Pruebas unitarias para la clase Card
  */
-class CardTest extends BaseTest {
+class CardTest {
 
     private Card redCard;
     private Card blueCard;
@@ -40,8 +39,19 @@ class CardTest extends BaseTest {
         assertEquals("5", redCard.getValue());
         assertEquals("RED", redCard.getColor());
         assertEquals("/org/example/eiscuno/cards-uno/5_red.png", redCard.getUrl());
-        assertNotNull(redCard.getImage());
-        assertNotNull(redCard.getCard());
+    }
+
+    @Test
+    @DisplayName("Debería clasificar el tipo y el número de la carta al crearla")
+    void testCardKindAndNumber() {
+        assertEquals(CardKind.NUMBER, redCard.getKind());
+        assertEquals(5, redCard.getNumber());
+        assertEquals(CardKind.WILD, wildCard.getKind());
+        assertEquals(-1, wildCard.getNumber());
+        assertEquals(CardKind.PLUS_TWO, plusTwoCard.getKind());
+        assertEquals(CardKind.PLUS_FOUR, plusFourCard.getKind());
+        assertEquals(CardKind.SKIP, skipCard.getKind());
+        assertEquals(CardKind.REVERSE, reverseCard.getKind());
     }
 
     @Test
@@ -201,4 +211,4 @@ class CardTest extends BaseTest {
         
         assertFalse(nullCard.canBePlayedOn(invalidCard));
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,104 @@
+package org.example.eiscuno.model.card;
+
+// Imports
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The rules of Card.canBePlayedOn before the legality table of the CardCatalog, based on regex
+ * and string comparisons. CardCatalogTest checks the table against them, and the JMH
+ * CardBenchmark measures them next to the table.
+ */
+public final class LegacyCardRules {
+
+    // Private constructor to prevent instantiation
+    private LegacyCardRules() {}
+
+    /**
+     * Previous implementation of Card.canBePlayedOn.
+     * It is copied from the baseline together with the predicates it used, which classified the
+     * cards by matching their url on every call.
+     *
+     * @param card the card to play
+     * @param topCard the card on top of the table
+     * @return true if the card can be played on the top card, false otherwise
+     */
+    public static boolean legacyCanBePlayedOn(Card card, Card topCard) {
+        String color = card.getColor();
+        String value = card.getValue();
+        try {
+            // Wild card and +4 can always be played
+            if (legacyIsWildCard(card) || legacyIsPlusFour(card)) {
+                return true;
+            }
+            // +2 can be played if color matches or top card is +2
+            if (legacyIsPlusTwo(card)) {
+                return color != null && topCard.getColor() != null && (color.equalsIgnoreCase(topCard.getColor()) || legacyIsPlusTwo(topCard));
+            }
+            // Skip: can be placed if the color or the type matches
+            if (legacyIsSkip(card)) {
+                return color != null && topCard.getColor() != null && (color.equalsIgnoreCase(topCard.getColor()) || legacyIsSkip(topCard));
+            }
+            // Reverse: can be placed if the color or the type matches
+            if (legacyIsReverse(card)) {
+                return color != null && topCard.getColor() != null && (color.equalsIgnoreCase(topCard.getColor()) || legacyIsReverse(topCard));
+            }
+            // Number cards: can be played if color or value matches
+            if (value != null && value.matches("[0-9]+")) {
+                return color != null && topCard.getColor() != null && (color.equalsIgnoreCase(topCard.getColor())
+                        || (topCard.getValue() != null && value.equalsIgnoreCase(topCard.getValue())));
+            }
+            // Default: only color match
+            return color != null && topCard.getColor() != null && color.equalsIgnoreCase(topCard.getColor());
+        } catch (Exception e) {
+            // If any error, move is not valid
+            return false;
+        }
+    }
+
+    // Previous url based predicates of Card
+
+    private static boolean legacyIsReverse(Card card) {
+        String urlLower = card.getUrl().toLowerCase();
+        return urlLower.contains("reverse");
+    }
+
+    private static boolean legacyIsSkip(Card card) {
+        String urlLower = card.getUrl().toLowerCase();
+        return urlLower.contains("skip");
+    }
+
+    private static boolean legacyIsWildCard(Card card) {
+        return card.getUrl().endsWith("wild.png");
+    }
+
+    private static boolean legacyIsPlusFour(Card card) {
+        return card.getUrl().contains("4_wild_draw");
+    }
+
+    private static boolean legacyIsPlusTwo(Card card) {
+        return card.getUrl().contains("2_wild_draw");
+    }
+
+    /**
+     * Returns one card of each id, plus the wild cards with each of the four colors,
+     * which are all the cards that can be on top of the table.
+     *
+     * @return the list of cards
+     */
+    public static List<Card> allCards() {
+        List<Card> cards = new ArrayList<>();
+        for (int id = 0; id < CardCatalog.CARD_COUNT; id++) {
+            Card card = CardCatalog.createCard(id);
+            cards.add(card);
+            if (card.isWildCard() || card.isPlusFour()) {
+                for (String color : CardCatalog.COLORS) {
+                    Card colored = CardCatalog.createCard(id);
+                    colored.setColor(color);
+                    cards.add(colored);
+                }
+            }
+        }
+        return cards;
+    }
+}
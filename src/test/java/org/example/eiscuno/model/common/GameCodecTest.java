@@ -0,0 +1,117 @@
+package org.example.eiscuno.model.common;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCatalog;
+import org.example.eiscuno.model.card.CardKind;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pruebas unitarias para la clase GameCodec
+ */
+class GameCodecTest {
+
+    @Test
+    @DisplayName("Debería leer la misma partida que se escribió")
+    void testRoundTrip() throws IOException {
+        GameHandler handler = GameHandler.createNewGame();
+        handler.eatCard(handler.getHumanPlayer(), 3);
+        Card wild = CardCatalog.createCard(CardCatalog.idOf(CardKind.PLUS_FOUR, CardCatalog.NO_COLOR, -1));
+        wild.setColor("BLUE");
+        handler.getTable().addCardOnTheTable(wild);
+        handler.passTurnToMachine();
+        handler.setIASaidUno(true);
+        handler.setJournalSequence(42);
+        handler.setMachineStrategyName("heuristic");
+
+        GameHandler loaded = GameCodec.decode(GameCodec.encode(handler));
+
+        assertEquals(describe(handler.getHumanPlayer().getCardsPlayer()), describe(loaded.getHumanPlayer().getCardsPlayer()));
+        assertEquals(describe(handler.getMachinePlayer().getCardsPlayer()), describe(loaded.getMachinePlayer().getCardsPlayer()));
+        assertEquals(describe(handler.getTable().getCards()), describe(loaded.getTable().getCards()));
+        assertEquals(describe(handler.getDeck().getAllCards()), describe(loaded.getDeck().getAllCards()));
+        assertEquals("BLUE", loaded.getCurrentCardOnTable().getColor());
+        assertEquals("HUMAN_PLAYER", loaded.getHumanPlayer().getTypePlayer());
+        assertFalse(loaded.getHumanTurn());
+        assertTrue(loaded.getIASaidUno());
+        assertFalse(loaded.getHumanSaidUno());
+        assertEquals(42, loaded.getJournalSequence());
+        assertEquals("heuristic", loaded.getMachineStrategyName());
+    }
+
+    @Test
+    @DisplayName("Debería leer las partidas de la versión 1, que no guardaban la estrategia de la máquina")
+    void testReadsVersionOne() throws IOException {
+        GameHandler handler = GameHandler.createNewGame();
+        byte[] data = GameCodec.encode(handler);
+
+        // Version 1 is version 2 without the name of the strategy, written after the player names
+        int names = 2 + 1 + 1 + 8;
+        names += 2 + ((data[names] & 0xFF) << 8 | data[names + 1] & 0xFF);
+        names += 2 + ((data[names] & 0xFF) << 8 | data[names + 1] & 0xFF);
+        byte[] versionOne = new byte[data.length - 2];
+        System.arraycopy(data, 0, versionOne, 0, names);
+        System.arraycopy(data, names + 2, versionOne, names, data.length - names - 2);
+        versionOne[2] = 1;
+
+        GameHandler loaded = GameCodec.decode(versionOne);
+
+        assertNull(loaded.getMachineStrategyName());
+        assertEquals(describe(handler.getDeck().getAllCards()), describe(loaded.getDeck().getAllCards()));
+    }
+
+    @Test
+    @DisplayName("Debería guardar el resultado de una partida terminada")
+    void testGameResult() throws IOException {
+        GameHandler handler = GameHandler.createNewGame();
+        while (!handler.getMachinePlayer().getCardsPlayer().isEmpty()) {
+            handler.getMachinePlayer().removeCard(0);
+        }
+        handler.checkWinner();
+
+        GameHandler loaded = GameCodec.decode(GameCodec.encode(handler));
+
+        assertTrue(loaded.isGameEnded());
+        assertEquals("MACHINE", loaded.getWinner());
+        assertEquals("MACHINE", loaded.whenGameEnded().toCompletableFuture().getNow(null));
+    }
+
+    @Test
+    @DisplayName("Una partida completa debería ocupar solo unos cientos de bytes")
+    void testCompactSize() throws IOException {
+        GameHandler handler = GameHandler.createNewGame();
+        byte[] data = GameCodec.encode(handler);
+
+        // Header, sequence, names and one byte per card of the deck
+        assertTrue(data.length < 4 + 8 + 32 + 4 + CardCatalog.CARD_COUNT + 1, "size " + data.length);
+    }
+
+    @Test
+    @DisplayName("Debería rechazar datos que no son una partida o de una versión más nueva")
+    void testRejectsInvalidData() throws IOException {
+        assertThrows(IOException.class, () -> GameCodec.decode(new byte[] {1, 2, 3, 4}));
+
+        byte[] data = GameCodec.encode(GameHandler.createNewGame());
+        data[2] = (byte) (GameCodec.VERSION + 1);
+        assertThrows(IOException.class, () -> GameCodec.decode(data));
+
+        byte[] truncated = GameCodec.encode(GameHandler.createNewGame());
+        assertThrows(IOException.class, () -> GameCodec.decode(java.util.Arrays.copyOf(truncated, truncated.length - 5)));
+
+        // A save of an older version, written with Java serialization, starts a new game
+        assertNull(GameSaver.deserialize(new byte[] {(byte) 0xAC, (byte) 0xED, 0, 5, 0x73, 0x72}));
+    }
+
+    private List<String> describe(List<Card> cards) {
+        List<String> ids = new ArrayList<>();
+        for (Card card : cards) {
+            ids.add(card.getId() + ":" + card.getColor());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,121 @@
+package org.example.eiscuno.model.common;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCatalog;
+import org.example.eiscuno.model.player.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Pruebas unitarias para la clase GameCommandQueue
+ */
+class GameCommandQueueTest {
+
+    private GameHandler gameHandler;
+    private GameCommandQueue commands;
+
+    @BeforeEach
+    void setUp() {
+        gameHandler = GameHandler.createNewGame();
+        commands = new GameCommandQueue(gameHandler);
+    }
+
+    @AfterEach
+    void tearDown() {
+        commands.shutdown();
+    }
+
+    @Test
+    @DisplayName("Debería ejecutar los comandos en orden en el hilo del juego")
+    void testCommandsRunInOrder() {
+        List<Integer> order = new ArrayList<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            int index = i;
+            futures.add(commands.execute(() -> {
+                assertTrue(commands.isEngineThread());
+                order.add(index);
+            }));
+        }
+        futures.forEach(CompletableFuture::join);
+
+        assertFalse(commands.isEngineThread());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, order.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Un comando que falla no debería detener los siguientes")
+    void testFailedCommand() {
+        CompletableFuture<Void> failed = commands.execute(() -> {
+            throw new IllegalStateException("fallo de prueba");
+        });
+        assertThrows(CompletionException.class, failed::join);
+
+        assertEquals(5, commands.submit(() -> gameHandler.getHumanPlayer().getCardsPlayer().size()).join());
+    }
+
+    @Test
+    @DisplayName("No debería perder cartas cuando varios hilos cambian la partida a la vez")
+    void testConcurrentMutations() throws InterruptedException {
+        int threads = 4;
+        int movesPerThread = 500;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            boolean human = t % 2 == 0;
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < movesPerThread; i++) {
+                    commands.execute(() -> playOrDraw(human ? gameHandler.getHumanPlayer() : gameHandler.getMachinePlayer()));
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        int cards = commands.submit(() -> gameHandler.getHumanPlayer().getCardsPlayer().size()
+                + gameHandler.getMachinePlayer().getCardsPlayer().size()
+                + gameHandler.getTable().getCards().size()
+                + gameHandler.getDeck().size()).join();
+        assertEquals(CardCatalog.CARD_COUNT, cards);
+    }
+
+    @Test
+    @DisplayName("Después de cerrarse no debería aceptar más comandos")
+    void testShutdown() {
+        commands.shutdown();
+        assertThrows(CompletionException.class, () -> commands.execute(() -> {}).join());
+    }
+
+    /**
+     * Plays the first playable card of the player, or draws one if there is none.
+     */
+    private void playOrDraw(Player player) {
+        Card top = gameHandler.getCurrentCardOnTable();
+        Card card = player.getHand().findPlayableCard(top.getId(), top.getColorIndex());
+        if (card != null && player.getCardsPlayer().size() > 1) {
+            gameHandler.playCard(player, card);
+        } else {
+            gameHandler.eatCard(player, 1);
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package org.example.eiscuno.model.common;
 
-import org.example.eiscuno.BaseTest;
 import org.example.eiscuno.model.card.Card;
 import org.example.eiscuno.model.deck.Deck;
 import org.example.eiscuno.model.player.Player;
@@ -10,12 +9,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Pruebas unitarias para la clase GameHandler
+ * No necesitan JavaFX: el GameHandler solo notifica a sus listeners
  */
-class GameHandlerTest extends BaseTest {
+class GameHandlerTest {
 
     private GameHandler gameHandler;
     private Player humanPlayer;
@@ -30,10 +33,6 @@ class GameHandlerTest extends BaseTest {
         deck = new Deck();
         table = new Table();
         
-        // Crear callbacks vacíos para las pruebas
-        Runnable updateVisualCallback = () -> {};
-        Runnable resetCardScroll = () -> {};
-        
         gameHandler = new GameHandler(
             humanPlayer, 
             machinePlayer, 
@@ -41,9 +40,7 @@ class GameHandlerTest extends BaseTest {
             table, 
             false, 
             true, 
-            false, 
-            updateVisualCallback, 
-            resetCardScroll
+            false
         );
     }
 
@@ -64,10 +61,7 @@ class GameHandlerTest extends BaseTest {
     @Test
     @DisplayName("Debería crear un nuevo juego correctamente")
     void testCreateNewGame() {
-        Runnable updateVisualCallback = () -> {};
-        Runnable resetCardScroll = () -> {};
-        
-        GameHandler newGame = GameHandler.createNewGame(updateVisualCallback, resetCardScroll);
+        GameHandler newGame = GameHandler.createNewGame();
         
         assertNotNull(newGame);
         assertNotNull(newGame.getHumanPlayer());
@@ -320,4 +314,130 @@ class GameHandlerTest extends BaseTest {
         assertTrue(gameHandler.getHumanSaidUno());
         assertTrue(gameHandler.getIASaidUno());
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("Debería notificar a los listeners al jugar y comer cartas")
+    void testListenerReceivesEvents() {
+        List<String> events = new ArrayList<>();
+        gameHandler.addGameListener(new GameListener() {
+            @Override
+            public void onCardsDrawn(Player player, int numberOfCards) {
+                events.add("drawn:" + numberOfCards);
+            }
+
+            @Override
+            public void onCardPlayed(Player player, Card card) {
+                events.add("played:" + card.getValue());
+            }
+
+            @Override
+            public void onStateChanged() {
+                events.add("changed");
+            }
+        });
+
+        Card tableCard = new Card("/org/example/eiscuno/cards-uno/5_red.png", "5", "RED");
+        table.addCardOnTheTable(tableCard);
+        Card cardToPlay = new Card("/org/example/eiscuno/cards-uno/7_red.png", "7", "RED");
+        humanPlayer.addCard(cardToPlay);
+
+        gameHandler.playCard(humanPlayer, cardToPlay);
+        gameHandler.eatCard(humanPlayer, 2);
+
+        assertEquals(List.of("played:7", "changed", "drawn:2", "changed"), events);
+    }
+
+    @Test
+    @DisplayName("Debería notificar el fin del juego una sola vez")
+    void testGameEndedNotifiedOnce() {
+        List<String> winners = new ArrayList<>();
+        gameHandler.addGameListener(new GameListener() {
+            @Override
+            public void onGameEnded(String winner) {
+                winners.add(winner);
+            }
+        });
+
+        gameHandler.checkWinner();
+        gameHandler.checkWinner();
+
+        assertEquals(List.of("HUMAN"), winners);
+    }
+
+    @Test
+    @DisplayName("Debería completar el resultado del juego cuando hay un ganador")
+    void testWhenGameEnded() {
+        humanPlayer.addCard(new Card("/org/example/eiscuno/cards-uno/7_red.png", "7", "RED"));
+        machinePlayer.addCard(new Card("/org/example/eiscuno/cards-uno/2_blue.png", "2", "BLUE"));
+        CompletableFuture<String> result = gameHandler.whenGameEnded().toCompletableFuture();
+
+        gameHandler.checkWinner();
+        assertFalse(result.isDone());
+
+        humanPlayer.removeCard(0);
+        gameHandler.checkWinner();
+        assertEquals("HUMAN", result.getNow(null));
+        assertEquals("HUMAN", gameHandler.whenGameEnded().toCompletableFuture().getNow(null));
+    }
+
+    @Test
+    @DisplayName("Debería devolver al mazo las cartas de la mesa sin crear cartas nuevas")
+    void testEatCardRecyclesTable() {
+        while (!deck.isEmpty()) {
+            deck.takeCard();
+        }
+        Card card1 = new Card("/org/example/eiscuno/cards-uno/5_red.png", "5", "RED");
+        Card card2 = new Card("/org/example/eiscuno/cards-uno/3_blue.png", "3", "BLUE");
+        Card top = new Card("/org/example/eiscuno/cards-uno/7_red.png", "7", "RED");
+        table.addCardOnTheTable(card1);
+        table.addCardOnTheTable(card2);
+        table.addCardOnTheTable(top);
+
+        gameHandler.eatCard(humanPlayer, 2);
+
+        assertEquals(2, humanPlayer.getCardsPlayer().size());
+        assertTrue(humanPlayer.getCardsPlayer().contains(card1));
+        assertTrue(humanPlayer.getCardsPlayer().contains(card2));
+        assertEquals(List.of(top), table.getCards());
+        assertTrue(deck.isEmpty());
+    }
+
+    @Test
+    @DisplayName("El hilo de la máquina debería despertar al pasarle el turno, sin consultar en bucle")
+    void testAwaitMachineTurn() throws InterruptedException {
+        AtomicBoolean result = new AtomicBoolean();
+        Thread waiter = new Thread(() -> {
+            try {
+                result.set(gameHandler.awaitMachineTurn());
+            } catch (InterruptedException ignored) {}
+        });
+        waiter.start();
+
+        Thread.sleep(50);
+        assertTrue(waiter.isAlive());
+        assertEquals(Thread.State.WAITING, waiter.getState());
+
+        gameHandler.passTurnToMachine();
+        waiter.join(1000);
+        assertFalse(waiter.isAlive());
+        assertTrue(result.get());
+    }
+
+    @Test
+    @DisplayName("El hilo de la máquina debería despertar cuando termina la partida")
+    void testAwaitMachineTurnGameEnded() throws InterruptedException {
+        AtomicBoolean result = new AtomicBoolean(true);
+        Thread waiter = new Thread(() -> {
+            try {
+                result.set(gameHandler.awaitMachineTurn());
+            } catch (InterruptedException ignored) {}
+        });
+        waiter.start();
+
+        Thread.sleep(50);
+        gameHandler.checkWinner(); // The human has no cards, so the game ends
+        waiter.join(1000);
+        assertFalse(waiter.isAlive());
+        assertFalse(result.get());
+    }
+}
@@ -0,0 +1,174 @@
+package org.example.eiscuno.model.common;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.player.Player;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Pruebas unitarias para la clase GameJournal
+ * Las instantáneas se guardan en memoria y el registro en una carpeta temporal
+ */
+class GameJournalTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    @DisplayName("Debería reconstruir la partida con la instantánea y el registro de jugadas")
+    void testReplayRebuildsGame() throws IOException {
+        GameHandler handler = GameHandler.createNewGame();
+        AtomicReference<byte[]> snapshot = new AtomicReference<>();
+        File journalFile = new File(tempDir, "savegame.journal");
+        GameJournal journal = new GameJournal(handler, journalFile, snapshot::set, 10_000);
+        handler.addGameListener(journal);
+
+        playMoves(handler, 40);
+
+        GameHandler loaded = GameSaver.deserialize(snapshot.get());
+        int replayed = GameJournal.replay(loaded, journalFile);
+
+        assertEquals(handler.getJournalSequence(), replayed);
+        assertEquals(describe(handler), describe(loaded));
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("Debería compactar el registro con instantáneas periódicas")
+    void testSnapshotCompaction() throws IOException {
+        GameHandler handler = GameHandler.createNewGame();
+        AtomicReference<byte[]> snapshot = new AtomicReference<>();
+        File journalFile = new File(tempDir, "savegame.journal");
+        GameJournal journal = new GameJournal(handler, journalFile, snapshot::set, 4);
+        handler.addGameListener(journal);
+
+        playMoves(handler, 40);
+        journal.close();
+
+        GameHandler loaded = GameSaver.deserialize(snapshot.get());
+        assertTrue(loaded.getJournalSequence() > 0);
+        assertTrue(journalFile.length() < handler.getJournalSequence() * GameJournal.RECORD_SIZE);
+
+        GameJournal.replay(loaded, journalFile);
+        assertEquals(describe(handler), describe(loaded));
+    }
+
+    @Test
+    @DisplayName("No debería tomar la instantánea en medio de una jugada cuando cambia el UNO")
+    void testSnapshotAtMoveBoundary() throws IOException {
+        GameHandler handler = GameHandler.createNewGame();
+        AtomicReference<byte[]> snapshot = new AtomicReference<>();
+        File journalFile = new File(tempDir, "savegame.journal");
+        GameJournal journal = new GameJournal(handler, journalFile, snapshot::set, 2);
+        handler.addGameListener(journal);
+        // Like the UNO callouts, a bigger hand resets the UNO call while the card is being drawn
+        handler.getHumanPlayer().setHandListener((player, size) -> {
+            if (size > 1 && handler.getHumanSaidUno()) handler.setHumanSaidUno(false);
+        });
+
+        // The second record, due for a snapshot, is the UNO reset in the middle of the draw
+        handler.setHumanSaidUno(true);
+        handler.eatCard(handler.getHumanPlayer(), 1);
+        journal.close();
+
+        GameHandler loaded = GameSaver.deserialize(snapshot.get());
+        GameJournal.replay(loaded, journalFile);
+        assertEquals(describe(handler), describe(loaded));
+    }
+
+    @Test
+    @DisplayName("Debería ignorar un registro cortado o dañado al final del archivo")
+    void testTornRecordIsIgnored() throws IOException {
+        GameHandler handler = GameHandler.createNewGame();
+        AtomicReference<byte[]> snapshot = new AtomicReference<>();
+        File journalFile = new File(tempDir, "savegame.journal");
+        GameJournal journal = new GameJournal(handler, journalFile, snapshot::set, 10_000);
+        handler.addGameListener(journal);
+
+        handler.eatCard(handler.getHumanPlayer(), 2);
+        journal.close();
+        String expected = describe(handler);
+
+        // A record cut in half by a crash
+        try (FileOutputStream out = new FileOutputStream(journalFile, true)) {
+            out.write(new byte[GameJournal.RECORD_SIZE / 2]);
+        }
+        GameHandler loaded = GameSaver.deserialize(snapshot.get());
+        assertEquals(2, GameJournal.replay(loaded, journalFile));
+        assertEquals(expected, describe(loaded));
+
+        // A damaged second record stops the replay after the first one
+        try (RandomAccessFile file = new RandomAccessFile(journalFile, "rw")) {
+            file.seek(GameJournal.RECORD_SIZE + 10);
+            file.write(0x7F);
+        }
+        loaded = GameSaver.deserialize(snapshot.get());
+        assertEquals(1, GameJournal.replay(loaded, journalFile));
+    }
+
+    /**
+     * Plays the game with the first playable card, drawing when there is none.
+     */
+    private void playMoves(GameHandler handler, int moves) {
+        for (int i = 0; i < moves; i++) {
+            if (handler.getHumanPlayer().getCardsPlayer().isEmpty()
+                    || handler.getMachinePlayer().getCardsPlayer().isEmpty()) {
+                return;
+            }
+            boolean human = handler.getHumanTurn();
+            Player player = human ? handler.getHumanPlayer() : handler.getMachinePlayer();
+            Card top = handler.getCurrentCardOnTable();
+            Card card = player.getHand().findPlayableCard(top.getId(), top.getColorIndex());
+            if (card != null) {
+                handler.playCard(player, card);
+                handler.applyCardEffectAndTurn(card, human);
+            } else {
+                handler.eatCard(player, 1);
+                if (human) {
+                    handler.passTurnToMachine();
+                } else {
+                    handler.passTurnToHuman();
+                }
+            }
+            if (i % 3 == 0) {
+                handler.setHumanSaidUno(!handler.getHumanSaidUno());
+            }
+        }
+    }
+
+    /**
+     * Describes everything a save must keep: hands, table, colors, deck contents and flags.
+     */
+    private String describe(GameHandler handler) {
+        List<Integer> deck = new ArrayList<>();
+        for (Card card : handler.getDeck().getAllCards()) {
+            deck.add(card.getId());
+        }
+        deck.sort(null);
+        return "" + ids(handler.getHumanPlayer().getCardsPlayer())
+                + ids(handler.getMachinePlayer().getCardsPlayer())
+                + ids(handler.getTable().getCards())
+                + handler.getCurrentCardOnTable().getColor()
+                + deck
+                + handler.getHumanTurn() + handler.getHumanSaidUno() + handler.getIASaidUno()
+                + handler.getJournalSequence();
+    }
+
+    private List<String> ids(List<Card> cards) {
+        List<String> ids = new ArrayList<>();
+        for (Card card : cards) {
+            ids.add(card.getId() + ":" + card.getColor());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.eiscuno.model.common;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pruebas unitarias para la clase GameSaveService
+ * Usan un escritor que solo cuenta las escrituras, así no se toca el archivo de guardado
+ */
+class GameSaveServiceTest {
+
+    @Test
+    @DisplayName("Debería juntar muchos cambios seguidos en una sola escritura")
+    void testCoalescesBurst() throws InterruptedException {
+        AtomicInteger writes = new AtomicInteger();
+        GameSaveService service = new GameSaveService(writes::incrementAndGet, 50);
+
+        for (int i = 0; i < 100; i++) {
+            service.markDirty();
+        }
+        assertEquals(0, writes.get());
+
+        Thread.sleep(300);
+        assertEquals(1, writes.get());
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("Debería escribir los cambios pendientes al hacer flush")
+    void testFlushWritesPendingChanges() {
+        AtomicInteger writes = new AtomicInteger();
+        GameSaveService service = new GameSaveService(writes::incrementAndGet, 10_000);
+
+        service.flush();
+        assertEquals(0, writes.get());
+
+        service.markDirty();
+        service.flush();
+        assertEquals(1, writes.get());
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("Debería escribir al cerrar y luego ignorar los cambios")
+    void testShutdownWritesAndStops() {
+        AtomicInteger writes = new AtomicInteger();
+        GameSaveService service = new GameSaveService(writes::incrementAndGet, 10_000);
+
+        service.markDirty();
+        service.shutdown();
+        assertEquals(1, writes.get());
+
+        service.markDirty();
+        service.flush();
+        assertEquals(1, writes.get());
+    }
+
+    @Test
+    @DisplayName("No debería escribir los cambios descartados")
+    void testDiscardDropsChanges() throws InterruptedException {
+        AtomicInteger writes = new AtomicInteger();
+        GameSaveService service = new GameSaveService(writes::incrementAndGet, 20);
+
+        service.markDirty();
+        service.discard();
+
+        Thread.sleep(100);
+        assertEquals(0, writes.get());
+    }
+}
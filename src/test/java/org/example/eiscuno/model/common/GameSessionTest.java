@@ -0,0 +1,70 @@
+package org.example.eiscuno.model.common;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.player.Player;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pruebas unitarias para la clase GameSession
+ */
+class GameSessionTest {
+
+    @Test
+    @DisplayName("Pausar una partida no debería detener otra partida del mismo proceso")
+    void testSessionsArePausedIndependently() throws Exception {
+        GameSession paused = new GameSession(GameHandler.createNewGame(), new VirtualGameClock());
+        GameSession running = new GameSession(GameHandler.createNewGame(), new VirtualGameClock());
+        GameHandler pausedGame = paused.getGameHandler();
+        try {
+            paused.start(visible -> {}, (title, message) -> {});
+            running.start(visible -> {}, (title, message) -> {});
+
+            // The machine of the paused game gets its turn while a dialog is open
+            paused.getPauseManager().pauseGame();
+            paused.getCommands().execute(pausedGame::passTurnToMachine).get();
+            int machineCards = pausedGame.getMachinePlayer().getCardsPlayer().size();
+
+            // The other game is played until the end in the meantime
+            CompletableFuture<String> result = running.getGameHandler().whenGameEnded().toCompletableFuture();
+            while (!result.isDone()) {
+                running.getCommands().execute(() -> playHumanTurn(running.getGameHandler())).get();
+                running.getClock().sleep(100);
+            }
+            assertNotNull(result.get(10, TimeUnit.SECONDS));
+            assertFalse(pausedGame.getHumanTurn());
+            assertEquals(machineCards, pausedGame.getMachinePlayer().getCardsPlayer().size());
+
+            // Closing the dialog lets the machine play its turn
+            paused.getPauseManager().resumeGame();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (!pausedGame.getHumanTurn() && !pausedGame.isGameEnded() && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertTrue(pausedGame.getHumanTurn() || pausedGame.isGameEnded());
+        } finally {
+            paused.close();
+            running.close();
+        }
+    }
+
+    /**
+     * Plays the first playable card of the human player, or draws one if there is none.
+     */
+    private void playHumanTurn(GameHandler gameHandler) {
+        if (!gameHandler.getHumanTurn() || gameHandler.isGameEnded()) return;
+        Player human = gameHandler.getHumanPlayer();
+        Card top = gameHandler.getCurrentCardOnTable();
+        Card card = human.getHand().findPlayableCard(top.getId(), top.getColorIndex());
+        if (card != null) {
+            gameHandler.handleHumanCardClick(card, null);
+        } else {
+            gameHandler.eatCard(human, 1);
+            gameHandler.passTurnToMachine();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.eiscuno.model.common;
+
+import org.example.eiscuno.model.card.Card;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para la clase GameSnapshot
+ */
+class GameSnapshotTest {
+
+    private GameHandler gameHandler;
+
+    @BeforeEach
+    void setUp() {
+        gameHandler = GameHandler.createNewGame();
+        gameHandler.enableSnapshots();
+    }
+
+    @Test
+    @DisplayName("Debería publicar una nueva instantánea después de cada cambio")
+    void testPublishedAfterChange() {
+        GameSnapshot before = gameHandler.getSnapshot();
+        assertEquals(5, before.getHumanCards().size());
+        assertEquals(5, before.getMachineCardCount());
+        assertSame(gameHandler.getCurrentCardOnTable(), before.getTopCard());
+        assertTrue(before.isHumanTurn());
+
+        gameHandler.eatCard(gameHandler.getHumanPlayer(), 2);
+        gameHandler.passTurnToMachine();
+
+        GameSnapshot after = gameHandler.getSnapshot();
+        assertNotSame(before, after);
+        assertSame(after, gameHandler.getSnapshot());
+        assertEquals(7, after.getHumanCards().size());
+        assertFalse(after.isHumanTurn());
+    }
+
+    @Test
+    @DisplayName("Sin una vista no debería publicar instantáneas, sino copiarlas al pedirlas")
+    void testNotPublishedWithoutView() {
+        GameHandler headless = GameHandler.createNewGame();
+        GameSnapshot first = headless.getSnapshot();
+
+        headless.eatCard(headless.getHumanPlayer(), 2);
+
+        GameSnapshot second = headless.getSnapshot();
+        assertNotSame(first, second);
+        assertNotSame(second, headless.getSnapshot());
+        assertEquals(7, second.getHumanCards().size());
+    }
+
+    @Test
+    @DisplayName("Una instantánea no debería cambiar cuando cambia la partida")
+    void testSnapshotIsImmutable() {
+        GameSnapshot snapshot = gameHandler.getSnapshot();
+        String color = snapshot.getCurrentColor();
+
+        gameHandler.eatCard(gameHandler.getHumanPlayer(), 3);
+        gameHandler.getCurrentCardOnTable().setColor("GREEN".equals(color) ? "BLUE" : "GREEN");
+
+        assertEquals(5, snapshot.getHumanCards().size());
+        assertEquals(color, snapshot.getCurrentColor());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getHumanCards().clear());
+    }
+
+    @Test
+    @DisplayName("Debería mostrar primero las cartas más recientes, igual que el GameHandler")
+    void testVisibleCards() {
+        gameHandler.eatCard(gameHandler.getHumanPlayer(), 3);
+        GameSnapshot snapshot = gameHandler.getSnapshot();
+
+        for (int pos = 0; pos < 8; pos++) {
+            Card[] expected = gameHandler.getCurrentVisibleCardsHumanPlayer(pos);
+            assertArrayEquals(expected, snapshot.getVisibleHumanCards(pos));
+        }
+        assertEquals(0, snapshot.getVisibleHumanCards(8).length);
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.eiscuno.model.common;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+/**
+ * Pruebas unitarias para la clase PlayerStatsManager
+ */
+class PlayerStatsManagerTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    @DisplayName("Jugar cartas no debería escribir el archivo hasta que se guarden las estadísticas")
+    void testRecordsInMemory() throws IOException {
+        File file = new File(tempDir, "player_stats.csv");
+        PlayerStatsManager stats = new PlayerStatsManager(file, 60_000);
+
+        for (int i = 0; i < 1000; i++) {
+            stats.record(false, 1, true);
+        }
+        stats.record(true, 0, false);
+        assertFalse(file.exists());
+        assertEquals(1000, stats.getPlacedCards());
+
+        stats.flush();
+        assertEquals(List.of("partidas_jugadas,partidas_ganadas,cartas_colocadas", "1,1,1000"),
+                Files.readAllLines(file.toPath()));
+        assertFalse(new File(tempDir, "player_stats.csv.tmp").exists());
+    }
+
+    @Test
+    @DisplayName("Debería cargar las estadísticas guardadas y seguir sumando sobre ellas")
+    void testLoadsSavedStats() throws IOException {
+        File file = new File(tempDir, "player_stats.csv");
+        Files.write(file.toPath(), List.of("partidas_jugadas,partidas_ganadas,cartas_colocadas", "4,2,37"));
+
+        PlayerStatsManager stats = new PlayerStatsManager(file, 60_000);
+        assertEquals(4, stats.getPlayedGames());
+        assertEquals(2, stats.getGamesWon());
+        assertEquals(37, stats.getPlacedCards());
+
+        stats.record(false, 3, false);
+        stats.flush();
+
+        PlayerStatsManager reloaded = new PlayerStatsManager(file, 60_000);
+        assertEquals(5, reloaded.getPlayedGames());
+        assertEquals(2, reloaded.getGamesWon());
+        assertEquals(40, reloaded.getPlacedCards());
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.eiscuno.model.common;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+/**
+ * Pruebas unitarias para la clase SaveSlot
+ */
+class SaveSlotTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    @DisplayName("Debería leer el último guardado, también al volver a abrir el archivo")
+    void testReadsNewestSave() throws IOException {
+        File file = new File(tempDir, "savegame.dat");
+        try (SaveSlot slot = SaveSlot.open(file)) {
+            assertNull(slot.read());
+            slot.write(new byte[] {1, 2, 3});
+            slot.write(new byte[] {4, 5});
+            slot.write(new byte[] {6});
+            assertArrayEquals(new byte[] {6}, slot.read());
+        }
+        assertEquals(SaveSlot.FILE_SIZE, file.length());
+
+        try (SaveSlot slot = SaveSlot.open(file)) {
+            assertArrayEquals(new byte[] {6}, slot.read());
+        }
+    }
+
+    @Test
+    @DisplayName("Si el último guardado está dañado debería leer el anterior")
+    void testFallsBackToPreviousSave() throws IOException {
+        File file = new File(tempDir, "savegame.dat");
+        try (SaveSlot slot = SaveSlot.open(file)) {
+            slot.write(new byte[] {1, 2, 3}); // region 0
+            slot.write(new byte[] {4, 5, 6}); // region 1
+        }
+
+        // A crash in the middle of writing region 1
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.seek(SaveSlot.REGION_SIZE + 16 + 1);
+            raf.write(9);
+        }
+
+        try (SaveSlot slot = SaveSlot.open(file)) {
+            assertArrayEquals(new byte[] {1, 2, 3}, slot.read());
+            // The next save goes to the damaged region and becomes the newest
+            slot.write(new byte[] {7});
+            assertArrayEquals(new byte[] {7}, slot.read());
+        }
+        try (SaveSlot slot = SaveSlot.open(file)) {
+            assertArrayEquals(new byte[] {7}, slot.read());
+        }
+    }
+
+    @Test
+    @DisplayName("Debería quedar vacío después de borrarlo")
+    void testClear() throws IOException {
+        File file = new File(tempDir, "savegame.dat");
+        try (SaveSlot slot = SaveSlot.open(file)) {
+            slot.write(new byte[] {1});
+            slot.clear();
+            assertNull(slot.read());
+        }
+        try (SaveSlot slot = SaveSlot.open(file)) {
+            assertNull(slot.read());
+        }
+    }
+
+    @Test
+    @DisplayName("Debería rechazar un guardado que no cabe en una región")
+    void testRejectsTooLargeSave() throws IOException {
+        try (SaveSlot slot = SaveSlot.open(new File(tempDir, "savegame.dat"))) {
+            slot.write(new byte[SaveSlot.CAPACITY]);
+            assertThrows(IOException.class, () -> slot.write(new byte[SaveSlot.CAPACITY + 1]));
+            assertEquals(SaveSlot.CAPACITY, slot.read().length);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.eiscuno.model.common;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+
+/**
+ * Pruebas unitarias para la clase VirtualGameClock
+ */
+class VirtualGameClockTest {
+
+    @Test
+    @DisplayName("Debería ejecutar las tareas en el orden de sus plazos al avanzar")
+    void testRunsTasksInDeadlineOrder() {
+        VirtualGameClock clock = new VirtualGameClock();
+        List<String> events = new ArrayList<>();
+        clock.schedule(() -> events.add("c@" + clock.currentTimeMillis()), 3000);
+        clock.schedule(() -> events.add("a@" + clock.currentTimeMillis()), 1000);
+        clock.schedule(() -> events.add("b@" + clock.currentTimeMillis()), 1000);
+
+        clock.advance(999);
+        assertTrue(events.isEmpty());
+
+        clock.sleep(1500);
+        assertEquals(List.of("a@1000", "b@1000"), events);
+        assertEquals(2499, clock.currentTimeMillis());
+        assertEquals(1, clock.pendingTasks());
+    }
+
+    @Test
+    @DisplayName("Debería saltar al siguiente plazo y ejecutar las tareas que se programan en el camino")
+    void testRunNext() {
+        VirtualGameClock clock = new VirtualGameClock();
+        List<Long> times = new ArrayList<>();
+        clock.schedule(() -> {
+            times.add(clock.currentTimeMillis());
+            clock.schedule(() -> times.add(clock.currentTimeMillis()), 500);
+        }, 2000);
+
+        assertTrue(clock.runNext());
+        assertTrue(clock.runNext());
+        assertFalse(clock.runNext());
+        assertEquals(List.of(2000L, 2500L), times);
+    }
+
+    @Test
+    @DisplayName("Una tarea cancelada no debería ejecutarse")
+    void testCancel() {
+        VirtualGameClock clock = new VirtualGameClock();
+        List<String> events = new ArrayList<>();
+        Future<?> task = clock.schedule(() -> events.add("cancelada"), 100);
+
+        task.cancel(false);
+        assertEquals(0, clock.pendingTasks());
+        clock.advance(1000);
+        assertTrue(events.isEmpty());
+    }
+}
@@ -1,7 +1,7 @@
 package org.example.eiscuno.model.deck;
 
-import org.example.eiscuno.BaseTest;
 import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCatalog;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -12,7 +12,7 @@ import java.util.List;
 /**
  * Pruebas unitarias para la clase Deck
  */
-class DeckTest extends BaseTest {
+class DeckTest {
 
     private Deck deck;
 
@@ -136,10 +136,10 @@ class DeckTest extends BaseTest {
     void testTakenCardsHaveValidProperties() {
         Card takenCard = deck.takeCard();
         
-        assertNotNull(takenCard.getColor());
+        // Wild and +4 cards have no color until they are played
+        assertTrue(takenCard.getColor() != null || takenCard.isWildCard() || takenCard.isPlusFour());
         assertNotNull(takenCard.getUrl());
-        assertNotNull(takenCard.getImage());
-        assertNotNull(takenCard.getCard());
+        assertEquals(takenCard.getId(), CardCatalog.idOf(takenCard.getKind(), takenCard.getColorIndex(), takenCard.getNumber()));
     }
 
     @Test
@@ -179,4 +179,26 @@ class DeckTest extends BaseTest {
         // Este test puede fallar ocasionalmente, pero es aceptable
         // En un entorno de producción, se podría usar un mock para el Random
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("Debería devolver cartas al mazo y quitar el color elegido a los comodines")
+    void testRecycle() {
+        Card wild = new Card("/org/example/eiscuno/cards-uno/wild.png", null, null);
+        wild.setColor("GREEN");
+        Card red = new Card("/org/example/eiscuno/cards-uno/5_red.png", "5", "RED");
+        // The cards are played before they go back to the deck
+        assertNotNull(deck.takeCardById(wild.getId()));
+        assertNotNull(deck.takeCardById(red.getId()));
+        int initialSize = deck.size();
+
+        deck.recycle(List.of(wild, red));
+
+        assertEquals(initialSize + 2, deck.size());
+        assertTrue(deck.getAllCards().contains(wild));
+        // The wild card is again like a new one
+        assertNull(wild.getColor());
+        assertEquals(CardCatalog.NO_COLOR, wild.getColorIndex());
+        assertEquals(CardCatalog.createCard(wild.getId()).getColor(), wild.getColor());
+        assertEquals("RED", red.getColor());
+    }
+}
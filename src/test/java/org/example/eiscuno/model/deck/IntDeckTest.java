@@ -0,0 +1,94 @@
+package org.example.eiscuno.model.deck;
+
+import org.example.eiscuno.model.card.CardCatalog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+
+/**
+ * Pruebas unitarias para la clase IntDeck
+ */
+class IntDeckTest {
+
+    @Test
+    @DisplayName("Debería crear un mazo con cada carta del catálogo una sola vez")
+    void testDeckContainsEveryCardOnce() {
+        IntDeck deck = new IntDeck(new SplittableRandom(1));
+        boolean[] seen = new boolean[CardCatalog.CARD_COUNT];
+
+        assertEquals(CardCatalog.CARD_COUNT, deck.size());
+        while (!deck.isEmpty()) {
+            int id = deck.takeCard();
+            assertFalse(seen[id]);
+            seen[id] = true;
+        }
+        for (boolean card : seen) {
+            assertTrue(card);
+        }
+    }
+
+    @Test
+    @DisplayName("Debería barajar igual con la misma semilla")
+    void testSameSeedSameOrder() {
+        IntDeck deck1 = new IntDeck(new SplittableRandom(42));
+        IntDeck deck2 = new IntDeck(new SplittableRandom(42));
+
+        for (int i = 0; i < CardCatalog.CARD_COUNT; i++) {
+            assertEquals(deck1.takeCard(), deck2.takeCard());
+        }
+    }
+
+    @Test
+    @DisplayName("Debería tomar varias cartas en un arreglo")
+    void testTakeCards() {
+        IntDeck deck = new IntDeck(new SplittableRandom(7));
+        int top = deck.getCard(deck.size() - 1);
+        int[] hand = new int[5];
+
+        deck.takeCards(hand, 0, 5);
+
+        assertEquals(top, hand[0]);
+        assertEquals(CardCatalog.CARD_COUNT - 5, deck.size());
+    }
+
+    @Test
+    @DisplayName("Debería lanzar excepción al tomar más cartas de las que hay")
+    void testTakeFromEmptyDeck() {
+        IntDeck deck = new IntDeck(new SplittableRandom(3));
+        int[] all = new int[CardCatalog.CARD_COUNT];
+        deck.takeCards(all, 0, all.length);
+
+        assertThrows(IllegalStateException.class, deck::takeCard);
+        assertThrows(IllegalStateException.class, () -> deck.takeCards(new int[1], 0, 1));
+    }
+
+    @Test
+    @DisplayName("Debería copiar otro mazo sin cambiarlo")
+    void testCopy() {
+        IntDeck deck = new IntDeck(new SplittableRandom(5));
+        deck.takeCard();
+        IntDeck copy = new IntDeck(deck);
+
+        assertEquals(deck.size(), copy.size());
+        assertEquals(deck.takeCard(), copy.takeCard());
+        assertEquals(deck.size(), copy.size());
+    }
+
+    @Test
+    @DisplayName("Debería quitar una carta concreta sin cambiar el orden de las demás")
+    void testRemoveCard() {
+        IntDeck deck = new IntDeck(new SplittableRandom(9));
+        int removed = deck.getCard(10);
+        int below = deck.getCard(9);
+        int above = deck.getCard(11);
+
+        assertTrue(deck.removeCard(removed));
+        assertFalse(deck.removeCard(removed));
+
+        assertEquals(CardCatalog.CARD_COUNT - 1, deck.size());
+        assertEquals(below, deck.getCard(9));
+        assertEquals(above, deck.getCard(10));
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.eiscuno.model.history;
+
+import org.example.eiscuno.model.card.CardCatalog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+/**
+ * Pruebas unitarias para las clases GameArchive y GameArchiveReader
+ */
+class GameArchiveTest {
+
+    @TempDir
+    File folder;
+
+    @Test
+    @DisplayName("Debería agrupar las partidas por ganador y calcular la contribución de cada carta")
+    void testQueries() throws IOException {
+        try (GameArchive archive = new GameArchive(folder)) {
+            // The human wins playing card 0 twice, the machine plays card 1
+            archive.append(game("HUMAN", 10, 3, new int[] {0, 1, 0}, new boolean[] {true, false, true}));
+            // The machine wins playing card 0, the human plays card 2
+            archive.append(game("MACHINE", 20, 5, new int[] {2, 0}, new boolean[] {true, false}));
+            archive.append(game("MACHINE", 30, 7, new int[] {}, new boolean[] {}));
+        }
+
+        GameArchiveReader reader = new GameArchiveReader(folder);
+        assertEquals(3, reader.size());
+        assertArrayEquals(new long[] {1, 2}, reader.countByWinner());
+        assertArrayEquals(new double[] {10, 25}, reader.averageTurnsByWinner(), 1e-9);
+        assertArrayEquals(new double[] {3, 6}, reader.averageDrawsByWinner(), 1e-9);
+
+        long[][] plays = reader.cardPlaysByOutcome();
+        assertEquals(3, plays[0][0]);
+        assertEquals(0, plays[1][0]);
+        assertEquals(1, plays[1][1]);
+        assertEquals(1, plays[1][2]);
+
+        double[] contribution = reader.cardWinContribution();
+        assertEquals(1.0, contribution[0], 1e-9);
+        assertEquals(0.0, contribution[1], 1e-9);
+        assertTrue(Double.isNaN(contribution[3]));
+    }
+
+    @Test
+    @DisplayName("Debería escribir en bloques y seguir agregando al abrir de nuevo el archivo")
+    void testBlocksAndReopen() throws IOException {
+        int games = 10_000;
+        try (GameArchive archive = new GameArchive(folder)) {
+            for (int i = 0; i < games; i++) {
+                archive.append(game(i % 4 == 0 ? "HUMAN" : "MACHINE", i % 50, 1, new int[] {5}, new boolean[] {true}));
+            }
+            // The rows of the last block are only visible after they are written
+            assertTrue(new GameArchiveReader(folder).size() < games);
+            archive.flush();
+            assertEquals(games, new GameArchiveReader(folder).size());
+        }
+        try (GameArchive archive = new GameArchive(folder)) {
+            assertEquals(games, archive.size());
+            archive.append(game("HUMAN", 1, 1, new int[] {}, new boolean[] {}));
+        }
+
+        GameArchiveReader reader = new GameArchiveReader(folder);
+        assertArrayEquals(new long[] {games / 4 + 1, games - games / 4}, reader.countByWinner());
+        assertEquals(games, reader.cardPlaysByOutcome()[0][5] + reader.cardPlaysByOutcome()[1][5]);
+    }
+
+    @Test
+    @DisplayName("Debería descartar una fila escrita a medias")
+    void testTornRow() throws IOException {
+        try (GameArchive archive = new GameArchive(folder)) {
+            archive.append(game("HUMAN", 1, 1, new int[] {}, new boolean[] {}));
+            archive.append(game("MACHINE", 1, 1, new int[] {}, new boolean[] {}));
+        }
+        // The last row lost part of its plays
+        try (RandomAccessFile plays = new RandomAccessFile(new File(folder, GameArchive.PLAYS_FILE), "rw")) {
+            plays.setLength(plays.length() - 1);
+        }
+
+        assertEquals(1, new GameArchiveReader(folder).size());
+        try (GameArchive archive = new GameArchive(folder)) {
+            assertEquals(1, archive.size());
+            archive.append(game("MACHINE", 2, 2, new int[] {}, new boolean[] {}));
+        }
+        assertArrayEquals(new long[] {1, 1}, new GameArchiveReader(folder).countByWinner());
+    }
+
+    @Test
+    @DisplayName("No debería abrir una carpeta sin archivo de partidas")
+    void testMissingArchive() {
+        assertThrows(IOException.class, () -> new GameArchiveReader(new File(folder, "missing")));
+        assertEquals(2 * CardCatalog.CARD_COUNT, GameArchive.PLAYS_WIDTH);
+    }
+
+    private GameRecord game(String winner, int turns, int cardsDrawn, int[] cardIds, boolean[] byHuman) {
+        return new GameRecord(0, 0, turns, cardsDrawn, winner, cardIds, byHuman, new int[cardIds.length]);
+    }
+}
@@ -0,0 +1,139 @@
+package org.example.eiscuno.model.history;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.common.GameHandler;
+import org.example.eiscuno.model.common.VirtualGameClock;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Pruebas unitarias para la clase GameHistoryStore
+ * Cada prueba usa su propia base de datos en una carpeta temporal
+ */
+class GameHistoryStoreTest {
+
+    @TempDir
+    File folder;
+
+    @Test
+    @DisplayName("Debería resumir solo las últimas partidas guardadas")
+    void testSummarizeLastGames() {
+        try (GameHistoryStore store = new GameHistoryStore(new File(folder, "history"))) {
+            assertEquals(0, store.summarize(20).join().getGames());
+
+            store.record(game("MACHINE", 1000, 30));
+            store.record(game("HUMAN", 2000, 10));
+            store.record(game("HUMAN", 4000, 20));
+
+            GameHistorySummary all = store.summarize(20).join();
+            assertEquals(3, all.getGames());
+            assertEquals(2, all.getHumanWins());
+            assertEquals(20, all.getAverageTurns(), 1e-9);
+
+            GameHistorySummary lastTwo = store.summarize(2).join();
+            assertEquals(2, lastTwo.getGames());
+            assertEquals(1.0, lastTwo.getWinRate(), 1e-9);
+            assertEquals(3000, lastTwo.getAverageDurationMillis(), 1e-9);
+        }
+    }
+
+    @Test
+    @DisplayName("Las partidas deberían seguir guardadas al abrir de nuevo la base de datos")
+    void testReopen() {
+        File database = new File(folder, "history");
+        try (GameHistoryStore store = new GameHistoryStore(database)) {
+            store.record(game("HUMAN", 1000, 5));
+            store.flush();
+        }
+        try (GameHistoryStore store = new GameHistoryStore(database)) {
+            store.record(game("MACHINE", 1000, 5));
+            assertEquals(2, store.summarize(20).join().getGames());
+        }
+    }
+
+    @Test
+    @DisplayName("Cada jugada debería quedar unida a su partida aunque se escriban juntas")
+    void testBatchedGamesKeepTheirPlays() throws SQLException {
+        File database = new File(folder, "history");
+        try (GameHistoryStore store = new GameHistoryStore(database)) {
+            for (int plays = 1; plays <= 3; plays++) {
+                store.record(new GameRecord(System.currentTimeMillis(), 1000, plays, 0, "HUMAN",
+                        new int[plays], new boolean[plays], new int[plays]));
+            }
+        }
+
+        // Each game has as many turns as plays
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:file:" + database.getAbsolutePath());
+             Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT g.turns, COUNT(p.seq) FROM games g " +
+                     "JOIN card_plays p ON p.game_id = g.id GROUP BY g.id, g.turns ORDER BY g.turns")) {
+            for (int plays = 1; plays <= 3; plays++) {
+                assertTrue(rows.next());
+                assertEquals(plays, rows.getInt(1));
+                assertEquals(plays, rows.getInt(2));
+            }
+            assertFalse(rows.next());
+        }
+    }
+
+    @Test
+    @DisplayName("Debería registrar las jugadas, los turnos y las cartas tomadas de una partida")
+    void testRecordGame() {
+        Player humanPlayer = new Player("HUMAN_PLAYER");
+        Player machinePlayer = new Player("MACHINE_PLAYER");
+        Table table = new Table();
+        table.addCardOnTheTable(card("2", "RED"));
+        GameHandler gameHandler = new GameHandler(humanPlayer, machinePlayer, new Deck(), table, false, true, false);
+        Card fiveRed = card("5", "RED");
+        Card threeBlue = card("3", "BLUE");
+        Card threeRed = card("3", "RED");
+        humanPlayer.addCard(fiveRed);
+        humanPlayer.addCard(threeBlue);
+        machinePlayer.addCard(threeRed);
+        machinePlayer.addCard(card("9", "GREEN"));
+
+        VirtualGameClock clock = new VirtualGameClock();
+        GameRecord[] recorded = new GameRecord[1];
+        gameHandler.addGameListener(new GameRecorder(gameHandler, clock, record -> recorded[0] = record));
+
+        gameHandler.handleHumanCardClick(fiveRed, null);
+        clock.sleep(1500);
+        gameHandler.eatCard(machinePlayer, 1);
+        gameHandler.playCard(machinePlayer, threeRed);
+        gameHandler.applyCardEffectAndTurn(threeRed, false);
+        gameHandler.handleHumanCardClick(threeBlue, null);
+
+        GameRecord record = recorded[0];
+        assertNotNull(record);
+        assertEquals("HUMAN", record.getWinner());
+        assertEquals(3, record.getTurns());
+        assertEquals(1, record.getCardsDrawn());
+        assertEquals(1500, record.getDurationMillis());
+        assertEquals(3, record.getPlayCount());
+        assertEquals(threeRed.getId(), record.getPlayedCardId(1));
+        assertFalse(record.isPlayedByHuman(1));
+        assertTrue(record.isPlayedByHuman(2));
+        assertEquals(3, record.getPlayTurn(2));
+    }
+
+    private GameRecord game(String winner, long durationMillis, int turns) {
+        return new GameRecord(System.currentTimeMillis(), durationMillis, turns, 4, winner,
+                new int[] {0, 1}, new boolean[] {true, false}, new int[] {1, 2});
+    }
+
+    private Card card(String value, String color) {
+        return new Card("/org/example/eiscuno/cards-uno/" + value + "_" + color.toLowerCase() + ".png", value, color);
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.eiscuno.model.player;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para la clase Hand
+ */
+class HandTest {
+
+    private Hand hand;
+    private Card redFive;
+    private Card blueThree;
+    private Card wild;
+
+    @BeforeEach
+    void setUp() {
+        hand = new Hand();
+        redFive = new Card("/org/example/eiscuno/cards-uno/5_red.png", "5", "RED");
+        blueThree = new Card("/org/example/eiscuno/cards-uno/3_blue.png", "3", "BLUE");
+        wild = new Card("/org/example/eiscuno/cards-uno/wild.png", null, null);
+    }
+
+    @Test
+    @DisplayName("Debería actualizar los contadores al agregar y quitar cartas")
+    void testCounters() {
+        hand.add(redFive);
+        hand.add(blueThree);
+        hand.add(wild);
+
+        assertEquals(3, hand.size());
+        assertEquals(1, hand.countById(redFive.getId()));
+        assertEquals(1, hand.countByColor(CardCatalog.colorIndex("RED")));
+        assertEquals(1, hand.countByColor(CardCatalog.NO_COLOR));
+
+        assertTrue(hand.remove(redFive));
+        assertFalse(hand.remove(redFive));
+
+        assertEquals(0, hand.countById(redFive.getId()));
+        assertEquals(0, hand.countByColor(CardCatalog.colorIndex("RED")));
+        assertEquals(2, hand.size());
+    }
+
+    @Test
+    @DisplayName("Debería saber si hay una carta jugable sin recorrer la mano")
+    void testHasPlayableCard() {
+        Card greenFive = new Card("/org/example/eiscuno/cards-uno/5_green.png", "5", "GREEN");
+        Card greenEight = new Card("/org/example/eiscuno/cards-uno/8_green.png", "8", "GREEN");
+        hand.add(blueThree);
+
+        assertFalse(hand.hasPlayableCard(greenEight.getId(), greenEight.getColorIndex()));
+
+        hand.add(redFive);
+        assertTrue(hand.hasPlayableCard(greenFive.getId(), greenFive.getColorIndex()));
+        assertEquals(1L << redFive.getId(), hand.getPlayableIds(greenFive.getId(), greenFive.getColorIndex()));
+    }
+
+    @Test
+    @DisplayName("Debería devolver la primera carta jugable en el orden de la mano")
+    void testFindPlayableCard() {
+        Card redSeven = new Card("/org/example/eiscuno/cards-uno/7_red.png", "7", "RED");
+        hand.add(blueThree);
+        hand.add(wild);
+        hand.add(redFive);
+
+        assertSame(wild, hand.findPlayableCard(redSeven.getId(), redSeven.getColorIndex()));
+
+        hand.remove(wild);
+        assertSame(redFive, hand.findPlayableCard(redSeven.getId(), redSeven.getColorIndex()));
+    }
+
+    @Test
+    @DisplayName("La lista de cartas no se debería poder modificar desde fuera")
+    void testReadOnlyList() {
+        hand.add(redFive);
+
+        assertThrows(UnsupportedOperationException.class, () -> hand.asList().remove(0));
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.eiscuno.model.simulation;
+
+import org.example.eiscuno.model.common.GameHandler;
+import org.example.eiscuno.model.common.VirtualGameClock;
+import org.example.eiscuno.model.history.GameArchive;
+import org.example.eiscuno.model.history.GameArchiveReader;
+import org.example.eiscuno.model.strategy.GreedyStrategy;
+import org.example.eiscuno.model.strategy.MachineStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Pruebas unitarias para las clases SelfPlaySimulator y SimulationResult
+ */
+class SelfPlaySimulatorTest {
+
+    @Test
+    @DisplayName("La misma semilla debería jugar las mismas partidas con cualquier número de hilos")
+    void testDeterministicAcrossWorkers() {
+        ForkJoinPool one = new ForkJoinPool(1);
+        ForkJoinPool three = new ForkJoinPool(3);
+        try {
+            SimulationResult first = new SelfPlaySimulator(one).run(2000, 7);
+            SimulationResult second = new SelfPlaySimulator(three).run(2000, 7);
+
+            assertEquals(2000, first.getGames());
+            assertEquals(first.getGames(), first.getHumanWins() + first.getMachineWins() + first.getUnfinished());
+            assertEquals(first.getHumanWins(), second.getHumanWins());
+            assertEquals(first.getMachineWins(), second.getMachineWins());
+            assertEquals(first.getAverageTurns(), second.getAverageTurns(), 1e-9);
+            assertTrue(first.getAverageTurns() > 1);
+        } finally {
+            one.shutdown();
+            three.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Las estrategias que buscan con un reloj virtual deberían jugar las mismas partidas en cada ejecución")
+    void testSearchReproducible() {
+        SimulationResult first = searchSimulator().run(6, 5);
+        SimulationResult second = searchSimulator().run(6, 5);
+
+        assertEquals(first.getHumanWins(), second.getHumanWins());
+        assertEquals(first.getMachineWins(), second.getMachineWins());
+        assertEquals(first.getAverageTurns(), second.getAverageTurns(), 1e-9);
+    }
+
+    private SelfPlaySimulator searchSimulator() {
+        return new SelfPlaySimulator(ForkJoinPool.commonPool(), () -> MachineStrategy.byName("search", new VirtualGameClock()),
+                () -> MachineStrategy.byName("ismcts", new VirtualGameClock()));
+    }
+
+    @Test
+    @DisplayName("Debería guardar en el archivo todas las partidas terminadas")
+    void testArchive(@TempDir File folder) throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        SimulationResult result;
+        try (GameArchive archive = new GameArchive(folder)) {
+            result = new SelfPlaySimulator(pool, GreedyStrategy::new, GreedyStrategy::new, archive).run(1000, 11);
+        } finally {
+            pool.shutdown();
+        }
+
+        GameArchiveReader reader = new GameArchiveReader(folder);
+        assertEquals(result.getHumanWins() + result.getMachineWins(), reader.size());
+        assertArrayEquals(new long[] {result.getHumanWins(), result.getMachineWins()}, reader.countByWinner());
+    }
+
+    @Test
+    @DisplayName("Debería jugar una partida completa con las reglas del GameHandler")
+    void testPlayGame() {
+        GameHandler gameHandler = GameHandler.createNewGame(new SplittableRandom(3));
+        int turns = SelfPlaySimulator.playGame(gameHandler);
+
+        assertTrue(gameHandler.isGameEnded());
+        assertTrue(turns > 0 && turns < SelfPlaySimulator.MAX_TURNS);
+        assertNotNull(gameHandler.getWinner());
+    }
+
+    @Test
+    @DisplayName("Debería unir los resultados parciales y calcular el intervalo de confianza")
+    void testResult() {
+        SimulationResult result = new SimulationResult(600, 300, 290, 6000, 0)
+                .merge(new SimulationResult(400, 200, 200, 4000, 0))
+                .withElapsedNanos(2_000_000_000L);
+
+        assertEquals(1000, result.getGames());
+        assertEquals(10, result.getUnfinished());
+        assertEquals(0.5, result.getHumanWinRate(), 1e-9);
+        assertEquals(10, result.getAverageTurns(), 1e-9);
+        assertEquals(500, result.getGamesPerSecond(), 1e-9);
+
+        double[] interval = result.getHumanWinRateInterval();
+        assertEquals(0.469, interval[0], 1e-3);
+        assertEquals(0.531, interval[1], 1e-3);
+    }
+}
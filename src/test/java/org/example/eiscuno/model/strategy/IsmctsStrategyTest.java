@@ -0,0 +1,96 @@
+package org.example.eiscuno.model.strategy;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.common.GameHandler;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Pruebas unitarias para la clase IsmctsStrategy
+ * Las búsquedas se limitan por número de iteraciones para que sean reproducibles
+ */
+class IsmctsStrategyTest {
+
+    private GameHandler gameHandler;
+    private Player humanPlayer;
+    private Player machinePlayer;
+
+    @BeforeEach
+    void setUp() {
+        humanPlayer = new Player("HUMAN_PLAYER");
+        machinePlayer = new Player("MACHINE_PLAYER");
+        Table table = new Table();
+        table.addCardOnTheTable(card("5", "RED"));
+        gameHandler = new GameHandler(humanPlayer, machinePlayer, new Deck(new SplittableRandom(1)), table, false, false, false);
+        gameHandler.setRandom(new SplittableRandom(1));
+    }
+
+    @Test
+    @DisplayName("Debería jugar la carta que le deja ganar la partida")
+    void testFindsWinningMove() {
+        // The skip repeats the turn and the last card wins; the 2 gives the turn to a rival with one card
+        machinePlayer.addCard(card("2", "RED"));
+        machinePlayer.addCard(card("skip", "RED"));
+        humanPlayer.addCard(card("5", "BLUE"));
+
+        IsmctsStrategy ismcts = new IsmctsStrategy(Long.MAX_VALUE, 1, 2000, ForkJoinPool.commonPool());
+        assertEquals(card("skip", "RED").getId(), ismcts.chooseCard(gameHandler.getView(false)));
+    }
+
+    @Test
+    @DisplayName("Debería tomar una carta solo cuando no puede jugar ninguna")
+    void testDraw() {
+        machinePlayer.addCard(card("3", "BLUE"));
+        machinePlayer.addCard(card("7", "GREEN"));
+        humanPlayer.addCard(card("8", "YELLOW"));
+
+        IsmctsStrategy ismcts = new IsmctsStrategy(Long.MAX_VALUE, 1, 100, ForkJoinPool.commonPool());
+        assertEquals(MachineStrategy.DRAW, ismcts.chooseCard(gameHandler.getView(false)));
+    }
+
+    @Test
+    @DisplayName("La búsqueda en paralelo debería elegir siempre una carta jugable y ser reproducible")
+    void testParallelSearch() {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for (long seed = 1; seed <= 20; seed++) {
+                GameHandler first = GameHandler.createNewGame(new SplittableRandom(seed));
+                GameHandler second = GameHandler.createNewGame(new SplittableRandom(seed));
+                int chosen = new IsmctsStrategy(Long.MAX_VALUE, 4, 400, pool).chooseCard(first.getView(false));
+                long playable = first.getView(false).getPlayableIds();
+
+                if (playable == 0) {
+                    assertEquals(MachineStrategy.DRAW, chosen);
+                } else {
+                    assertTrue((playable & (1L << chosen)) != 0);
+                }
+                assertEquals(chosen, new IsmctsStrategy(Long.MAX_VALUE, 4, 400, pool).chooseCard(second.getView(false)));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Debería terminar a tiempo aunque pueda hacer más iteraciones")
+    void testBudget() {
+        GameHandler game = GameHandler.createNewGame(new SplittableRandom(7));
+        IsmctsStrategy ismcts = new IsmctsStrategy(20, 2);
+
+        long start = System.nanoTime();
+        ismcts.chooseCard(game.getView(false));
+        assertTrue(System.nanoTime() - start < 2_000_000_000L);
+    }
+
+    private Card card(String value, String color) {
+        return new Card("/org/example/eiscuno/cards-uno/" + value + "_" + color.toLowerCase() + ".png", value, color);
+    }
+}
@@ -0,0 +1,170 @@
+package org.example.eiscuno.model.strategy;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCatalog;
+import org.example.eiscuno.model.common.GameHandler;
+import org.example.eiscuno.model.common.VirtualGameClock;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+import org.example.eiscuno.model.threads.ThreadPlayMachine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+
+/**
+ * Pruebas unitarias para las estrategias de la máquina
+ * Las estrategias leen la partida a través de la vista de un asiento del GameHandler
+ */
+class MachineStrategyTest {
+
+    private GameHandler gameHandler;
+    private Player humanPlayer;
+    private Player machinePlayer;
+
+    @BeforeEach
+    void setUp() {
+        humanPlayer = new Player("HUMAN_PLAYER");
+        machinePlayer = new Player("MACHINE_PLAYER");
+        Table table = new Table();
+        table.addCardOnTheTable(card("5", "RED"));
+        gameHandler = new GameHandler(humanPlayer, machinePlayer, new Deck(new SplittableRandom(1)), table, false, false, false);
+        gameHandler.setRandom(new SplittableRandom(1));
+    }
+
+    @Test
+    @DisplayName("La estrategia voraz debería jugar la primera carta jugable de la mano")
+    void testGreedy() {
+        machinePlayer.addCard(card("3", "BLUE"));
+        machinePlayer.addCard(card("7", "RED"));
+        machinePlayer.addCard(card("5", "GREEN"));
+
+        GameView view = gameHandler.getView(false);
+        assertEquals(card("7", "RED").getId(), new GreedyStrategy().chooseCard(view));
+
+        machinePlayer.removeCard(1);
+        machinePlayer.removeCard(1);
+        assertEquals(MachineStrategy.DRAW, new GreedyStrategy().chooseCard(view));
+    }
+
+    @Test
+    @DisplayName("La heurística debería atacar cuando al rival le quedan pocas cartas")
+    void testHeuristic() {
+        Card plusTwo = card("2_wild_draw", "RED");
+        machinePlayer.addCard(card("9", "RED"));
+        machinePlayer.addCard(card("1", "RED"));
+        machinePlayer.addCard(plusTwo);
+        machinePlayer.addCard(wild("4_wild_draw"));
+        machinePlayer.addCard(card("3", "BLUE"));
+        machinePlayer.addCard(card("4", "BLUE"));
+        humanPlayer.addCard(card("8", "GREEN"));
+        humanPlayer.addCard(card("8", "YELLOW"));
+        humanPlayer.addCard(card("6", "YELLOW"));
+
+        HeuristicStrategy heuristic = new HeuristicStrategy();
+        GameView view = gameHandler.getView(false);
+        assertEquals(plusTwo.getId(), heuristic.chooseCard(view));
+
+        // With two cards left the +4 is not saved anymore
+        humanPlayer.removeCard(0);
+        assertEquals(wild("4_wild_draw").getId(), heuristic.chooseCard(view));
+
+        // RED is the color with more cards in the hand
+        assertEquals(CardCatalog.colorIndex("RED"), heuristic.chooseColor(view, plusTwo.getId()));
+    }
+
+    @Test
+    @DisplayName("La búsqueda debería elegir siempre una carta jugable")
+    void testSearch() {
+        machinePlayer.addCard(card("9", "RED"));
+        machinePlayer.addCard(card("skip", "RED"));
+        machinePlayer.addCard(card("5", "BLUE"));
+        humanPlayer.addCard(card("8", "GREEN"));
+        humanPlayer.addCard(card("8", "YELLOW"));
+
+        SearchStrategy search = new SearchStrategy(Long.MAX_VALUE, 300);
+        GameView view = gameHandler.getView(false);
+        assertTrue((view.getPlayableIds() & (1L << search.chooseCard(view))) != 0);
+        // A second decision reuses the same playout game and counters
+        assertTrue((view.getPlayableIds() & (1L << search.chooseCard(view))) != 0);
+
+        machinePlayer.removeCard(0);
+        machinePlayer.removeCard(0);
+        assertEquals(card("5", "BLUE").getId(), search.chooseCard(view));
+    }
+
+    @Test
+    @DisplayName("El color de un comodín de la máquina debería elegirlo la estrategia de su asiento")
+    void testStrategyChoosesColor() {
+        Card wild = wild("wild");
+        machinePlayer.addCard(wild);
+        machinePlayer.addCard(card("3", "BLUE"));
+        gameHandler.setStrategy(false, new MachineStrategy() {
+            @Override
+            public int chooseCard(GameView view) {
+                return view.getHandCardId(0);
+            }
+
+            @Override
+            public int chooseColor(GameView view, int cardId) {
+                return CardCatalog.colorIndex("YELLOW");
+            }
+        });
+
+        ThreadPlayMachine.playStrategyTurn(gameHandler, false);
+        assertEquals("YELLOW", gameHandler.getCurrentCardOnTable().getColor());
+        assertEquals(1, machinePlayer.getCardsPlayer().size());
+        assertTrue(gameHandler.getHumanTurn());
+    }
+
+    @Test
+    @DisplayName("Una estrategia que elige una carta que no se puede jugar debería fallar")
+    void testIllegalChoice() {
+        machinePlayer.addCard(card("3", "BLUE"));
+        gameHandler.setStrategy(false, new MachineStrategy() {
+            @Override
+            public int chooseCard(GameView view) {
+                return view.getHandCardId(0);
+            }
+
+            @Override
+            public int chooseColor(GameView view, int cardId) {
+                return 0;
+            }
+        });
+        assertThrows(IllegalStateException.class, () -> ThreadPlayMachine.playStrategyTurn(gameHandler, false));
+        assertEquals(1, machinePlayer.getCardsPlayer().size());
+    }
+
+    @Test
+    @DisplayName("Debería crear las estrategias por su nombre")
+    void testByName() {
+        assertInstanceOf(GreedyStrategy.class, MachineStrategy.byName("greedy"));
+        assertInstanceOf(HeuristicStrategy.class, MachineStrategy.byName("Heuristic"));
+        assertInstanceOf(SearchStrategy.class, MachineStrategy.byName("search"));
+        assertInstanceOf(IsmctsStrategy.class, MachineStrategy.byName("ismcts"));
+        assertThrows(IllegalArgumentException.class, () -> MachineStrategy.byName("random"));
+    }
+
+    @Test
+    @DisplayName("Con un reloj virtual la búsqueda debería limitarse por jugadas y ser reproducible")
+    void testSearchOnVirtualClock() {
+        for (long seed = 1; seed <= 10; seed++) {
+            GameHandler first = GameHandler.createNewGame(new SplittableRandom(seed));
+            GameHandler second = GameHandler.createNewGame(new SplittableRandom(seed));
+            int chosen = MachineStrategy.byName("search", new VirtualGameClock()).chooseCard(first.getView(false));
+            assertEquals(chosen, MachineStrategy.byName("search", new VirtualGameClock()).chooseCard(second.getView(false)));
+        }
+    }
+
+    private Card card(String value, String color) {
+        return new Card("/org/example/eiscuno/cards-uno/" + value + "_" + color.toLowerCase() + ".png", value, color);
+    }
+
+    private Card wild(String name) {
+        return new Card("/org/example/eiscuno/cards-uno/" + name + ".png", name, null);
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.eiscuno.model.strategy;
+
+import org.example.eiscuno.model.card.CardCatalog;
+import org.example.eiscuno.model.common.GameHandler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+
+/**
+ * Pruebas unitarias para la clase PlayoutGame
+ */
+class PlayoutGameTest {
+
+    @Test
+    @DisplayName("Debería repartir las cartas ocultas sin cambiar lo que ve el jugador")
+    void testDeterminize() {
+        GameHandler gameHandler = GameHandler.createNewGame(new SplittableRandom(5));
+        GameView view = gameHandler.getView(true);
+        PlayoutGame game = new PlayoutGame();
+        game.determinize(view, new SplittableRandom(9));
+
+        assertEquals(PlayoutGame.ROOT, game.getSeat());
+        assertEquals(view.getHandSize(), game.getHandSize());
+        assertEquals(view.getOpponentHandSize(), game.getOpponentHandSize());
+        assertEquals(view.getTopCardId(), game.getTopCardId());
+        assertEquals(view.getPlayableIds(), game.getPlayableIds());
+        for (int i = 0; i < view.getHandSize(); i++) {
+            assertEquals(1, game.countInHand(view.getHandCardId(i)));
+        }
+        // Every card the player cannot see is hidden in the opponent's hand or in the deck
+        assertEquals(CardCatalog.CARD_COUNT,
+                game.getHandSize() + game.getOpponentHandSize() + game.getDeckSize() + game.getDiscardSize());
+    }
+
+    @Test
+    @DisplayName("Una copia repartida de nuevo debería conservar lo que ve el jugador")
+    void testRedeal() {
+        GameHandler gameHandler = GameHandler.createNewGame(new SplittableRandom(3));
+        PlayoutGame root = new PlayoutGame();
+        root.determinize(gameHandler.getView(false), new SplittableRandom(4));
+        PlayoutGame game = new PlayoutGame();
+        game.copyFrom(root);
+        game.redeal(new SplittableRandom(6));
+
+        assertEquals(root.getHandSize(), game.getHandSize());
+        assertEquals(root.getOpponentHandSize(), game.getOpponentHandSize());
+        assertEquals(root.getDeckSize(), game.getDeckSize());
+        assertEquals(root.getPlayableIds(), game.getPlayableIds());
+        for (int i = 0; i < root.getDiscardSize(); i++) {
+            assertEquals(root.getDiscardId(i), game.getDiscardId(i));
+        }
+
+        // Playing the copy does not change the original
+        game.playOut(new HeuristicStrategy(), SearchStrategy.MAX_PLAYOUT_TURNS);
+        assertEquals(PlayoutGame.NO_WINNER, root.getWinner());
+        assertEquals(gameHandler.getView(false).getHandSize(), root.getHandSize());
+        assertEquals(1, root.getDiscardSize());
+    }
+
+    @Test
+    @DisplayName("Debería jugar partidas completas sin perder ni duplicar cartas")
+    void testPlayOut() {
+        SplittableRandom random = new SplittableRandom(11);
+        PlayoutGame game = new PlayoutGame();
+        MachineStrategy heuristic = new HeuristicStrategy();
+        for (int i = 0; i < 200; i++) {
+            GameHandler gameHandler = GameHandler.createNewGame(random);
+            game.determinize(gameHandler.getView(true), random);
+
+            int winner = game.playOut(heuristic, SearchStrategy.MAX_PLAYOUT_TURNS);
+            assertNotEquals(PlayoutGame.NO_WINNER, winner);
+            assertEquals(0, game.getHandSize(winner));
+            assertEquals(CardCatalog.CARD_COUNT, game.getHandSize(PlayoutGame.ROOT)
+                    + game.getHandSize(PlayoutGame.OPPONENT) + game.getDeckSize() + game.getDiscardSize());
+        }
+    }
+}
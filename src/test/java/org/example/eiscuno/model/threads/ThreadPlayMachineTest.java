@@ -0,0 +1,176 @@
+package org.example.eiscuno.model.threads;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.common.GameCommandQueue;
+import org.example.eiscuno.model.common.GameHandler;
+import org.example.eiscuno.model.common.GamePauseManager;
+import org.example.eiscuno.model.common.VirtualGameClock;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.strategy.GameView;
+import org.example.eiscuno.model.strategy.GreedyStrategy;
+import org.example.eiscuno.model.strategy.MachineStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pruebas unitarias para la clase ThreadPlayMachine
+ */
+class ThreadPlayMachineTest {
+
+    @Test
+    @DisplayName("Debería jugar una partida completa en tiempo virtual, con las penalizaciones de UNO")
+    void testWholeGameInVirtualTime() throws Exception {
+        GameHandler gameHandler = GameHandler.createNewGame();
+        GameCommandQueue commands = new GameCommandQueue(gameHandler);
+        VirtualGameClock clock = new VirtualGameClock();
+        GamePauseManager pauseManager = new GamePauseManager();
+        UnoCalloutService callout = new UnoCalloutService(commands, pauseManager, visible -> {}, (title, message) -> {}, clock);
+        ThreadPlayMachine machine = new ThreadPlayMachine(commands, pauseManager, clock);
+        CompletableFuture<String> result = gameHandler.whenGameEnded().toCompletableFuture();
+
+        long start = System.nanoTime();
+        callout.start();
+        start(machine);
+        try {
+            // The human plays the first playable card and never calls UNO
+            while (!result.isDone()) {
+                commands.execute(() -> playHumanTurn(gameHandler)).get();
+                clock.sleep(100);
+            }
+            assertNotNull(result.get(10, TimeUnit.SECONDS));
+        } finally {
+            machine.stopThread();
+            callout.stop();
+            commands.shutdown();
+        }
+
+        // Every move waits 1.5 s of game time, but the game takes far less real time
+        assertTrue(clock.currentTimeMillis() >= ThreadPlayMachine.THINKING_DELAY_MILLIS);
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(10));
+    }
+
+    @Test
+    @DisplayName("Debería jugar contra la estrategia por defecto en tiempo virtual, con decisiones reproducibles")
+    void testDefaultStrategyInVirtualTime() throws Exception {
+        // The same position gives the same move, since the search is limited by iterations
+        for (long seed = 1; seed <= 5; seed++) {
+            GameHandler first = GameHandler.createNewGame(new SplittableRandom(seed));
+            GameHandler second = GameHandler.createNewGame(new SplittableRandom(seed));
+            int chosen = ThreadPlayMachine.createStrategy(ThreadPlayMachine.DEFAULT_STRATEGY, new VirtualGameClock())
+                    .chooseCard(first.getView(false));
+            assertEquals(chosen, ThreadPlayMachine.createStrategy(ThreadPlayMachine.DEFAULT_STRATEGY, new VirtualGameClock())
+                    .chooseCard(second.getView(false)));
+        }
+
+        GameHandler gameHandler = GameHandler.createNewGame(new SplittableRandom(9));
+        GameCommandQueue commands = new GameCommandQueue(gameHandler);
+        VirtualGameClock clock = new VirtualGameClock();
+        gameHandler.setStrategy(false, ThreadPlayMachine.createStrategy(ThreadPlayMachine.DEFAULT_STRATEGY, clock));
+        ThreadPlayMachine machine = new ThreadPlayMachine(commands, new GamePauseManager(), clock);
+        CompletableFuture<String> result = gameHandler.whenGameEnded().toCompletableFuture();
+
+        long start = System.nanoTime();
+        start(machine);
+        try {
+            while (!result.isDone()) {
+                commands.execute(() -> playHumanTurn(gameHandler)).get();
+                clock.sleep(100);
+            }
+            assertNotNull(result.get(30, TimeUnit.SECONDS));
+        } finally {
+            machine.stopThread();
+            commands.shutdown();
+        }
+
+        // The search spends no real thinking time: every turn waits only in game time
+        assertTrue(clock.currentTimeMillis() >= ThreadPlayMachine.THINKING_DELAY_MILLIS);
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(30));
+    }
+
+    @Test
+    @DisplayName("El hilo del juego debería seguir atendiendo comandos mientras la máquina piensa")
+    void testGameThreadFreeWhileMachineThinks() throws Exception {
+        GameHandler gameHandler = GameHandler.createNewGame(new SplittableRandom(5));
+        CountDownLatch thinking = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        GreedyStrategy greedy = new GreedyStrategy();
+        gameHandler.setStrategy(false, new MachineStrategy() {
+            @Override
+            public int chooseCard(GameView view) {
+                thinking.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return greedy.chooseCard(view);
+            }
+
+            @Override
+            public int chooseColor(GameView view, int cardId) {
+                return greedy.chooseColor(view, cardId);
+            }
+        });
+        GameCommandQueue commands = new GameCommandQueue(gameHandler);
+        ThreadPlayMachine machine = new ThreadPlayMachine(commands, new GamePauseManager(), new VirtualGameClock());
+
+        start(machine);
+        try {
+            commands.execute(() -> {
+                if (gameHandler.getHumanTurn()) gameHandler.passTurnToMachine();
+            }).get();
+            assertTrue(thinking.await(10, TimeUnit.SECONDS));
+
+            // The strategy is blocked, but the game thread still answers
+            assertFalse(commands.submit(gameHandler::getHumanTurn).get(1, TimeUnit.SECONDS));
+
+            release.countDown();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (!commands.submit(gameHandler::getHumanTurn).get() && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertTrue(commands.submit(gameHandler::getHumanTurn).get());
+        } finally {
+            release.countDown();
+            machine.stopThread();
+            commands.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Debería rechazar robar cuando hay una carta que se puede jugar")
+    void testIsLegalChoice() {
+        GameHandler gameHandler = GameHandler.createNewGame(new SplittableRandom(5));
+        long playable = gameHandler.getView(false).getPlayableIds();
+
+        assertEquals(playable == 0, ThreadPlayMachine.isLegalChoice(gameHandler, false, MachineStrategy.DRAW));
+        for (int id = 0; id < Long.SIZE - 1; id++) {
+            assertEquals((playable & (1L << id)) != 0, ThreadPlayMachine.isLegalChoice(gameHandler, false, id));
+        }
+    }
+
+    private void playHumanTurn(GameHandler gameHandler) {
+        if (!gameHandler.getHumanTurn() || gameHandler.isGameEnded()) return;
+        Player human = gameHandler.getHumanPlayer();
+        Card top = gameHandler.getCurrentCardOnTable();
+        Card card = human.getHand().findPlayableCard(top.getId(), top.getColorIndex());
+        if (card != null) {
+            gameHandler.handleHumanCardClick(card, null);
+        } else {
+            gameHandler.eatCard(human, 1);
+            gameHandler.passTurnToMachine();
+        }
+    }
+
+    private static void start(ThreadPlayMachine machine) {
+        Thread thread = new Thread(machine, "ThreadPlayMachine");
+        thread.setDaemon(true);
+        thread.start();
+    }
+}
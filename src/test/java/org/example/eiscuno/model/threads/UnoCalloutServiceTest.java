@@ -0,0 +1,162 @@
+package org.example.eiscuno.model.threads;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.common.GameCommandQueue;
+import org.example.eiscuno.model.common.GameHandler;
+import org.example.eiscuno.model.common.GamePauseManager;
+import org.example.eiscuno.model.common.VirtualGameClock;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Pruebas unitarias para la clase UnoCalloutService
+ * Los plazos corren en un reloj virtual, así que las penalizaciones se prueban sin esperar
+ * Los cambios a la partida se hacen con comandos, igual que en el juego
+ */
+class UnoCalloutServiceTest {
+
+    private GameHandler gameHandler;
+    private GameCommandQueue commands;
+    private Player humanPlayer;
+    private Player machinePlayer;
+    private VirtualGameClock clock;
+    private List<Boolean> buttonChanges;
+    private List<String> messages;
+    private UnoCalloutService service;
+
+    @BeforeEach
+    void setUp() {
+        humanPlayer = new Player("HUMAN_PLAYER");
+        machinePlayer = new Player("MACHINE_PLAYER");
+        gameHandler = new GameHandler(humanPlayer, machinePlayer, new Deck(), new Table(), false, true, false);
+        humanPlayer.addCard(card("5", "RED"));
+        humanPlayer.addCard(card("3", "BLUE"));
+        machinePlayer.addCard(card("7", "GREEN"));
+        machinePlayer.addCard(card("2", "YELLOW"));
+
+        commands = new GameCommandQueue(gameHandler);
+        clock = new VirtualGameClock();
+        buttonChanges = new CopyOnWriteArrayList<>();
+        messages = new CopyOnWriteArrayList<>();
+        service = new UnoCalloutService(commands, new GamePauseManager(), buttonChanges::add, (title, message) -> messages.add(title), clock);
+        service.start();
+        run(() -> {}); // Wait for the first check of the hands
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.stop();
+        commands.shutdown();
+    }
+
+    @Test
+    @DisplayName("Debería programar un plazo cuando una mano queda con una carta y cancelarlo al cambiar")
+    void testArmAndCancelDeadline() {
+        assertEquals(0, clock.pendingTasks());
+        assertEquals(List.of(false), buttonChanges);
+
+        run(() -> humanPlayer.removeCard(0));
+        assertEquals(1, clock.pendingTasks());
+        assertEquals(List.of(false, true), buttonChanges);
+
+        // Taking a card cancels the deadline instead of leaving a stale timer behind
+        run(() -> humanPlayer.addCard(card("9", "RED")));
+        assertEquals(0, clock.pendingTasks());
+        assertEquals(List.of(false, true, false), buttonChanges);
+    }
+
+    @Test
+    @DisplayName("Debería programar los plazos de los dos jugadores por separado")
+    void testBothPlayers() {
+        run(() -> humanPlayer.removeCard(0));
+        run(() -> machinePlayer.removeCard(0));
+        assertEquals(2, clock.pendingTasks());
+
+        run(() -> machinePlayer.addCard(card("1", "BLUE")));
+        assertEquals(1, clock.pendingTasks());
+    }
+
+    @Test
+    @DisplayName("La demora de la IA debería salir del generador de la partida")
+    void testMachineDelayFromGameRandom() {
+        run(() -> gameHandler.setRandom(new SplittableRandom(4)));
+        run(() -> machinePlayer.removeCard(0));
+
+        assertTrue(clock.runNext());
+        long expected = UnoCalloutService.MACHINE_MIN_DELAY_MILLIS
+                + new SplittableRandom(4).nextInt(UnoCalloutService.MACHINE_EXTRA_DELAY_MILLIS);
+        assertEquals(expected, clock.currentTimeMillis());
+    }
+
+    @Test
+    @DisplayName("Decir UNO debería ocultar el botón y reiniciarse al tener más cartas")
+    void testHumanSaysUno() {
+        run(() -> humanPlayer.removeCard(0));
+        run(() -> gameHandler.setHumanSaidUno(true));
+        assertEquals(List.of(false, true, false), buttonChanges);
+
+        run(() -> humanPlayer.addCard(card("9", "RED")));
+        assertFalse(gameHandler.getHumanSaidUno());
+    }
+
+    @Test
+    @DisplayName("Al detenerse debería cancelar los plazos pendientes")
+    void testStopCancelsDeadlines() {
+        run(() -> humanPlayer.removeCard(0));
+        run(() -> machinePlayer.removeCard(0));
+
+        service.stop();
+        assertEquals(0, clock.pendingTasks());
+
+        run(() -> humanPlayer.removeCard(0));
+        assertEquals(0, clock.pendingTasks());
+    }
+
+    @Test
+    @DisplayName("Si el humano no dice UNO a tiempo debería tomar una carta de penalización")
+    void testHumanPenalty() {
+        run(() -> humanPlayer.removeCard(0));
+
+        clock.advance(UnoCalloutService.HUMAN_CALLOUT_DELAY_MILLIS - 1);
+        run(() -> {});
+        assertEquals(1, humanPlayer.getCardsPlayer().size());
+
+        clock.advance(1);
+        run(() -> {}); // Wait for the penalty submitted by the clock
+        assertEquals(2, humanPlayer.getCardsPlayer().size());
+        assertEquals(List.of("¡La IA te dijo UNO!"), messages);
+    }
+
+    @Test
+    @DisplayName("La IA debería decir UNO sola después de su plazo")
+    void testMachineCallsUno() {
+        run(() -> machinePlayer.removeCard(0));
+
+        clock.advance(UnoCalloutService.MACHINE_MIN_DELAY_MILLIS + UnoCalloutService.MACHINE_EXTRA_DELAY_MILLIS);
+        run(() -> {});
+        assertTrue(gameHandler.getIASaidUno());
+        assertEquals(1, machinePlayer.getCardsPlayer().size());
+        assertEquals(List.of("¡UNO!"), messages);
+    }
+
+    /**
+     * Runs a change on the game thread and waits for it.
+     */
+    private void run(Runnable command) {
+        commands.execute(command).join();
+    }
+
+    private Card card(String value, String color) {
+        return new Card("/org/example/eiscuno/cards-uno/" + value + "_" + color.toLowerCase() + ".png", value, color);
+    }
+}